@@ -0,0 +1,100 @@
+package com.suppleit.backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getHtfsItem01 응답 디코딩: 스트리밍 {@link PublicDataResponseDecoder} vs 기존 String + JsonNode 트리 파싱.
+ * 트리 쪽은 변경 전 HealthFunctionalFoodService 코드(응답을 String으로 받아 readTree 후 필드별 path)를 그대로 옮긴 것.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PublicDataDecodeBenchmark {
+
+    private static final String[] FIELDS = {
+            "PRDUCT", "ENTRPS", "STTEMNT_NO", "REGIST_DT", "DISTB_PD", "SUNGSANG",
+            "SRV_USE", "PRSRV_PD", "INTAKE_HINT1", "MAIN_FNCTN", "BASE_STANDARD"
+    };
+
+    @Param({"10", "100"})
+    private int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PublicDataResponseDecoder decoder;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        decoder = new PublicDataResponseDecoder(objectMapper.getFactory());
+        StringBuilder json = new StringBuilder("{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},")
+                .append("\"body\":{\"pageNo\":1,\"numOfRows\":").append(items)
+                .append(",\"totalCount\":").append(items).append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"item\":{");
+            for (int f = 0; f < FIELDS.length; f++) {
+                json.append(f == 0 ? "" : ",").append('"').append(FIELDS[f]).append("\":\"")
+                        .append(FIELDS[f].toLowerCase()).append(" 값 ").append(i).append(" 건강기능식품 상세 설명").append('"');
+            }
+            // 사용하지 않는 필드 (실제 응답에도 섞여 온다)
+            json.append(",\"CRET_DTM\":\"20240101\",\"LAST_UPDT_DTM\":\"20240102\"}}");
+        }
+        json.append("]}}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        if (streaming().getItems().size() != items || tree().size() != items) {
+            throw new IllegalStateException("디코딩 결과 건수가 다릅니다");
+        }
+    }
+
+    @Benchmark
+    public PublicDataPage streaming() throws IOException {
+        return decoder.decode(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public List<HealthFunctionalFoodDto> tree() throws IOException {
+        JsonNode root = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        JsonNode items = root.path("body").path("items");
+        List<HealthFunctionalFoodDto> results = new ArrayList<>();
+        if (items.isArray()) {
+            for (JsonNode itemNode : items) {
+                JsonNode item = itemNode.has("item") ? itemNode.get("item") : itemNode;
+                HealthFunctionalFoodDto dto = new HealthFunctionalFoodDto();
+                dto.setPrduct(text(item, "PRDUCT"));
+                dto.setEntrps(text(item, "ENTRPS"));
+                dto.setSttemntNo(text(item, "STTEMNT_NO"));
+                dto.setRegistDt(text(item, "REGIST_DT"));
+                dto.setDistbPd(text(item, "DISTB_PD"));
+                dto.setSungsang(text(item, "SUNGSANG"));
+                dto.setSrvUse(text(item, "SRV_USE"));
+                dto.setPrsrvPd(text(item, "PRSRV_PD"));
+                dto.setIntakeHint(text(item, "INTAKE_HINT1"));
+                dto.setMainFnctn(text(item, "MAIN_FNCTN"));
+                dto.setBaseStandard(text(item, "BASE_STANDARD"));
+                results.add(dto);
+            }
+        }
+        return results;
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.path(field).isMissingNode() ? "" : node.path(field).asText("").trim();
+    }
+}
@@ -0,0 +1,102 @@
+package com.suppleit.backend.recommend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이버 검색 결과 한 페이지 채점: {@link ProductRelevanceScorer} vs 변경 전 NaverProductLookupService 코드
+ * (후보마다 replaceAll로 태그 제거, 카테고리 목록 stream 비교, 질의 split).
+ * 실제 호출은 display=5이고, 100은 결과 수가 늘었을 때를 보기 위한 값.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductRelevanceScorerBenchmark {
+
+    private static final List<String> ALLOWED = List.of("식품");
+    private static final List<String> BLOCKED = List.of(
+            "서비스", "여행/항공권", "E쿠폰", "컨텐츠", "가구/인테리어", "스포츠/레저", "생활/건강", "화장품/미용", "패션의류", "출산/육아");
+    private static final String[] CATEGORIES = {"식품", "식품", "식품", "생활/건강", "화장품/미용", "출산/육아"};
+    private static final String[] BRANDS = {"종근당", "뉴트리원", "고려은단", "Now Foods", "센트룸", "솔가"};
+    private static final String[] NAMES = {"비타민C 1000", "오메가3 트리플", "루테인 지아잔틴", "멀티비타민 미네랄", "밀크씨슬", "프로바이오틱스"};
+
+    @Param({"5", "100"})
+    private int items;
+
+    private final String query = "고려은단 비타민C 1000";
+    private ProductRelevanceScorer scorer;
+    private String[] categories;
+    private String[] titles;
+
+    @Setup
+    public void setUp() {
+        scorer = new ProductRelevanceScorer(ALLOWED.toArray(new String[0]), BLOCKED.toArray(new String[0]));
+        Random random = new Random(42);
+        categories = new String[items];
+        titles = new String[items];
+        for (int i = 0; i < items; i++) {
+            categories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            // 네이버는 질의와 일치하는 부분을 <b>로 감싼다
+            titles[i] = BRANDS[random.nextInt(BRANDS.length)] + " <b>" + NAMES[random.nextInt(NAMES.length)]
+                    + "</b> " + (30 + random.nextInt(90)) + "정 x " + (1 + random.nextInt(3)) + "개";
+        }
+        if (!Arrays.equals(scorer(), legacy())) {
+            throw new IllegalStateException("두 구현의 점수가 다릅니다");
+        }
+    }
+
+    @Benchmark
+    public int[] scorer() {
+        ProductRelevanceScorer.Query prepared = scorer.prepare(query);
+        int[] scores = new int[items];
+        for (int i = 0; i < items; i++) {
+            scores[i] = scorer.score(prepared, categories[i], titles[i]);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public int[] legacy() {
+        int[] scores = new int[items];
+        for (int i = 0; i < items; i++) {
+            String category = categories[i];
+            String cleanTitle = titles[i].replaceAll("<[^>]*>", "");
+            if (BLOCKED.stream().anyMatch(category::contains) || !ALLOWED.stream().anyMatch(category::contains)) {
+                scores[i] = ProductRelevanceScorer.REJECTED;
+                continue;
+            }
+            int score = calculateRelevanceScore(query, cleanTitle);
+            if (ALLOWED.stream().anyMatch(category::contains)) {
+                score += 50;
+            }
+            scores[i] = score;
+        }
+        return scores;
+    }
+
+    private static int calculateRelevanceScore(String query, String title) {
+        int score = 0;
+        String lowerQuery = query.toLowerCase();
+        String lowerTitle = title.toLowerCase();
+        if (lowerTitle.contains(lowerQuery)) {
+            score += 100;
+        }
+        for (String word : lowerQuery.split("\\s+")) {
+            if (word.length() > 1 && lowerTitle.contains(word)) {
+                score += 10;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,153 @@
+package com.suppleit.backend.recommend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 질의 한 건: 전치 포스팅으로 질의 단어가 있는 문서만 점수 계산 vs 모든 문서와 코사인 계산.
+ * 비교 대상은 Flask(cosine_similarity(query, 전체 행렬))와 같은 방식으로 문서마다 단어 → 가중치 맵을 두고 전부 훑는다.
+ * 기본 데이터는 flask/recommend/data의 실제 CSV이고, 파일이 없으면 비슷한 규모의 합성 말뭉치를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TfidfRankBenchmark {
+
+    private static final double THRESHOLD = 0.05;
+    private static final String[] QUERIES = {"관절 연골", "비타민 항산화", "근육 단백질", "피로 개선 홍삼", "면역 기능"};
+
+    @Param({"../flask/recommend/data/efficacy/preprocessed_근육.csv"})
+    private String dataFile;
+
+    private TfidfModel model;
+    private Map<String, Double> idf;
+    private List<Map<String, Double>> vectors;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> documents = load(dataFile);
+        model = TfidfModel.fit(documents);
+
+        Map<String, Integer> df = new HashMap<>();
+        for (String document : documents) {
+            for (String term : new HashSet<>(TfidfModel.tokenize(document))) {
+                df.merge(term, 1, Integer::sum);
+            }
+        }
+        idf = new HashMap<>();
+        df.forEach((term, count) -> idf.put(term, Math.log((1.0 + documents.size()) / (1.0 + count)) + 1));
+        vectors = new ArrayList<>(documents.size());
+        for (String document : documents) {
+            vectors.add(vector(document));
+        }
+
+        for (String query : QUERIES) {
+            if (!Arrays.equals(model.rank(query, THRESHOLD), bruteForce(query))) {
+                throw new IllegalStateException("두 방식의 순위가 다릅니다: " + query);
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] postings() {
+        return model.rank(nextQuery(), THRESHOLD);
+    }
+
+    @Benchmark
+    public int[] bruteForce() {
+        return bruteForce(nextQuery());
+    }
+
+    private String nextQuery() {
+        next = (next + 1) % QUERIES.length;
+        return QUERIES[next];
+    }
+
+    private int[] bruteForce(String query) {
+        Map<String, Double> q = vector(query);
+        double[] scores = new double[vectors.size()];
+        List<Integer> matched = new ArrayList<>();
+        for (int d = 0; d < vectors.size(); d++) {
+            Map<String, Double> doc = vectors.get(d);
+            for (Map.Entry<String, Double> term : q.entrySet()) {
+                scores[d] += term.getValue() * doc.getOrDefault(term.getKey(), 0.0);
+            }
+            if (scores[d] > THRESHOLD) {
+                matched.add(d);
+            }
+        }
+        matched.sort((a, b) -> Long.compare(Math.round(scores[b] * 1e12), Math.round(scores[a] * 1e12)));
+        return matched.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private Map<String, Double> vector(String text) {
+        Map<String, Double> vector = new HashMap<>();
+        for (String term : TfidfModel.tokenize(text)) {
+            Double weight = idf.get(term);
+            if (weight != null) {
+                vector.merge(term, weight, Double::sum);
+            }
+        }
+        double norm = Math.sqrt(vector.values().stream().mapToDouble(w -> w * w).sum());
+        if (norm > 0) {
+            vector.replaceAll((term, w) -> w / norm);
+        }
+        return vector;
+    }
+
+    // processed_text 열 (파일이 없거나 UTF-8이 아닌 로캘이라 경로를 만들 수 없으면 합성 말뭉치 8,000건)
+    private static List<String> load(String path) throws IOException {
+        List<String> documents = new ArrayList<>();
+        Path file = null;
+        try {
+            file = Paths.get(path);
+        } catch (InvalidPathException e) {
+            // 한글 파일명을 쓸 수 없는 환경
+        }
+        if (file != null && Files.exists(file)) {
+            List<String[]> rows = CsvRows.read(file);
+            int textIndex = Arrays.asList(rows.get(0)).indexOf("processed_text");
+            for (int i = 1; i < rows.size(); i++) {
+                if (textIndex < rows.get(i).length && !rows.get(i)[textIndex].isEmpty()) {
+                    documents.add(rows.get(i)[textIndex]);
+                }
+            }
+            return documents;
+        }
+        Random random = new Random(42);
+        String[] words = {"관절", "연골", "비타민", "항산화", "근육", "단백질", "피로", "개선", "홍삼", "면역",
+                "기능", "혈행", "오메가", "칼슘", "마그네슘", "아연", "셀렌", "유산균", "장", "건강"};
+        for (int d = 0; d < 8_000; d++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0, n = 4 + random.nextInt(12); i < n; i++) {
+                text.append(i == 0 ? "" : " ").append(words[random.nextInt(words.length)]);
+                if (random.nextBoolean()) {
+                    text.append(random.nextInt(200)); // 드문 단어 (어휘 크기를 실제 데이터와 비슷하게)
+                }
+            }
+            documents.add(text.toString());
+        }
+        return documents;
+    }
+}
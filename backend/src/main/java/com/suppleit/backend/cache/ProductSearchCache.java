@@ -0,0 +1,206 @@
+package com.suppleit.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.ProductDto;
+import com.suppleit.backend.search.SearchTextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 제품 통합 검색 결과 캐시.
+ * L1: 인프로세스 LRU + TTL, L2: Redis (노드 간 공유).
+ * TTL의 일정 비율이 지난 항목은 기존 값을 그대로 돌려주면서 백그라운드에서 한 번만 다시 적재하고,
+ * 같은 키에 대한 동시 미스는 하나의 적재 작업을 공유해 DB/외부 API로 몰리지 않게 한다.
+ * 예산 안에 모든 소스가 응답하지 않아 잘린 결과({@link Loaded#partial})는 호출자에게만 돌려주고 저장하지 않는다.
+ */
+@Component
+@Slf4j
+public class ProductSearchCache {
+
+    private static final String REDIS_KEY_PREFIX = "product:search:v1:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor backgroundExecutor;
+
+    private final TtlCache<String, CachedSearch> localCache;
+    private final long l1TtlMillis;
+    private final long l2TtlMillis;
+    private final double refreshAheadRatio;
+
+    private final SingleFlight<String, List<ProductDto>> inFlightLoads;
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+    private final Counter refreshes;
+
+    public ProductSearchCache(RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              @Qualifier("backgroundExecutor") Executor backgroundExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${product.search.cache.l1-max-size:10000}") int l1MaxSize,
+                              @Value("${product.search.cache.l1-ttl-seconds:300}") long l1TtlSeconds,
+                              @Value("${product.search.cache.l2-ttl-seconds:3600}") long l2TtlSeconds,
+                              @Value("${product.search.cache.refresh-ahead-ratio:0.8}") double refreshAheadRatio,
+                              @Value("${product.search.cache.load-timeout-ms:10000}") long loadTimeoutMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.backgroundExecutor = backgroundExecutor;
+        this.l1TtlMillis = TimeUnit.SECONDS.toMillis(l1TtlSeconds);
+        this.l2TtlMillis = TimeUnit.SECONDS.toMillis(l2TtlSeconds);
+        this.refreshAheadRatio = refreshAheadRatio;
+        this.localCache = new TtlCache<String, CachedSearch>(l1MaxSize, l1TtlMillis)
+                .registerMetrics(meterRegistry, "product.search.cache.l1");
+        this.l2Hits = Counter.builder("product.search.cache.l2.requests").tag("result", "hit").register(meterRegistry);
+        this.l2Misses = Counter.builder("product.search.cache.l2.requests").tag("result", "miss").register(meterRegistry);
+        this.l2Errors = Counter.builder("product.search.cache.l2.errors").register(meterRegistry);
+        this.refreshes = Counter.builder("product.search.cache.refreshes").register(meterRegistry);
+        this.inFlightLoads = new SingleFlight<>("product.search.cache.loads", loadTimeoutMillis, meterRegistry);
+    }
+
+    /**
+     * 캐시에서 검색 결과를 조회하고, 없으면 loader로 적재한다.
+     * @param keyword 검색어
+     * @param page 페이지 번호
+     * @param loader 캐시 미스 시 실제 검색을 수행하는 함수
+     * @return 검색 결과
+     */
+    public List<ProductDto> get(String keyword, int page, Supplier<Loaded> loader) {
+        String key = cacheKey(keyword, page);
+
+        TtlCache.Entry<CachedSearch> local = localCache.getEntry(key);
+        if (local != null) {
+            refreshIfAging(key, local.getValue().getCreatedAt(), loader);
+            return new ArrayList<>(local.getValue().getResults());
+        }
+
+        CachedSearch remote = readRemote(key);
+        if (remote != null) {
+            localCache.put(key, remote, remainingLocalTtl(remote.getCreatedAt()));
+            refreshIfAging(key, remote.getCreatedAt(), loader);
+            return new ArrayList<>(remote.getResults());
+        }
+
+        return new ArrayList<>(load(key, loader));
+    }
+
+    // 외부에서 계산된 결과로 캐시를 직접 갱신 (예: 늦게 도착한 API 응답 반영)
+    public void put(String keyword, int page, List<ProductDto> results) {
+        store(cacheKey(keyword, page), results);
+    }
+
+    public String cacheKey(String keyword, int page) {
+        return SearchTextNormalizer.normalize(keyword) + ":" + page;
+    }
+
+    // 같은 키의 동시 적재는 하나의 작업으로 합친다
+    private List<ProductDto> load(String key, Supplier<Loaded> loader) {
+        return inFlightLoads.call(key, () -> {
+            Loaded loaded = loader.get();
+            if (!loaded.partial()) {
+                store(key, loaded.results());
+            }
+            return loaded.results();
+        });
+    }
+
+    // TTL의 일정 비율이 지났으면 백그라운드에서 한 번만 다시 적재
+    private void refreshIfAging(String key, long createdAt, Supplier<Loaded> loader) {
+        long age = System.currentTimeMillis() - createdAt;
+        if (age < l1TtlMillis * refreshAheadRatio || inFlightLoads.isInFlight(key)) {
+            return;
+        }
+        try {
+            backgroundExecutor.execute(() -> {
+                refreshes.increment();
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    log.debug("검색 캐시 선제 갱신 실패: {}", e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.debug("검색 캐시 선제 갱신 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    // 빈 결과는 일시적인 오류일 수 있으므로 캐시하지 않는다
+    private void store(String key, List<ProductDto> results) {
+        if (results == null || results.isEmpty()) {
+            return;
+        }
+        CachedSearch cached = new CachedSearch(System.currentTimeMillis(), new ArrayList<>(results));
+        localCache.put(key, cached);
+        writeRemote(key, cached);
+    }
+
+    private long remainingLocalTtl(long createdAt) {
+        return Math.max(0, l1TtlMillis - (System.currentTimeMillis() - createdAt));
+    }
+
+    private CachedSearch readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            if (json == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return objectMapper.readValue(json, CachedSearch.class);
+        } catch (Exception e) {
+            l2Errors.increment();
+            log.warn("Redis 검색 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, CachedSearch cached) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, objectMapper.writeValueAsString(cached),
+                    l2TtlMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            l2Errors.increment();
+            log.warn("Redis 검색 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적재 결과.
+     * @param partial true면 늦은 소스를 기다리지 않고 잘린 결과 (늦게 도착한 결과는 호출 측이 {@link #put}으로 반영)
+     */
+    public record Loaded(List<ProductDto> results, boolean partial) {
+
+        public static Loaded complete(List<ProductDto> results) {
+            return new Loaded(results, false);
+        }
+
+        public static Loaded partial(List<ProductDto> results) {
+            return new Loaded(results, true);
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedSearch {
+        private long createdAt;
+        private List<ProductDto> results;
+    }
+}
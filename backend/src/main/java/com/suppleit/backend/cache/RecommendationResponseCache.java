@@ -0,0 +1,132 @@
+package com.suppleit.backend.cache;
+
+import com.suppleit.backend.dto.ProductResponse;
+import com.suppleit.backend.search.SearchTextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * /api/recommend 응답 캐시 (stale-while-revalidate).
+ * TTL 안에서는 저장된 목록을 바로 돌려주고, TTL이 지난 뒤에도 stale 허용 시간까지는 기존 목록을 돌려주면서
+ * 백그라운드에서 한 번만 다시 계산한다. 더미("추천 준비 중")가 섞인 결과는 처음부터 stale로 저장해
+ * 다음 요청에서 바로 다시 계산되게 하고, 전부 더미인 결과는 저장하지 않는다.
+ */
+@Component
+@Slf4j
+public class RecommendationResponseCache {
+
+    private final TtlCache<String, CachedResponse> cache;
+    private final SingleFlight<String, List<ProductResponse>> inFlightLoads;
+    private final Executor backgroundExecutor;
+    private final long freshMillis;
+
+    private final Counter staleServed;
+    private final Counter refreshes;
+
+    public RecommendationResponseCache(@Qualifier("backgroundExecutor") Executor backgroundExecutor,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${recommend.cache.max-size:5000}") int maxSize,
+                                       @Value("${recommend.cache.ttl-seconds:600}") long ttlSeconds,
+                                       @Value("${recommend.cache.stale-seconds:86400}") long staleSeconds,
+                                       @Value("${recommend.cache.load-timeout-ms:5000}") long loadTimeoutMillis) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.freshMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        // 캐시 자체의 만료는 TTL + stale 허용 시간 (그 이후에는 요청 경로에서 다시 계산)
+        this.cache = new TtlCache<String, CachedResponse>(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds + staleSeconds))
+                .registerMetrics(meterRegistry, "recommend.cache");
+        this.inFlightLoads = new SingleFlight<>("recommend.cache.loads", loadTimeoutMillis, meterRegistry);
+        this.staleServed = Counter.builder("recommend.cache.stale-served").register(meterRegistry);
+        this.refreshes = Counter.builder("recommend.cache.refreshes").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 추천 목록을 조회하고, 없으면 loader로 계산한다.
+     * @param keyword 추천 검색어
+     * @param loader 실제 추천 파이프라인
+     * @return 추천 상품 목록 (호출 측이 수정해도 캐시에는 영향 없음)
+     */
+    public List<ProductResponse> get(String keyword, Supplier<List<ProductResponse>> loader) {
+        List<ProductResponse> cached = getIfPresent(keyword, loader);
+        if (cached != null) {
+            return cached;
+        }
+        return new ArrayList<>(load(SearchTextNormalizer.normalize(keyword), loader));
+    }
+
+    /**
+     * 캐시된 목록만 조회한다 (없으면 null, 계산하지 않음). stale이면 백그라운드 갱신을 예약한다.
+     */
+    public List<ProductResponse> getIfPresent(String keyword, Supplier<List<ProductResponse>> loader) {
+        String key = SearchTextNormalizer.normalize(keyword);
+        CachedResponse cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= cached.freshUntil()) {
+            staleServed.increment();
+            refreshInBackground(key, loader);
+        }
+        return new ArrayList<>(cached.results());
+    }
+
+    // 캐시 밖에서 계산된 결과 반영 (예: 스트리밍 응답)
+    public void put(String keyword, List<ProductResponse> results) {
+        store(SearchTextNormalizer.normalize(keyword), results);
+    }
+
+    // 같은 키의 동시 계산은 하나로 합친다
+    private List<ProductResponse> load(String key, Supplier<List<ProductResponse>> loader) {
+        return inFlightLoads.call(key, () -> {
+            List<ProductResponse> results = loader.get();
+            store(key, results);
+            return results;
+        });
+    }
+
+    private void refreshInBackground(String key, Supplier<List<ProductResponse>> loader) {
+        if (inFlightLoads.isInFlight(key)) {
+            return;
+        }
+        try {
+            backgroundExecutor.execute(() -> {
+                refreshes.increment();
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    log.debug("추천 캐시 갱신 실패: {}", e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.debug("추천 캐시 갱신 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    private void store(String key, List<ProductResponse> results) {
+        if (results == null || results.stream().allMatch(ProductResponse::isDummy)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean partial = results.stream().anyMatch(ProductResponse::isDummy);
+        // 이전에 완성된 결과가 있으면 더미가 섞인 결과로 덮어쓰지 않는다 (다음 갱신에서 다시 시도)
+        if (partial) {
+            CachedResponse previous = cache.get(key);
+            if (previous != null && !previous.partial()) {
+                return;
+            }
+        }
+        cache.put(key, new CachedResponse(partial ? now : now + freshMillis, partial, List.copyOf(results)));
+    }
+
+    private record CachedResponse(long freshUntil, boolean partial, List<ProductResponse> results) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.suppleit.backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나의 실행으로 합친다 (single-flight).
+ * 먼저 온 호출(leader)만 실제로 실행하고, 실행 중에 들어온 호출은 같은 CompletableFuture의 결과를 나눠 받는다.
+ * 실행이 끝나면 키가 지워지므로 결과를 보관하지는 않는다 (캐시와 함께 쓰는 용도).
+ * 키는 호출 측에서 정규화해서 넘긴다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    /**
+     * @param name 메트릭 이름 접두사 (name.calls{role=leader|coalesced}, name.timeouts, name.in-flight)
+     * @param timeoutMillis 키별 실행 대기 한도
+     */
+    public SingleFlight(String name, long timeoutMillis, MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.leaders = Counter.builder(name + ".calls").tag("role", "leader").register(meterRegistry);
+        this.coalesced = Counter.builder(name + ".calls").tag("role", "coalesced").register(meterRegistry);
+        this.timeouts = Counter.builder(name + ".timeouts").register(meterRegistry);
+        Gauge.builder(name + ".in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 호출 스레드에서 실행한다. 같은 키가 이미 실행 중이면 그 결과를 timeout까지 기다린다.
+     * @throws IllegalStateException 기다리던 실행이 timeout을 넘긴 경우
+     */
+    public V call(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, existing);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * executor에서 비동기로 실행한다. 같은 키가 이미 실행 중이면 그 future를 돌려준다.
+     * 실행이 timeout을 넘기면 future는 TimeoutException으로 끝나고, 다음 호출은 새로 실행한다.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        leaders.increment();
+        created.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            inFlight.remove(key, created);
+            if (error instanceof TimeoutException) {
+                timeouts.increment();
+            }
+        });
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(loader.get());
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e); // 풀 포화 등으로 거절됨
+        }
+        return created;
+    }
+
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private V await(K key, CompletableFuture<V> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new IllegalStateException("동일 요청 대기 시간 초과: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동일 요청 대기 중 인터럽트: " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+}
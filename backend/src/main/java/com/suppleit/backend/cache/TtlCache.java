@@ -0,0 +1,155 @@
+package com.suppleit.backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한(LRU) + TTL을 갖는 인프로세스 캐시.
+ * 항목별 생성 시각을 함께 보관하므로 호출 측에서 만료 전 선제 갱신(refresh-ahead) 여부를 판단할 수 있다.
+ */
+public class TtlCache<K, V> {
+
+    private final int maxSize;
+    private final long defaultTtlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public TtlCache(int maxSize, long defaultTtlMillis) {
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // 만료되지 않은 값 조회 (없으면 null)
+    public V get(K key) {
+        Entry<V> entry = getEntry(key);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    // 만료되지 않은 항목 조회 (생성/만료 시각 포함)
+    public Entry<V> getEntry(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry;
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlMillis);
+    }
+
+    public void put(K key, V value, long ttlMillis) {
+        if (value == null || ttlMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, now, now + ttlMillis));
+            evictOverflow(now);
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // hit/miss/eviction/size 메트릭 등록
+    public TtlCache<K, V> registerMetrics(MeterRegistry registry, String name) {
+        FunctionCounter.builder(name + ".requests", hits, LongAdder::sum).tag("result", "hit").register(registry);
+        FunctionCounter.builder(name + ".requests", misses, LongAdder::sum).tag("result", "miss").register(registry);
+        FunctionCounter.builder(name + ".evictions", evictions, LongAdder::sum).tag("cause", "size").register(registry);
+        FunctionCounter.builder(name + ".evictions", expirations, LongAdder::sum).tag("cause", "expired").register(registry);
+        Gauge.builder(name + ".size", this, TtlCache::size).register(registry);
+        return this;
+    }
+
+    // 크기 초과분은 가장 오래 사용되지 않은 항목부터 제거 (만료된 항목은 조회 시점에 지연 제거)
+    private void evictOverflow(long now) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            if (eldest.isExpired(now)) {
+                expirations.increment();
+            } else {
+                evictions.increment();
+            }
+        }
+    }
+
+    public static final class Entry<V> {
+        private final V value;
+        private final long createdAt;
+        private final long expiresAt;
+
+        Entry(V value, long createdAt, long expiresAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+            this.expiresAt = expiresAt;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public long getCreatedAt() {
+            return createdAt;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.suppleit.backend.client;
+
+import com.suppleit.backend.dto.RecommendationBatchRequest;
+import com.suppleit.backend.dto.RecommendationBatchResponse;
+import com.suppleit.backend.dto.RecommendationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flask 추천 서버 호출.
+ * 동시에 들어온 키워드 요청을 최대 max-wait 동안 모아 /recommend/batch 한 번으로 보내고,
+ * 응답을 키워드별로 나눠 기다리던 호출자에게 돌려준다.
+ * 배치 라우트가 없는 구버전 Flask(404/405)라면 일정 시간 동안 키워드별 단건 호출로 되돌아간다.
+ * 호출은 공용 WebClient로 논블로킹 전송되므로 배치 전송/응답 분배에 스레드를 잡아두지 않는다.
+ * 타임아웃/hedge/재시도/회로 차단은 {@link ResilientDestination}("flask")이 맡는다.
+ */
+@Component
+@Slf4j
+public class FlaskRecommendationClient {
+
+    private static final int RECOMMENDATION_LIMIT = 6;
+
+    private final WebClient webClient;
+    private final ResilientDestination destination;
+    private final BlockingQueue<PendingRequest> queue = new LinkedBlockingQueue<>();
+
+    private final Counter batchCalls;
+    private final Counter singleCalls;
+    private final DistributionSummary batchSizes;
+
+    private volatile long batchUnavailableUntil;
+    private Thread dispatcher;
+
+    @Value("${flask.api.url}")
+    private String flaskUrl;
+
+    @Value("${flask.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${flask.batch.max-size:16}")
+    private int maxBatchSize;
+
+    @Value("${flask.batch.max-wait-ms:5}")
+    private long maxWaitMillis;
+
+    // 배치 라우트가 없다고 판단한 뒤 다시 시도하기까지의 시간
+    @Value("${flask.batch.unavailable-retry-ms:60000}")
+    private long unavailableRetryMillis;
+
+    // HTTP 호출 한 건의 최대 시간 (호출자 쪽 적응형 타임아웃의 상한)
+    private final long timeoutMillis;
+
+    public FlaskRecommendationClient(WebClient outboundWebClient,
+                                     ResilientDestinations destinations,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${flask.batch.timeout-ms:5000}") long timeoutMillis) {
+        this.webClient = outboundWebClient;
+        this.timeoutMillis = timeoutMillis;
+        this.destination = destinations.create("flask", 200, timeoutMillis, true, () -> true);
+        this.batchCalls = Counter.builder("flask.recommend.calls").tag("mode", "batch").register(meterRegistry);
+        this.singleCalls = Counter.builder("flask.recommend.calls").tag("mode", "single").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("flask.recommend.batch.size").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (batchEnabled) {
+            dispatcher = Thread.ofVirtual().name("flask-recommend-batcher").start(this::dispatchLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /**
+     * 키워드의 추천 제품명 목록을 조회한다.
+     * @return 추천 목록 (오류/시간 초과/회로 열림 시 빈 목록)
+     */
+    public List<String> getRecommendations(String keyword) {
+        return destination.execute(() -> request(keyword), ArrayList::new);
+    }
+
+    // 한 번의 시도: 배치 큐에 넣거나 단건 호출하고 결과를 기다린다 (실패는 예외로 전달)
+    private List<String> request(String keyword) throws Exception {
+        CompletableFuture<List<String>> result;
+        if (!batchEnabled || System.currentTimeMillis() < batchUnavailableUntil) {
+            result = fetchSingle(keyword).toFuture();
+        } else {
+            result = new CompletableFuture<>();
+            queue.add(new PendingRequest(keyword, result));
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            // 시도가 취소되면(hedge 패배/시간 초과) 배치 응답을 기다리지 않는다
+            result.cancel(false);
+        }
+    }
+
+    // 첫 요청이 들어오면 max-wait 동안(또는 max-size까지) 더 모아서 한 번에 보낸다
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                PendingRequest first = queue.take();
+                List<PendingRequest> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+                while (batch.size() < maxBatchSize) {
+                    PendingRequest next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(batch); // 논블로킹 전송이므로 바로 다음 배치 수집으로 넘어간다
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void dispatch(List<PendingRequest> batch) {
+        // 같은 배치 안의 중복 키워드는 한 번만 요청 (이미 취소된 시도는 제외)
+        Map<String, List<CompletableFuture<List<String>>>> waiters = new LinkedHashMap<>();
+        for (PendingRequest pending : batch) {
+            if (!pending.result().isDone()) {
+                waiters.computeIfAbsent(pending.keyword(), k -> new ArrayList<>()).add(pending.result());
+            }
+        }
+        if (waiters.isEmpty()) {
+            return;
+        }
+
+        Mono<Map<String, List<String>>> batchCall = System.currentTimeMillis() >= batchUnavailableUntil
+                ? fetchBatch(new ArrayList<>(waiters.keySet()))
+                : Mono.<Map<String, List<String>>>empty();
+
+        batchCall.defaultIfEmpty(Map.of()).subscribe(results -> {
+            for (Map.Entry<String, List<CompletableFuture<List<String>>>> entry : waiters.entrySet()) {
+                List<String> recommendations = results.get(entry.getKey());
+                if (recommendations != null) {
+                    completeAll(entry.getValue(), recommendations);
+                } else {
+                    // 배치 실패/누락분은 단건으로
+                    fetchSingle(entry.getKey()).subscribe(
+                            single -> completeAll(entry.getValue(), single),
+                            error -> failAll(entry.getValue(), error));
+                }
+            }
+        });
+    }
+
+    private static void completeAll(List<CompletableFuture<List<String>>> waiters, List<String> recommendations) {
+        for (CompletableFuture<List<String>> waiter : waiters) {
+            waiter.complete(new ArrayList<>(recommendations));
+        }
+    }
+
+    private static void failAll(List<CompletableFuture<List<String>>> waiters, Throwable error) {
+        for (CompletableFuture<List<String>> waiter : waiters) {
+            waiter.completeExceptionally(error);
+        }
+    }
+
+    // 키워드 → 추천 목록, 배치 호출이 실패하면 빈 Mono
+    private Mono<Map<String, List<String>>> fetchBatch(List<String> keywords) {
+        URI uri = UriComponentsBuilder.fromUriString(flaskUrl + "/recommend/batch").build().toUri();
+        batchCalls.increment();
+        batchSizes.record(keywords.size());
+        return webClient.post()
+                .uri(uri)
+                .bodyValue(new RecommendationBatchRequest(keywords, RECOMMENDATION_LIMIT))
+                .retrieve()
+                .bodyToMono(RecommendationBatchResponse.class)
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .flatMap(response -> {
+                    if (response.getResults() == null || response.getResults().size() != keywords.size()) {
+                        log.warn("Flask 추천 배치 응답 형식 오류");
+                        return Mono.empty();
+                    }
+                    // 응답은 요청 순서와 같다 (Flask에서 키워드를 strip하므로 키 대신 순서로 매칭)
+                    Map<String, List<String>> results = new LinkedHashMap<>();
+                    for (int i = 0; i < keywords.size(); i++) {
+                        List<String> recommendations = response.getResults().get(i).getRecommendations();
+                        results.put(keywords.get(i), recommendations != null ? recommendations : new ArrayList<>());
+                    }
+                    return Mono.just(results);
+                })
+                .onErrorResume(e -> {
+                    if (e instanceof WebClientResponseException responseException
+                            && (responseException.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)
+                            || responseException.getStatusCode().isSameCodeAs(HttpStatus.METHOD_NOT_ALLOWED))) {
+                        batchUnavailableUntil = System.currentTimeMillis() + unavailableRetryMillis;
+                        log.warn("Flask 배치 라우트 없음, {}ms 동안 단건 호출 사용", unavailableRetryMillis);
+                    } else {
+                        log.error("Flask 추천 배치 호출 실패: {}", e.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    // 기존 단건 GET /recommend (오류는 그대로 전달해 재시도/회로 차단에 반영)
+    private Mono<List<String>> fetchSingle(String keyword) {
+        URI uri = UriComponentsBuilder.fromUriString(flaskUrl + "/recommend")
+                .queryParam("keyword", keyword)
+                .build()
+                .encode()
+                .toUri();
+        singleCalls.increment();
+        log.debug("Calling Flask API with URI: {}", uri);
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(RecommendationResponse.class)
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .<List<String>>map(response -> response.getRecommendations() != null
+                        ? response.getRecommendations()
+                        : new ArrayList<>())
+                .doOnError(e -> log.error("Error fetching recommendations from Flask API: {}", e.getMessage()))
+                .defaultIfEmpty(new ArrayList<>());
+    }
+
+    private record PendingRequest(String keyword, CompletableFuture<List<String>> result) {
+    }
+}
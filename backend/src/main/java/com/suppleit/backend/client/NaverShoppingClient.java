@@ -0,0 +1,100 @@
+package com.suppleit.backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이버 쇼핑 검색 API 호출.
+ * 공용 WebClient 커넥션 풀(논블로킹 I/O)을 통해 호출하고, 초당 호출 수는 공유 토큰 버킷으로 제한한다
+ * (여유가 있으면 기다리지 않는다). 호출 스레드(가상 스레드)가 인터럽트되면 진행 중인 요청도 취소된다.
+ * 타임아웃/hedge/회로 차단은 {@link ResilientDestination}("naver")이 맡고, hedge/재시도도 토큰을 하나씩 쓴다.
+ */
+@Component
+@Slf4j
+public class NaverShoppingClient {
+
+    private final WebClient webClient;
+    private final ResilientDestination destination;
+    private final ObjectMapper objectMapper;
+    private final TokenBucket bucket;
+    private final long acquireTimeoutMillis;
+
+    private final Counter throttled;
+
+    @Value("${naver.api.client-id}")
+    private String clientId;
+
+    @Value("${naver.api.client-secret}")
+    private String clientSecret;
+
+    @Value("${naver.api.url}")
+    private String naverApiUrl;
+
+    public NaverShoppingClient(WebClient outboundWebClient,
+                               ResilientDestinations destinations,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${naver.api.read-timeout-ms:3000}") long readTimeoutMillis,
+                               @Value("${naver.api.rate-limit.permits-per-second:10}") double permitsPerSecond,
+                               @Value("${naver.api.rate-limit.burst:10}") int burst,
+                               @Value("${naver.api.rate-limit.acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+        this.webClient = outboundWebClient;
+        this.objectMapper = objectMapper;
+        this.bucket = new TokenBucket(permitsPerSecond, burst);
+        // 읽기 타임아웃은 적응형 타임아웃의 상한
+        this.destination = destinations.create("naver", 300, readTimeoutMillis, true,
+                () -> bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.throttled = Counter.builder("naver.shopping.throttled").register(meterRegistry);
+    }
+
+    /**
+     * 쇼핑 검색 결과의 items 배열을 반환한다.
+     * @param query 검색어
+     * @param display 가져올 결과 수
+     * @return items 배열 (결과가 없으면 빈 배열 노드), 호출 제한/장애로 결과를 얻지 못했으면 null
+     */
+    public JsonNode searchItems(String query, int display) {
+        if (!bucket.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throttled.increment();
+            log.warn("네이버 쇼핑 API 호출 제한으로 요청 생략: {}", query);
+            return null;
+        }
+
+        URI uri = UriComponentsBuilder.fromUriString(naverApiUrl)
+                .queryParam("query", query)
+                .queryParam("display", display)
+                .build().encode().toUri();
+
+        // 실패/시간 초과/회로 열림이면 null (호출 측은 결과 없음으로 캐시하지 않는다)
+        return destination.execute(() -> fetchItems(uri), () -> null);
+    }
+
+    private JsonNode fetchItems(URI uri) {
+        JsonNode root = webClient.get()
+                .uri(uri)
+                .headers(headers -> {
+                    headers.set("X-Naver-Client-Id", clientId);
+                    headers.set("X-Naver-Client-Secret", clientSecret);
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                })
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+
+        JsonNode items = root != null ? root.path("items") : null;
+        return items != null && items.isArray() ? items : objectMapper.createArrayNode();
+    }
+}
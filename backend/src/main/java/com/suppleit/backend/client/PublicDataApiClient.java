@@ -0,0 +1,67 @@
+package com.suppleit.backend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.List;
+
+// 건강기능식품 공공데이터 API 호출 (응답 본문을 스트림으로 바로 디코딩)
+// 일일 호출 한도가 있어 hedge는 기본으로 끄고, 재시도는 한도 허가를 다시 받은 경우에만 보낸다
+@Component
+@Slf4j
+public class PublicDataApiClient {
+
+    private final RestTemplate restTemplate;
+    private final PublicDataResponseDecoder decoder;
+    private final PublicDataApiLimiter limiter;
+    private final ResilientDestination destination;
+
+    public PublicDataApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PublicDataApiLimiter limiter,
+                               ResilientDestinations destinations,
+                               @Value("${outbound.rest.read-timeout-ms:15000}") long readTimeoutMillis) {
+        this.restTemplate = restTemplate;
+        this.limiter = limiter;
+        this.decoder = new PublicDataResponseDecoder(objectMapper.getFactory());
+        this.destination = destinations.create("public-data", 1000, readTimeoutMillis, false, () -> limiter.tryAcquire(0));
+    }
+
+    /**
+     * API를 호출해 한 페이지를 읽는다. 호출 제한 대기는 기본 timeout까지.
+     * @param uri 완성된 요청 URI
+     * @return 응답 페이지 (본문이 없으면 결과 코드가 빈 페이지, 호출 제한/장애면 isThrottled() 페이지)
+     */
+    public PublicDataPage fetch(URI uri) {
+        return fetch(uri, -1);
+    }
+
+    /**
+     * @param acquireTimeoutMillis 호출 제한 대기 한도 (음수면 기본값, 배치 작업은 길게 줄 수 있음)
+     */
+    public PublicDataPage fetch(URI uri, long acquireTimeoutMillis) {
+        boolean acquired = acquireTimeoutMillis < 0 ? limiter.tryAcquire() : limiter.tryAcquire(acquireTimeoutMillis);
+        if (!acquired) {
+            log.warn("공공데이터 API 호출 제한으로 요청 생략 (남은 일일 한도: {})", limiter.remainingQuota());
+            return PublicDataPage.throttled("호출 제한");
+        }
+
+        // 실패/시간 초과/회로 열림이면 호출 측의 DB 대체 경로를 타도록 throttled 페이지
+        PublicDataPage page = destination.execute(() -> exchange(uri), () -> PublicDataPage.throttled("API 응답 없음"));
+        if (PublicDataPage.PROVIDER_LIMIT_EXCEEDED.equals(page.getResultCode())) {
+            limiter.recordProviderLimit();
+        }
+        return page;
+    }
+
+    private PublicDataPage exchange(URI uri) {
+        PublicDataPage page = restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> decoder.decode(response.getBody()));
+        return page != null ? page : new PublicDataPage();
+    }
+}
@@ -0,0 +1,136 @@
+package com.suppleit.backend.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공공데이터 API 호출 제한 (모든 호출 경로가 공유).
+ * 초당 요청 수는 토큰 버킷으로, 일일 호출 한도는 Redis의 날짜별 카운터로 관리해 재시작해도 유지된다.
+ * Redis를 쓸 수 없으면 같은 날짜 안에서는 로컬 카운터로 계속 센다.
+ */
+@Component
+@Slf4j
+public class PublicDataApiLimiter {
+
+    private static final String QUOTA_KEY_PREFIX = "public-data:quota:";
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul"); // 제공기관 한도는 한국 시간 자정에 초기화
+    private static final DateTimeFormatter QUOTA_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBucket bucket;
+    private final long defaultTimeoutMillis;
+    private final long dailyLimit;
+
+    private volatile String quotaDate = "";
+    private final AtomicLong usedToday = new AtomicLong();
+
+    private final Counter permitted;
+    private final Counter rateThrottled;
+    private final Counter quotaThrottled;
+    private final Counter providerThrottled;
+
+    public PublicDataApiLimiter(RedisTemplate<String, String> redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${public-data.rate-limit.permits-per-second:10}") double permitsPerSecond,
+                                @Value("${public-data.rate-limit.burst:10}") int burst,
+                                @Value("${public-data.rate-limit.acquire-timeout-ms:1000}") long defaultTimeoutMillis,
+                                @Value("${public-data.quota.daily-limit:10000}") long dailyLimit) {
+        this.redisTemplate = redisTemplate;
+        this.bucket = new TokenBucket(permitsPerSecond, burst);
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.dailyLimit = dailyLimit;
+        this.permitted = Counter.builder("public-data.requests").tag("result", "permitted").register(meterRegistry);
+        this.rateThrottled = Counter.builder("public-data.requests").tag("result", "rate-limited").register(meterRegistry);
+        this.quotaThrottled = Counter.builder("public-data.requests").tag("result", "quota-exhausted").register(meterRegistry);
+        this.providerThrottled = Counter.builder("public-data.requests").tag("result", "provider-limited").register(meterRegistry);
+        Gauge.builder("public-data.quota.remaining", this, PublicDataApiLimiter::remainingQuota).register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(defaultTimeoutMillis);
+    }
+
+    /**
+     * 호출 한 번을 허가받는다. 초당 한도에 걸리면 timeout까지 순서대로 기다린다.
+     * @return 허가되면 true, 대기 시간 초과나 일일 한도 소진이면 false
+     */
+    public boolean tryAcquire(long timeoutMillis) {
+        if (remainingQuota() <= 0) {
+            quotaThrottled.increment();
+            return false;
+        }
+        if (!bucket.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            rateThrottled.increment();
+            return false;
+        }
+        if (incrementUsage() > dailyLimit) {
+            quotaThrottled.increment();
+            log.warn("공공데이터 API 일일 호출 한도 소진 ({}건)", dailyLimit);
+            return false;
+        }
+        permitted.increment();
+        return true;
+    }
+
+    // 제공기관이 한도 초과 응답을 준 경우 (오늘은 더 호출하지 않는다)
+    public void recordProviderLimit() {
+        providerThrottled.increment();
+        usedToday.accumulateAndGet(dailyLimit, Math::max);
+    }
+
+    public long remainingQuota() {
+        rollOverIfNewDay();
+        return Math.max(0, dailyLimit - usedToday.get());
+    }
+
+    private long incrementUsage() {
+        String date = rollOverIfNewDay();
+        try {
+            Long used = redisTemplate.opsForValue().increment(QUOTA_KEY_PREFIX + date);
+            if (used != null) {
+                if (used == 1) {
+                    redisTemplate.expire(QUOTA_KEY_PREFIX + date, Duration.ofDays(2));
+                }
+                usedToday.accumulateAndGet(used, Math::max);
+                return used;
+            }
+        } catch (Exception e) {
+            log.debug("Redis 호출 한도 카운터 갱신 실패, 로컬 카운터 사용: {}", e.getMessage());
+        }
+        return usedToday.incrementAndGet();
+    }
+
+    // 날짜가 바뀌면 Redis에 저장된 오늘 사용량으로 로컬 카운터를 맞춘다 (재시작 직후 포함)
+    private String rollOverIfNewDay() {
+        String today = LocalDate.now(QUOTA_ZONE).format(QUOTA_DATE);
+        if (today.equals(quotaDate)) {
+            return today;
+        }
+        synchronized (this) {
+            if (!today.equals(quotaDate)) {
+                long used = 0;
+                try {
+                    String stored = redisTemplate.opsForValue().get(QUOTA_KEY_PREFIX + today);
+                    used = stored != null ? Long.parseLong(stored) : 0;
+                } catch (Exception e) {
+                    log.debug("Redis 호출 한도 카운터 조회 실패: {}", e.getMessage());
+                }
+                usedToday.set(used);
+                quotaDate = today;
+            }
+        }
+        return today;
+    }
+}
@@ -0,0 +1,39 @@
+package com.suppleit.backend.client;
+
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 건강기능식품 공공데이터 API 응답 한 페이지 (header + body.items)
+@Getter
+@Setter
+public class PublicDataPage {
+    private String resultCode = "";
+    private String resultMsg = "";
+    private int totalCount;
+    private List<HealthFunctionalFoodDto> items = new ArrayList<>();
+
+    // 호출 제한에 걸려 요청을 보내지 않은 경우 (호출 측은 캐시/DB 결과만 사용)
+    public static final String THROTTLED = "THROTTLED";
+
+    // 제공기관의 서비스 요청 제한 횟수 초과 오류
+    public static final String PROVIDER_LIMIT_EXCEEDED = "22";
+
+    public static PublicDataPage throttled(String reason) {
+        PublicDataPage page = new PublicDataPage();
+        page.setResultCode(THROTTLED);
+        page.setResultMsg(reason);
+        return page;
+    }
+
+    public boolean isSuccess() {
+        return "00".equals(resultCode);
+    }
+
+    public boolean isThrottled() {
+        return THROTTLED.equals(resultCode) || PROVIDER_LIMIT_EXCEEDED.equals(resultCode);
+    }
+}
@@ -0,0 +1,207 @@
+package com.suppleit.backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 건강기능식품 공공데이터 API(getHtfsItem01) JSON 응답을 스트리밍으로 읽는 디코더.
+ * 응답 전체를 String/JsonNode 트리로 만들지 않고 필요한 필드만 바로 DTO에 채우며,
+ * 사용하지 않는 필드와 하위 구조는 건너뛴다.
+ * items는 [{"item": {...}}], [{...}], {"item": [...]}, {"item": {...}} 형태를 모두 허용한다.
+ */
+public class PublicDataResponseDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    public PublicDataResponseDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public PublicDataPage decode(InputStream body) throws IOException {
+        PublicDataPage page = new PublicDataPage();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readEnvelope(parser, page);
+            }
+        }
+        return page;
+    }
+
+    // 신고번호에서 숫자만 뽑아 제품 ID로 사용 (정규식 없이), 숫자가 없거나 범위를 넘으면 해시코드 사용
+    public static long productIdOf(String registrationNo, String productName) {
+        if (registrationNo != null && !registrationNo.isEmpty()) {
+            long value = 0;
+            int digits = 0;
+            for (int i = 0; i < registrationNo.length(); i++) {
+                char c = registrationNo.charAt(i);
+                if (c < '0' || c > '9') {
+                    continue;
+                }
+                if (value > (Long.MAX_VALUE - (c - '0')) / 10) {
+                    digits = 0; // long 범위 초과
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                digits++;
+            }
+            if (digits > 0) {
+                return value;
+            }
+            return Math.abs((long) registrationNo.hashCode());
+        }
+        return Math.abs((long) (productName != null ? productName : "").hashCode());
+    }
+
+    // 현재 토큰: START_OBJECT (루트 또는 response 래퍼)
+    private void readEnvelope(JsonParser parser, PublicDataPage page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "response" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        readEnvelope(parser, page);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "header" -> readHeader(parser, page);
+                case "body" -> readBody(parser, page);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readHeader(JsonParser parser, PublicDataPage page) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "resultCode" -> page.setResultCode(text(parser));
+                case "resultMsg" -> page.setResultMsg(text(parser));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readBody(JsonParser parser, PublicDataPage page) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "totalCount" -> page.setTotalCount(parser.getValueAsInt(0));
+                case "items" -> readItems(parser, page);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readItems(JsonParser parser, PublicDataPage page) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            while (nextInArray(parser)) {
+                if (parser.currentToken() == JsonToken.START_OBJECT) {
+                    readItemContainer(parser, page);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (token == JsonToken.START_OBJECT) {
+            readItemContainer(parser, page);
+        } else {
+            parser.skipChildren(); // 결과가 없을 때 ""로 오는 경우
+        }
+    }
+
+    // {"item": {...}} / {"item": [...]} 이거나 항목 필드가 바로 들어있는 객체
+    private void readItemContainer(JsonParser parser, PublicDataPage page) throws IOException {
+        HealthFunctionalFoodDto inline = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("item".equals(field)) {
+                if (value == JsonToken.START_ARRAY) {
+                    while (nextInArray(parser)) {
+                        addItem(parser, page);
+                    }
+                } else {
+                    addItem(parser, page);
+                }
+                continue;
+            }
+            if (inline == null) {
+                inline = newItem();
+            }
+            readItemField(parser, inline, field);
+        }
+        if (inline != null) {
+            page.getItems().add(inline);
+        }
+    }
+
+    private void addItem(JsonParser parser, PublicDataPage page) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        HealthFunctionalFoodDto item = newItem();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            readItemField(parser, item, field);
+        }
+        page.getItems().add(item);
+    }
+
+    // 응답에 없는 필드는 기존 트리 파싱과 같이 빈 문자열로 둔다
+    private static HealthFunctionalFoodDto newItem() {
+        return new HealthFunctionalFoodDto("", "", "", "", "", "", "", "", "", "", "");
+    }
+
+    private void readItemField(JsonParser parser, HealthFunctionalFoodDto item, String field) throws IOException {
+        switch (field) {
+            case "PRDUCT" -> item.setPrduct(text(parser));
+            case "ENTRPS" -> item.setEntrps(text(parser));
+            case "STTEMNT_NO" -> item.setSttemntNo(text(parser));
+            case "REGIST_DT" -> item.setRegistDt(text(parser));
+            case "DISTB_PD" -> item.setDistbPd(text(parser));
+            case "SUNGSANG" -> item.setSungsang(text(parser));
+            case "SRV_USE" -> item.setSrvUse(text(parser));
+            case "PRSRV_PD" -> item.setPrsrvPd(text(parser));
+            case "INTAKE_HINT1" -> item.setIntakeHint(text(parser));
+            case "MAIN_FNCTN" -> item.setMainFnctn(text(parser));
+            case "BASE_STANDARD" -> item.setBaseStandard(text(parser));
+            default -> parser.skipChildren();
+        }
+    }
+
+    // 배열의 다음 원소로 이동 (배열 끝이나 입력 끝이면 false)
+    private static boolean nextInArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        return token != null && token != JsonToken.END_ARRAY;
+    }
+
+    // 스칼라 값을 공백 제거한 문자열로 (객체/배열/null이면 빈 문자열)
+    private static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        String value = parser.getValueAsString();
+        return value != null ? value.trim() : "";
+    }
+}
@@ -0,0 +1,320 @@
+package com.suppleit.backend.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 목적지(네이버, Flask, 공공데이터 API) 하나에 대한 지연 기반 보호 장치.
+ * <ul>
+ *   <li>최근 응답 시간 창에서 p95/p99를 계산해 타임아웃 = p99 × 배수 (최소~최대 범위)</li>
+ *   <li>첫 시도가 p95를 넘기면 두 번째 요청(hedge)을 보내 먼저 끝난 결과를 쓰고 나머지는 취소</li>
+ *   <li>hedge/재시도는 원 요청마다 일정 비율만 적립되는 재시도 예산 안에서만 허용 (부하 증폭 상한)</li>
+ *   <li>최근 호출의 실패율이 높으면 일정 시간 회로를 열어 바로 fallback(캐시/더미)을 반환</li>
+ * </ul>
+ * 각 시도는 가상 스레드에서 실행되며, 호출 스레드가 인터럽트되면 진행 중인 시도도 모두 취소된다.
+ */
+@Slf4j
+public class ResilientDestination {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final String name;
+    private final Settings settings;
+    private final ExecutorService executor;
+    private final BooleanSupplier extraAttemptGate;
+
+    // 응답 시간 창 (나노초, 원형 버퍼)
+    private final long[] samples;
+    private int sampleCount;
+    private int sampleIndex;
+    private int sinceRecompute;
+    private volatile long p95Nanos = -1;
+    private volatile long p99Nanos = -1;
+
+    // 재시도 예산
+    private double budgetTokens;
+
+    // 회로 차단기 (최근 호출 결과 창)
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeIndex;
+    private int failureCount;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejections;
+    private final Counter hedges;
+    private final Counter retries;
+
+    ResilientDestination(String name, Settings settings, ExecutorService executor,
+                         BooleanSupplier extraAttemptGate, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.executor = executor;
+        this.extraAttemptGate = extraAttemptGate;
+        this.samples = new long[settings.windowSize()];
+        this.outcomes = new boolean[settings.breakerWindow()];
+        this.budgetTokens = settings.retryBudgetMax();
+
+        this.successes = Counter.builder("resilience.calls").tag("destination", name).tag("outcome", "success").register(meterRegistry);
+        this.failures = Counter.builder("resilience.calls").tag("destination", name).tag("outcome", "failure").register(meterRegistry);
+        this.rejections = Counter.builder("resilience.calls").tag("destination", name).tag("outcome", "rejected").register(meterRegistry);
+        this.hedges = Counter.builder("resilience.attempts").tag("destination", name).tag("type", "hedge").register(meterRegistry);
+        this.retries = Counter.builder("resilience.attempts").tag("destination", name).tag("type", "retry").register(meterRegistry);
+        Gauge.builder("resilience.timeout", this, d -> TimeUnit.NANOSECONDS.toMillis(d.timeoutNanos()))
+                .tag("destination", name).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("resilience.breaker.state", this, d -> d.state().ordinal())
+                .tag("destination", name).register(meterRegistry);
+    }
+
+    /**
+     * 보호 장치를 거쳐 호출한다. 예외는 실패로, 반환값은 성공으로 본다.
+     * @param attempt 실제 호출 (hedge/재시도로 여러 번 동시에 실행될 수 있으므로 멱등이어야 함)
+     * @param fallback 회로가 열렸거나 모든 시도가 실패/시간 초과일 때 반환할 값
+     */
+    public <T> T execute(Callable<T> attempt, Supplier<T> fallback) {
+        if (!allowRequest()) {
+            rejections.increment();
+            return fallback.get();
+        }
+        depositBudget();
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeoutNanos();
+        long hedgeAt = hedgeDelayNanos() > 0 ? startedAt + hedgeDelayNanos() : Long.MAX_VALUE;
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Map<Future<T>, Long> attempts = new IdentityHashMap<>();
+        attempts.put(completion.submit(attempt), startedAt);
+        int outstanding = 1;
+        boolean hedged = false;
+        boolean retried = false;
+        Throwable lastError = null;
+
+        try {
+            while (outstanding > 0) {
+                long waitUntil = hedged ? deadline : Math.min(deadline, hedgeAt);
+                Future<T> done = completion.poll(Math.max(0, waitUntil - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    if (System.nanoTime() >= deadline) {
+                        break;
+                    }
+                    // p95를 넘겼으므로 두 번째 요청을 보낸다 (예산이 있을 때만)
+                    hedged = true;
+                    if (tryExtraAttempt()) {
+                        hedges.increment();
+                        attempts.put(completion.submit(attempt), System.nanoTime());
+                        outstanding++;
+                    }
+                    continue;
+                }
+
+                outstanding--;
+                try {
+                    T value = done.get();
+                    recordSuccess(System.nanoTime() - attempts.get(done));
+                    return value;
+                } catch (ExecutionException e) {
+                    lastError = e.getCause();
+                    // 남은 시도가 없고 시간이 남았으면 한 번만 재시도
+                    if (outstanding == 0 && !retried && System.nanoTime() < deadline && tryExtraAttempt()) {
+                        retried = true;
+                        hedged = true; // 재시도에는 hedge를 다시 붙이지 않는다
+                        retries.increment();
+                        attempts.put(completion.submit(attempt), System.nanoTime());
+                        outstanding++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // 호출 측이 취소함: 목적지 상태와 무관하므로 실패로 기록하지 않는다
+            Thread.currentThread().interrupt();
+            releaseTrial();
+            return fallback.get();
+        } finally {
+            for (Future<T> future : attempts.keySet()) {
+                future.cancel(true);
+            }
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        if (lastError == null) {
+            recordLatency(elapsed); // 시간 초과도 표본에 넣어 느려진 목적지에 맞춰 타임아웃이 늘어나게 한다
+        }
+        recordFailure();
+        log.warn("{} 호출 실패 ({}ms): {}", name, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                lastError != null ? lastError.getMessage() : "시간 초과");
+        return fallback.get();
+    }
+
+    /** 현재 타임아웃: 표본이 충분하면 p99 × 배수, 아니면 최대값 */
+    long timeoutNanos() {
+        long p99 = p99Nanos;
+        if (p99 < 0) {
+            return settings.maxTimeoutNanos();
+        }
+        long adaptive = (long) (p99 * settings.timeoutMultiplier());
+        return Math.max(settings.minTimeoutNanos(), Math.min(settings.maxTimeoutNanos(), adaptive));
+    }
+
+    // hedge 시점: p95 (표본이 부족하거나 hedge를 끈 목적지는 0 = 보내지 않음)
+    private long hedgeDelayNanos() {
+        long p95 = p95Nanos;
+        if (!settings.hedgeEnabled() || p95 < 0) {
+            return 0;
+        }
+        return Math.max(settings.minHedgeDelayNanos(), p95);
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(settings.retryBudgetMax(), budgetTokens + settings.retryBudgetRatio());
+    }
+
+    // 재시도 예산과 목적지별 추가 허가(호출 한도 등)를 모두 통과해야 추가 요청을 보낸다
+    // 허가는 호출 한도 토큰을 소모할 수 있으므로 예산을 먼저 확보하고, 허가가 거절되면 예산을 돌려준다
+    private boolean tryExtraAttempt() {
+        synchronized (this) {
+            if (budgetTokens < 1) {
+                return false;
+            }
+            budgetTokens -= 1;
+        }
+        if (extraAttemptGate.getAsBoolean()) {
+            return true;
+        }
+        synchronized (this) {
+            budgetTokens = Math.min(settings.retryBudgetMax(), budgetTokens + 1);
+        }
+        return false;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        samples[sampleIndex] = nanos;
+        sampleIndex = (sampleIndex + 1) % samples.length;
+        sampleCount = Math.min(sampleCount + 1, samples.length);
+        if (++sinceRecompute >= RECOMPUTE_EVERY || sampleCount < settings.minSamples() + RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            if (sampleCount >= settings.minSamples()) {
+                long[] sorted = Arrays.copyOf(samples, sampleCount);
+                Arrays.sort(sorted);
+                p95Nanos = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+                p99Nanos = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+            }
+        }
+    }
+
+    private synchronized boolean allowRequest() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= settings.breakerOpenNanos()) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    private void recordSuccess(long latencyNanos) {
+        successes.increment();
+        recordLatency(latencyNanos);
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                log.info("{} 회로 닫힘 (시험 호출 성공)", name);
+                state = State.CLOSED;
+                resetOutcomes();
+                return;
+            }
+            pushOutcome(false);
+        }
+    }
+
+    private void recordFailure() {
+        failures.increment();
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            pushOutcome(true);
+            if (outcomeCount >= settings.breakerMinCalls()
+                    && (double) failureCount / outcomeCount >= settings.breakerFailureRate()) {
+                open();
+            }
+        }
+    }
+
+    private synchronized void releaseTrial() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    private void open() {
+        log.warn("{} 회로 열림: {}ms 동안 fallback 사용", name, TimeUnit.NANOSECONDS.toMillis(settings.breakerOpenNanos()));
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        resetOutcomes();
+    }
+
+    private void pushOutcome(boolean failed) {
+        if (outcomeCount == outcomes.length && outcomes[outcomeIndex]) {
+            failureCount--;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+        outcomeCount = Math.min(outcomeCount + 1, outcomes.length);
+    }
+
+    private void resetOutcomes() {
+        outcomeCount = 0;
+        outcomeIndex = 0;
+        failureCount = 0;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /** 목적지별 설정 (resilience.{destination}.*) */
+    public record Settings(long minTimeoutNanos,
+                           long maxTimeoutNanos,
+                           double timeoutMultiplier,
+                           boolean hedgeEnabled,
+                           long minHedgeDelayNanos,
+                           int windowSize,
+                           int minSamples,
+                           double retryBudgetRatio,
+                           double retryBudgetMax,
+                           int breakerWindow,
+                           int breakerMinCalls,
+                           double breakerFailureRate,
+                           long breakerOpenNanos) {
+    }
+}
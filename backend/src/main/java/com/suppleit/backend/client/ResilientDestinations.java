@@ -0,0 +1,67 @@
+package com.suppleit.backend.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 외부 목적지별 {@link ResilientDestination} 생성.
+ * 설정은 resilience.{destination}.* 에서 읽고, 없으면 호출 측이 넘긴 기본값(최소/최대 타임아웃, hedge 여부)과
+ * 공통 기본값을 쓴다. hedge/재시도 시도는 모두 이 컴포넌트가 가진 가상 스레드 실행기에서 돈다.
+ */
+@Component
+public class ResilientDestinations {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService attemptExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("outbound-attempt-", 0).factory());
+
+    public ResilientDestinations(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void close() {
+        attemptExecutor.shutdownNow();
+    }
+
+    /**
+     * @param name 목적지 이름 (설정 키와 메트릭 태그)
+     * @param minTimeoutMillis 적응형 타임아웃 하한 기본값
+     * @param maxTimeoutMillis 적응형 타임아웃 상한 기본값 (표본이 모이기 전에는 이 값 사용)
+     * @param hedge hedge 요청 기본 사용 여부 (호출량 한도가 빠듯한 목적지는 false)
+     * @param extraAttemptGate hedge/재시도 전에 추가로 확인할 허가 (예: 호출 제한 토큰)
+     */
+    public ResilientDestination create(String name, long minTimeoutMillis, long maxTimeoutMillis,
+                                       boolean hedge, BooleanSupplier extraAttemptGate) {
+        String prefix = "resilience." + name + ".";
+        ResilientDestination.Settings settings = new ResilientDestination.Settings(
+                millis(prefix + "min-timeout-ms", minTimeoutMillis),
+                millis(prefix + "max-timeout-ms", maxTimeoutMillis),
+                environment.getProperty(prefix + "timeout-multiplier", Double.class, 1.5),
+                environment.getProperty(prefix + "hedge-enabled", Boolean.class, hedge),
+                millis(prefix + "min-hedge-delay-ms", 50),
+                environment.getProperty(prefix + "window-size", Integer.class, 256),
+                environment.getProperty(prefix + "min-samples", Integer.class, 20),
+                // 원 요청 10건당 hedge/재시도 1건, 한 번에 몰아 쓸 수 있는 양은 10건까지
+                environment.getProperty(prefix + "retry-budget-ratio", Double.class, 0.1),
+                environment.getProperty(prefix + "retry-budget-max", Double.class, 10.0),
+                environment.getProperty(prefix + "breaker-window", Integer.class, 20),
+                environment.getProperty(prefix + "breaker-min-calls", Integer.class, 10),
+                environment.getProperty(prefix + "breaker-failure-rate", Double.class, 0.5),
+                millis(prefix + "breaker-open-ms", 10000));
+        return new ResilientDestination(name, settings, attemptExecutor, extraAttemptGate, meterRegistry);
+    }
+
+    private long millis(String key, long defaultMillis) {
+        return TimeUnit.MILLISECONDS.toNanos(environment.getProperty(key, Long.class, defaultMillis));
+    }
+}
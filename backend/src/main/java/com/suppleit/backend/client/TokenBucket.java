@@ -0,0 +1,71 @@
+package com.suppleit.backend.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 요청 수를 제한하는 토큰 버킷.
+ * 토큰이 없으면 다음 토큰이 생기는 시각을 미리 예약하고 그때까지 기다리므로 대기자는 도착 순서대로 처리된다.
+ * 예약해야 할 대기 시간이 timeout을 넘으면 기다리지 않고 바로 실패한다.
+ */
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;      // 음수면 이미 예약된 대기열 (guarded by this)
+    private long lastRefillNanos;
+
+    /**
+     * @param permitsPerSecond 초당 허용 요청 수
+     * @param burst 한 번에 몰아서 쓸 수 있는 최대 토큰 수
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 얻는다. 필요하면 timeout 안에서 기다린다.
+     * @return 얻었으면 true, timeout 안에 얻을 수 없으면 false (대기하지 않음)
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) {
+        long waitNanos = reserve(unit.toNanos(timeout));
+        if (waitNanos < 0) {
+            return false;
+        }
+        long deadline = System.nanoTime() + waitNanos;
+        for (long remaining = waitNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false; // 예약한 토큰은 돌려받지 않는다 (다음 대기자가 조금 늦어질 뿐)
+            }
+        }
+        return true;
+    }
+
+    // 대기해야 할 시간(ns)을 반환, timeout을 넘으면 -1
+    private synchronized long reserve(long timeoutNanos) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / permitsPerNano);
+        if (waitNanos > timeoutNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    public synchronized double availableTokens() {
+        long now = System.nanoTime();
+        return Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+    }
+}
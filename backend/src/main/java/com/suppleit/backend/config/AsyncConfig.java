@@ -0,0 +1,46 @@
+package com.suppleit.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    // 캐시 선제 갱신 등 요청 스레드와 분리해서 돌릴 백그라운드 작업용 풀
+    @Bean(name = "backgroundExecutor")
+    public ThreadPoolTaskExecutor backgroundExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("background-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // 외부 API 호출용 풀 (요청 스레드와 병렬로 실행, 포화 시 즉시 거절)
+    @Bean(name = "externalApiExecutor")
+    public ThreadPoolTaskExecutor externalApiExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("external-api-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 외부 호출을 기다리는 요청을 Tomcat 워커 밖에서 처리 (비동기 MVC 응답, 요청마다 가상 스레드 하나)
+    @Bean(name = "requestOffloadExecutor", destroyMethod = "close")
+    public ExecutorService requestOffloadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
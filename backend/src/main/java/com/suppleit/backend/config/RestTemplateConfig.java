@@ -1,8 +1,8 @@
 package com.suppleit.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
@@ -10,14 +10,14 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(@Value("${outbound.rest.connect-timeout-ms:1000}") int connectTimeoutMillis,
+                                     @Value("${outbound.rest.read-timeout-ms:15000}") int readTimeoutMillis) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(1000); // 10초 연결 타임아웃
-        factory.setReadTimeout(15000);   // 15초 읽기 타임아웃
+        factory.setConnectTimeout(connectTimeoutMillis);
+        // 읽기 타임아웃은 상한 (실제 대기는 호출 측의 적응형 타임아웃이 더 짧게 끊는다)
+        factory.setReadTimeout(readTimeoutMillis);
         
-        // BufferingClientHttpRequestFactory로 래핑하여 응답을 여러 번 읽을 수 있도록 함
-        BufferingClientHttpRequestFactory bufferingFactory = new BufferingClientHttpRequestFactory(factory);
-        
-        return new RestTemplate(bufferingFactory);
+        // 응답 본문을 메모리에 통째로 버퍼링하지 않고 스트림으로 읽도록 그대로 사용
+        return new RestTemplate(factory);
     }
 }
\ No newline at end of file
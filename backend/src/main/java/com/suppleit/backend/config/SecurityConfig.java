@@ -1,15 +1,18 @@
 package com.suppleit.backend.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.security.BoundedPasswordEncoder;
 import com.suppleit.backend.security.jwt.JwtFilter;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
 import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
 import com.suppleit.backend.service.MemberDetailsService;
 import com.suppleit.backend.service.SocialLoginService;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -42,11 +45,33 @@ public class SecurityConfig {
     private final MemberDetailsService memberDetailsService;
     private final JwtTokenBlacklistService tokenBlacklistService;
     private final SocialLoginService socialLoginService;
+    private final MeterRegistry meterRegistry;
 
-    // ✅ 비밀번호 암호화 (BCrypt)
+    // memberId 클레임이 없는 이전 형식 액세스 토큰 허용 여부 (기존 토큰이 모두 만료된 뒤 false로)
+    @Value("${jwt.legacy-tokens.accepted:true}")
+    private boolean legacyTokensAccepted;
+
+    // BCrypt 비용 (올리면 기존 해시는 다음 로그인 때 새 비용으로 다시 저장된다)
+    @Value("${auth.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // BCrypt 전용 스레드 수 (0이면 CPU 코어의 절반)
+    @Value("${auth.bcrypt.threads:0}")
+    private int bcryptThreads;
+
+    @Value("${auth.bcrypt.queue-size:64}")
+    private int bcryptQueueSize;
+
+    // 대기열에서 차례를 기다리는 최대 시간 (넘으면 429)
+    @Value("${auth.bcrypt.timeout-ms:2000}")
+    private long bcryptTimeoutMillis;
+
+    // ✅ 비밀번호 암호화 (BCrypt, 전용 스레드 풀에서만 실행)
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = bcryptThreads > 0 ? bcryptThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength),
+                threads, bcryptQueueSize, bcryptTimeoutMillis, meterRegistry);
     }
 
     // ✅ 보안 필터 체인 설정
@@ -95,7 +120,8 @@ public class SecurityConfig {
     // ✅ JWT 필터를 Bean으로 등록
     @Bean
     public JwtFilter jwtFilter() {
-        return new JwtFilter(jwtTokenProvider, memberDetailsService, tokenBlacklistService);
+        return new JwtFilter(jwtTokenProvider, memberDetailsService, tokenBlacklistService,
+                legacyTokensAccepted, meterRegistry);
     }
 
     // ✅ 요청별 권한 설정
@@ -0,0 +1,45 @@
+package com.suppleit.backend.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    // 외부 API 공용 커넥션 풀 (원격 호스트별로 풀이 따로 잡히므로 max-connections는 호스트당 한도)
+    // 한도를 넘는 요청은 스레드를 잡지 않고 대기열에서 기다리며, 대기열도 가득 차거나 오래 기다리면 바로 실패
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider(
+            @Value("${outbound.http.max-connections-per-host:50}") int maxConnectionsPerHost,
+            @Value("${outbound.http.pending-acquire-max:500}") int pendingAcquireMax,
+            @Value("${outbound.http.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMillis,
+            @Value("${outbound.http.max-idle-ms:30000}") long maxIdleMillis) {
+        return ConnectionProvider.builder("outbound")
+                .maxConnections(maxConnectionsPerHost)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleMillis))
+                .evictInBackground(Duration.ofMillis(maxIdleMillis))
+                .build();
+    }
+
+    // 네이버/Flask/소셜 로그인 호출이 함께 쓰는 WebClient (요청별 타임아웃은 호출 측에서 더 짧게 걸 수 있음)
+    @Bean
+    public WebClient outboundWebClient(WebClient.Builder builder,
+                                       ConnectionProvider outboundConnectionProvider,
+                                       @Value("${outbound.http.connect-timeout-ms:1000}") int connectTimeoutMillis,
+                                       @Value("${outbound.http.response-timeout-ms:5000}") long responseTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+}
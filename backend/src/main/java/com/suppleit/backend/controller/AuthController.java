@@ -1,6 +1,8 @@
 package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.AuthRequest;
+import com.suppleit.backend.security.ClientIpResolver;
+import com.suppleit.backend.security.LoginThrottledException;
 import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
 import com.suppleit.backend.service.AuthService;
@@ -19,22 +21,25 @@ public class AuthController extends JwtSupportController {
 
     private final AuthService authService;
     private final JwtTokenBlacklistService tokenBlacklistService;
+    private final ClientIpResolver clientIpResolver;
 
     // 로그인 API (JWT 발급)
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest request) {
+    public ResponseEntity<?> login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
         try {
-            String token = authService.authenticate(request.getEmail(), request.getPassword());
+            String token = authService.authenticate(request.getEmail(), request.getPassword(), clientIpResolver.resolve(httpRequest));
             String refreshToken = jwtTokenProvider.createRefreshToken(request.getEmail());
             return ResponseEntity.ok(Map.of(
                 "accessToken", token,
                 "refreshToken", refreshToken
             ));
+        } catch (LoginThrottledException e) {
+            return tooManyRequests(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", e.getMessage()));
         }
     }
-    
+
     // 로그아웃 (토큰 무효화)
     @PostMapping("/logout")
     public ResponseEntity<Map<String, Object>> logout(HttpServletRequest req) {
@@ -134,6 +139,8 @@ public class AuthController extends JwtSupportController {
                 "success", isChanged,
                 "message", "비밀번호가 변경되었습니다."
             ));
+        } catch (LoginThrottledException e) {
+            return tooManyRequests(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
@@ -9,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @RestController
@@ -21,12 +20,10 @@ public class FavoriteController extends JwtSupportController {
     private final FavoriteService favoriteService;
 
     @GetMapping
-    public ResponseEntity<?> getUserFavorites(HttpServletRequest request) {
+    public ResponseEntity<?> getUserFavorites() {
         log.info("즐겨찾기 목록 조회 요청");
         try {
-            // JWT에서 사용자 이메일 추출
-            String email = extractEmailFromToken(request);
-            List<FavoriteDto> favorites = favoriteService.getUserFavorites(email);
+            List<FavoriteDto> favorites = favoriteService.getUserFavorites(currentMember().getMemberId());
             return ResponseEntity.ok(favorites);
         } catch (Exception e) {
             log.error("즐겨찾기 목록 조회 중 오류: {}", e.getMessage(), e);
@@ -35,12 +32,10 @@ public class FavoriteController extends JwtSupportController {
     }
 
     @PostMapping
-    public ResponseEntity<?> addFavorite(@RequestBody FavoriteDto favoriteDto, HttpServletRequest request) {
+    public ResponseEntity<?> addFavorite(@RequestBody FavoriteDto favoriteDto) {
         log.info("즐겨찾기 추가 요청: {}", favoriteDto);
         try {
-            // JWT에서 사용자 이메일 추출
-            String email = extractEmailFromToken(request);
-            favoriteService.addFavorite(email, favoriteDto);
+            favoriteService.addFavorite(currentMember().getMemberId(), favoriteDto);
             return ResponseEntity.ok(ApiResponse.success("즐겨찾기 추가 성공", null));
         } catch (Exception e) {
             log.error("즐겨찾기 추가 중 오류: {}", e.getMessage(), e);
@@ -49,12 +44,10 @@ public class FavoriteController extends JwtSupportController {
     }
 
     @DeleteMapping("/{prdId}")
-    public ResponseEntity<?> removeFavorite(@PathVariable Long prdId, HttpServletRequest request) {
+    public ResponseEntity<?> removeFavorite(@PathVariable Long prdId) {
         log.info("즐겨찾기 삭제 요청: {}", prdId);
         try {
-            // JWT에서 사용자 이메일 추출
-            String email = extractEmailFromToken(request);
-            favoriteService.removeFavorite(email, prdId);
+            favoriteService.removeFavorite(currentMember().getMemberId(), prdId);
             return ResponseEntity.ok(ApiResponse.success("즐겨찾기 삭제 성공", null));
         } catch (Exception e) {
             log.error("즐겨찾기 삭제 중 오류: {}", e.getMessage(), e);
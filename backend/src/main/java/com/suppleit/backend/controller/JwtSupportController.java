@@ -1,8 +1,21 @@
 package com.suppleit.backend.controller;
 
+import com.suppleit.backend.security.LoginThrottledException;
+import com.suppleit.backend.security.jwt.JwtFilter;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.MemberPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
 
 public abstract class JwtSupportController {
     
@@ -18,20 +31,36 @@ public abstract class JwtSupportController {
                 return null; // 토큰이 없는 경우 null 반환
             }
             
-            if (!jwtTokenProvider.validateToken(token)) {
-                throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-            }
-            
-            if (jwtTokenProvider.isJwtExpired(token)) {
-                throw new IllegalArgumentException("JWT가 만료되었습니다.");
-            }
-            
-            return jwtTokenProvider.getEmail(token);
+            return resolveClaims(req, token).getSubject();
         } catch (Exception e) {
             throw new IllegalArgumentException("토큰 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
+    // 인증된 회원 (JwtFilter가 토큰 클레임으로 만든 principal, 회원 조회 없음)
+    protected MemberPrincipal currentMember() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof MemberPrincipal member) {
+            return member;
+        }
+        throw new IllegalArgumentException("인증 정보가 없습니다. 다시 로그인해 주세요.");
+    }
+
+    // JwtFilter가 검증해 둔 claims를 재사용하고, 필터를 거치지 않은 요청만 직접 검증
+    protected Claims resolveClaims(HttpServletRequest req, String token) {
+        if (req.getAttribute(JwtFilter.CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            return claims;
+        }
+        JwtFilter.countParse(req);
+        try {
+            return jwtTokenProvider.parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw new IllegalArgumentException("JWT가 만료되었습니다.");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+    }
+
     // Bearer 토큰 추출 (예외 메시지 명확화)
     protected String parseBearerToken(HttpServletRequest req) {
         String authorization = req.getHeader("Authorization");
@@ -42,4 +71,14 @@ public abstract class JwtSupportController {
 
         return authorization.substring(7);
     }
+
+    // 로그인 시도 한도 초과/비밀번호 검증 대기열 포화 (429 + Retry-After)
+    protected static ResponseEntity<Map<String, Object>> tooManyRequests(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+                ));
+    }
 }
\ No newline at end of file
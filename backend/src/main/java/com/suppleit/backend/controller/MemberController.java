@@ -1,6 +1,8 @@
 package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.MemberDto;
+import com.suppleit.backend.security.LoginThrottledException;
+import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
 import com.suppleit.backend.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,7 @@ import java.util.Optional;
 public class MemberController extends JwtSupportController {
 
     private final MemberService memberService;
+    private final JwtTokenBlacklistService tokenBlacklistService;
 
     // 회원가입
     @PostMapping("/join")
@@ -112,6 +115,12 @@ public class MemberController extends JwtSupportController {
             
             // 회원 탈퇴 처리
             memberService.deleteMemberByEmail(email);
+
+            // JwtFilter는 회원을 조회하지 않으므로 탈퇴한 회원의 액세스 토큰은 만료 시각까지 블랙리스트로 막는다
+            String token = parseBearerToken(req);
+            if (token != null) {
+                tokenBlacklistService.addToBlacklist(token, resolveClaims(req, token).getExpiration().getTime());
+            }
             
             // 계정 유형에 따른 응답 메시지 설정
             String message = isSocialAccount ? 
@@ -122,6 +131,8 @@ public class MemberController extends JwtSupportController {
                 "success", true,
                 "message", message
             ));
+        } catch (LoginThrottledException e) {
+            return tooManyRequests(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
@@ -13,7 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -144,8 +143,7 @@ public class NoticeController extends JwtSupportController {
             @RequestPart("notice") NoticeDto notice, 
             @RequestPart(value = "image", required = false) MultipartFile image,
             @RequestPart(value = "attachment", required = false) MultipartFile attachment,
-            @RequestPart(value = "contentImages", required = false) List<MultipartFile> contentImages,
-            HttpServletRequest request) {
+            @RequestPart(value = "contentImages", required = false) List<MultipartFile> contentImages) {
         try {
             log.info("공지사항 등록 요청: {}, 본문 이미지: {}개", 
                 notice.getTitle(), 
@@ -156,8 +154,7 @@ public class NoticeController extends JwtSupportController {
                 notice.setContent(notice.getContent().substring(0, 16000));
             }
             
-            String email = extractEmailFromToken(request);
-            Long memberId = noticeService.getMemberIdByEmail(email);
+            Long memberId = currentMember().getMemberId();
             notice.setMemberId(memberId);
             noticeService.createNotice(notice, image, attachment, contentImages);
             
@@ -182,8 +179,7 @@ public class NoticeController extends JwtSupportController {
             @RequestPart("notice") NoticeDto notice,
             @RequestPart(value = "image", required = false) MultipartFile image,
             @RequestPart(value = "attachment", required = false) MultipartFile attachment,
-            @RequestPart(value = "contentImages", required = false) List<MultipartFile> contentImages,
-            HttpServletRequest request) {
+            @RequestPart(value = "contentImages", required = false) List<MultipartFile> contentImages) {
         try {
             log.info("공지사항 수정 요청: {}, 본문 이미지: {}개", 
                 noticeId, 
@@ -194,8 +190,7 @@ public class NoticeController extends JwtSupportController {
                 notice.setContent(notice.getContent().substring(0, 16000));
             }
             
-            String email = extractEmailFromToken(request);
-            Long memberId = noticeService.getMemberIdByEmail(email);
+            Long memberId = currentMember().getMemberId();
             notice.setMemberId(memberId);
             notice.setLastModifiedBy(memberId);
             
@@ -1,5 +1,6 @@
 package com.suppleit.backend.controller;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.suppleit.backend.service.SocialLoginService;
@@ -8,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.view.RedirectView;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 @RestController
 @RequestMapping("/login/oauth2/code")
@@ -16,40 +19,47 @@ import java.util.Map;
 public class OAuth2RedirectController {
 
     private final SocialLoginService socialLoginService;
+    @Qualifier("requestOffloadExecutor")
+    private final ExecutorService requestOffloadExecutor;
 
     @GetMapping("/google")
-    public RedirectView processGoogleCallback(@RequestParam("code") String code) {
-        try {
-            Map<String, Object> tokenResponse = socialLoginService.getGoogleMember(code);
-            String token = (String) tokenResponse.get("accessToken");
-            String refreshToken = (String) tokenResponse.get("refreshToken");
-            Map<String, Object> memberData = (Map<String, Object>) tokenResponse.get("member");
-            String email = (String) memberData.get("email");
+    public CompletableFuture<RedirectView> processGoogleCallback(@RequestParam("code") String code) {
+        // OAuth 토큰 교환을 기다리는 동안 Tomcat 워커를 잡지 않도록 가상 스레드에서 처리
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Map<String, Object> tokenResponse = socialLoginService.getGoogleMember(code);
+                String token = (String) tokenResponse.get("accessToken");
+                String refreshToken = (String) tokenResponse.get("refreshToken");
+                Map<String, Object> memberData = (Map<String, Object>) tokenResponse.get("member");
+                String email = (String) memberData.get("email");
             
-            return new RedirectView("/oauth2/success?token=" + token + 
-                                   "&refreshToken=" + refreshToken + 
-                                   "&email=" + email);
-        } catch (Exception e) {
-            log.error("구글 OAuth 콜백 처리 중 오류: {}", e.getMessage(), e);
-            return new RedirectView("/login?error=oauth_failed");
-        }
+                return new RedirectView("/oauth2/success?token=" + token + 
+                                       "&refreshToken=" + refreshToken + 
+                                       "&email=" + email);
+            } catch (Exception e) {
+                log.error("구글 OAuth 콜백 처리 중 오류: {}", e.getMessage(), e);
+                return new RedirectView("/login?error=oauth_failed");
+            }
+        }, requestOffloadExecutor);
     }
 
     @GetMapping("/naver")
-    public RedirectView processNaverCallback(@RequestParam("code") String code) {
-        try {
-            Map<String, Object> tokenResponse = socialLoginService.getNaverMember(code);
-            String token = (String) tokenResponse.get("accessToken");
-            String refreshToken = (String) tokenResponse.get("refreshToken");
-            Map<String, Object> memberData = (Map<String, Object>) tokenResponse.get("member");
-            String email = (String) memberData.get("email");
+    public CompletableFuture<RedirectView> processNaverCallback(@RequestParam("code") String code) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Map<String, Object> tokenResponse = socialLoginService.getNaverMember(code);
+                String token = (String) tokenResponse.get("accessToken");
+                String refreshToken = (String) tokenResponse.get("refreshToken");
+                Map<String, Object> memberData = (Map<String, Object>) tokenResponse.get("member");
+                String email = (String) memberData.get("email");
             
-            return new RedirectView("/oauth2/success?token=" + token + 
-                                   "&refreshToken=" + refreshToken + 
-                                   "&email=" + email);
-        } catch (Exception e) {
-            log.error("네이버 OAuth 콜백 처리 중 오류: {}", e.getMessage(), e);
-            return new RedirectView("/login?error=oauth_failed");
-        }
+                return new RedirectView("/oauth2/success?token=" + token + 
+                                       "&refreshToken=" + refreshToken + 
+                                       "&email=" + email);
+            } catch (Exception e) {
+                log.error("네이버 OAuth 콜백 처리 중 오류: {}", e.getMessage(), e);
+                return new RedirectView("/login?error=oauth_failed");
+            }
+        }, requestOffloadExecutor);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.ApiResponse;
+import com.suppleit.backend.dto.AutocompleteSuggestionDto;
 import com.suppleit.backend.dto.ProductDto;
 import com.suppleit.backend.service.ProductService;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,18 @@ public class ProductController {
         }
     }
 
+    // 검색창 자동완성 (키 입력마다 호출되므로 요청 로그는 debug)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(@RequestParam("q") String query,
+                                          @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        log.debug("자동완성 요청: {}", query);
+        if (query == null || query.trim().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success("자동완성 결과가 없습니다.", List.of()));
+        }
+        List<AutocompleteSuggestionDto> suggestions = productService.autocomplete(query, limit);
+        return ResponseEntity.ok(ApiResponse.success("자동완성 성공", suggestions));
+    }
+
     @GetMapping("/{productId}")
     public ResponseEntity<?> getProductById(@PathVariable("productId") Long productId) {
         log.info("제품 상세 조회 요청: {}", productId);
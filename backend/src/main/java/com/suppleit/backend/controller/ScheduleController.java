@@ -15,11 +15,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.suppleit.backend.dto.ApiResponse;
 import com.suppleit.backend.dto.ScheduleDto;
-import com.suppleit.backend.mapper.MemberMapper;
-import com.suppleit.backend.model.Member;
 import com.suppleit.backend.service.ScheduleService;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,16 +26,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ScheduleController extends JwtSupportController {
     private final ScheduleService scheduleService;
-    private final MemberMapper memberMapper;
 
     // 모든 일정 조회
     @GetMapping
-    public ResponseEntity<?> getAllSchedules(HttpServletRequest request) {
+    public ResponseEntity<?> getAllSchedules() {
         try {
-            String email = extractEmailFromToken(request);
-            Member member = memberMapper.getMemberByEmail(email);
+            Long memberId = currentMember().getMemberId();
             
-            List<ScheduleDto> schedules = scheduleService.getSchedulesByMemberId(member.getMemberId());
+            List<ScheduleDto> schedules = scheduleService.getSchedulesByMemberId(memberId);
             return ResponseEntity.ok(schedules);
         } catch (Exception e) {
             log.error("일정 조회 중 오류 발생: {}", e.getMessage());
@@ -51,17 +46,15 @@ public class ScheduleController extends JwtSupportController {
     // 특정 일정 조회
     @GetMapping("/{scheduleId}")
     public ResponseEntity<?> getScheduleById(
-        @PathVariable("scheduleId") Long scheduleId,
-        HttpServletRequest request
+        @PathVariable("scheduleId") Long scheduleId
     ) {
         try {
-            String email = extractEmailFromToken(request);
-            Member member = memberMapper.getMemberByEmail(email);
+            Long memberId = currentMember().getMemberId();
             
             ScheduleDto schedule = scheduleService.getScheduleById(scheduleId);
             
             // 권한 확인 (자신의 일정만 볼 수 있음)
-            if (!schedule.getMemberId().equals(member.getMemberId())) {
+            if (!schedule.getMemberId().equals(memberId)) {
                 return ResponseEntity.status(403).body(
                     ApiResponse.error("접근 권한이 없습니다.")
                 );
@@ -79,14 +72,12 @@ public class ScheduleController extends JwtSupportController {
     // 시간대별 일정 조회
     @GetMapping("/time/{intakeTime}")
     public ResponseEntity<?> getSchedulesByTime(
-        @PathVariable("intakeTime") String intakeTime, 
-        HttpServletRequest request
+        @PathVariable("intakeTime") String intakeTime
     ) {
         try {
-            String email = extractEmailFromToken(request);
-            Member member = memberMapper.getMemberByEmail(email);
+            Long memberId = currentMember().getMemberId();
             
-            List<ScheduleDto> schedules = scheduleService.getSchedulesByTime(member.getMemberId(), intakeTime);
+            List<ScheduleDto> schedules = scheduleService.getSchedulesByTime(memberId, intakeTime);
             return ResponseEntity.ok(schedules);
         } catch (Exception e) {
             log.error("시간대별 일정 조회 중 오류 발생: {}", e.getMessage());
@@ -99,14 +90,11 @@ public class ScheduleController extends JwtSupportController {
     // 일정 생성
     @PostMapping
     public ResponseEntity<?> createSchedule(
-        @RequestBody ScheduleDto scheduleDto, 
-        HttpServletRequest request
+        @RequestBody ScheduleDto scheduleDto
     ) {
         try {
-            String email = extractEmailFromToken(request);
-            
-            Member member = memberMapper.getMemberByEmail(email);
-            scheduleDto.setMemberId(member.getMemberId());
+            Long memberId = currentMember().getMemberId();
+            scheduleDto.setMemberId(memberId);
             
             ScheduleDto createdSchedule = scheduleService.createSchedule(scheduleDto);
             return ResponseEntity.ok(createdSchedule);
@@ -122,18 +110,16 @@ public class ScheduleController extends JwtSupportController {
     @PutMapping("/{scheduleId}")
     public ResponseEntity<?> updateSchedule(
         @PathVariable("scheduleId") Long scheduleId,
-        @RequestBody ScheduleDto scheduleDto,
-        HttpServletRequest request
+        @RequestBody ScheduleDto scheduleDto
     ) {
         try {
-            String email = extractEmailFromToken(request);
-            Member member = memberMapper.getMemberByEmail(email);
+            Long memberId = currentMember().getMemberId();
             
             // 기존 일정 조회
             ScheduleDto existingSchedule = scheduleService.getScheduleById(scheduleId);
             
             // 권한 확인 (자신의 일정만 수정 가능)
-            if (!existingSchedule.getMemberId().equals(member.getMemberId())) {
+            if (!existingSchedule.getMemberId().equals(memberId)) {
                 return ResponseEntity.status(403).body(
                     ApiResponse.error("접근 권한이 없습니다.")
                 );
@@ -141,7 +127,7 @@ public class ScheduleController extends JwtSupportController {
             
             // ID 설정
             scheduleDto.setScheduleId(scheduleId);
-            scheduleDto.setMemberId(member.getMemberId());
+            scheduleDto.setMemberId(memberId);
             
             ScheduleDto updatedSchedule = scheduleService.updateSchedule(scheduleDto);
             return ResponseEntity.ok(updatedSchedule);
@@ -156,18 +142,16 @@ public class ScheduleController extends JwtSupportController {
     // 일정 삭제
     @DeleteMapping("/{scheduleId}")
     public ResponseEntity<?> deleteSchedule(
-        @PathVariable("scheduleId") Long scheduleId,
-        HttpServletRequest request
+        @PathVariable("scheduleId") Long scheduleId
     ) {
         try {
-            String email = extractEmailFromToken(request);
-            Member member = memberMapper.getMemberByEmail(email);
+            Long memberId = currentMember().getMemberId();
             
             // 기존 일정 조회
             ScheduleDto existingSchedule = scheduleService.getScheduleById(scheduleId);
             
             // 권한 확인 (자신의 일정만 삭제 가능)
-            if (!existingSchedule.getMemberId().equals(member.getMemberId())) {
+            if (!existingSchedule.getMemberId().equals(memberId)) {
                 return ResponseEntity.status(403).body(
                     ApiResponse.error("접근 권한이 없습니다.")
                 );
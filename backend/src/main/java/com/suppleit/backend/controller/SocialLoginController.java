@@ -4,11 +4,14 @@ import com.suppleit.backend.dto.ApiResponse;
 import com.suppleit.backend.service.SocialLoginService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 @Slf4j
 @RestController
@@ -17,6 +20,8 @@ import java.util.Map;
 public class SocialLoginController {
 
     private final SocialLoginService socialLoginService;
+    @Qualifier("requestOffloadExecutor")
+    private final ExecutorService requestOffloadExecutor;
 
     /**
      * 카카오 로그인 API - 사용하지 않음
@@ -43,19 +48,22 @@ public class SocialLoginController {
      * 회원가입/로그인 처리 후 JWT 토큰을 반환
      */
     @PostMapping("/login/google")
-    public ResponseEntity<?> loginWithGoogle(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<?>> loginWithGoogle(@RequestBody Map<String, String> request) {
         String code = request.get("code");
         log.info("구글 로그인 요청 - 인증 코드: {}", code.substring(0, Math.min(10, code.length())) + "...");
         
-        try {
-            Map<String, Object> result = socialLoginService.getGoogleMember(code);
-            log.info("구글 로그인 성공 - 이메일: {}", result.get("email"));
-            return ResponseEntity.ok(ApiResponse.success("구글 로그인 성공", result));
-        } catch (Exception e) {
-            log.error("구글 로그인 오류: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error("구글 로그인 실패: " + e.getMessage()));
-        }
+        // 토큰 교환/사용자 정보 조회를 기다리는 동안 Tomcat 워커를 잡지 않도록 가상 스레드에서 처리 (비동기 응답)
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Map<String, Object> result = socialLoginService.getGoogleMember(code);
+                log.info("구글 로그인 성공 - 이메일: {}", result.get("email"));
+                return ResponseEntity.ok(ApiResponse.success("구글 로그인 성공", result));
+            } catch (Exception e) {
+                log.error("구글 로그인 오류: {}", e.getMessage(), e);
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("구글 로그인 실패: " + e.getMessage()));
+            }
+        }, requestOffloadExecutor);
     }
 
     /**
@@ -64,21 +72,23 @@ public class SocialLoginController {
      * 회원가입/로그인 처리 후 JWT 토큰을 반환
      */
     @PostMapping("/login/naver")
-    public ResponseEntity<?> loginWithNaver(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<?>> loginWithNaver(@RequestBody Map<String, String> request) {
         String code = request.get("code");
         // state는 선택적으로 처리
         String state = request.getOrDefault("state", "");
         
         log.info("네이버 로그인 요청 - 인증 코드: {}", code);
         
-        try {
-            // state 파라미터 없이 코드만으로 사용자 정보 조회
-            Map<String, Object> result = socialLoginService.getNaverMember(code);
-            return ResponseEntity.ok(ApiResponse.success("네이버 로그인 성공", result));
-        } catch (Exception e) {
-            log.error("네이버 로그인 오류: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error("네이버 로그인 실패: " + e.getMessage()));
-        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                // state 파라미터 없이 코드만으로 사용자 정보 조회
+                Map<String, Object> result = socialLoginService.getNaverMember(code);
+                return ResponseEntity.ok(ApiResponse.success("네이버 로그인 성공", result));
+            } catch (Exception e) {
+                log.error("네이버 로그인 오류: {}", e.getMessage(), e);
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("네이버 로그인 실패: " + e.getMessage()));
+            }
+        }, requestOffloadExecutor);
     }
 }
\ No newline at end of file
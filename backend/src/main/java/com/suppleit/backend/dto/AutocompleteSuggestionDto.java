@@ -0,0 +1,15 @@
+package com.suppleit.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestionDto {
+    private String text;
+    private String type; // PRODUCT 또는 COMPANY
+}
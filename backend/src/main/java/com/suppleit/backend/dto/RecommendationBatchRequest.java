@@ -0,0 +1,18 @@
+package com.suppleit.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// Flask /recommend/batch 요청 본문
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationBatchRequest {
+  private List<String> keywords; // 추천받을 키워드 목록
+  private int limit; // 키워드별 추천 개수
+}
@@ -0,0 +1,14 @@
+package com.suppleit.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// Flask /recommend/batch 응답 (요청 키워드 순서와 같은 순서)
+@Getter
+@Setter
+public class RecommendationBatchResponse {
+  private int count; // 결과 개수
+  private List<RecommendationResponse> results; // 키워드별 추천 결과
+}
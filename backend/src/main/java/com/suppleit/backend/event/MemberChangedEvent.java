@@ -0,0 +1,11 @@
+package com.suppleit.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 회원 정보/비밀번호/권한이 바뀌거나 탈퇴했을 때 발행되는 이벤트 (UserDetails 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+    private final String email;
+}
@@ -0,0 +1,18 @@
+package com.suppleit.backend.event;
+
+import com.suppleit.backend.model.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 제품 테이블에 insert/update가 발생했을 때 발행되는 이벤트 (검색 색인 등 인메모리 구조 갱신용)
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+    private final List<Product> products;
+
+    public static ProductChangedEvent of(Product product) {
+        return new ProductChangedEvent(List.of(product));
+    }
+}
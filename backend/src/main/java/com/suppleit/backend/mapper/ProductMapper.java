@@ -3,6 +3,7 @@ package com.suppleit.backend.mapper;
 import com.suppleit.backend.model.Product;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -11,11 +12,23 @@ public interface ProductMapper {
     // 제품 ID로 조회
     Product getProductById(@Param("prdId") Long prdId);
     
+    // 품목제조신고번호로 조회
+    Product getProductByRegistrationNo(@Param("registrationNo") String registrationNo);
+
+    // 여러 제품 ID로 조회
+    List<Product> getProductsByIds(@Param("prdIds") List<Long> prdIds);
+
     // 제품명으로 검색
     List<Product> searchProducts(@Param("keyword") String keyword);
+
+    // 검색 색인 생성용 전체 스캔 (검색 대상 컬럼만)
+    void scanProductsForIndex(ResultHandler<Product> handler);
     
-    // 제품 추가 - 기능 구현 예정
+    // 제품 추가 (이미 있으면 제품명/업체명 갱신)
     void insertProduct(Product product);
+
+    // 여러 제품 일괄 추가/갱신 (write-behind 배치용)
+    void upsertProducts(@Param("products") List<Product> products);
     
     // 제품 정보 업데이트
     void updateProduct(Product product);
@@ -0,0 +1,14 @@
+package com.suppleit.backend.mapper;
+
+import com.suppleit.backend.model.ProductSyncCheckpoint;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ProductSyncMapper {
+    // 동기화 작업의 체크포인트 조회
+    ProductSyncCheckpoint getCheckpoint(@Param("jobName") String jobName);
+
+    // 체크포인트 저장 (없으면 생성)
+    void saveCheckpoint(ProductSyncCheckpoint checkpoint);
+}
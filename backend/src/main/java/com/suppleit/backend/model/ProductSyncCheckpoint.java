@@ -0,0 +1,20 @@
+package com.suppleit.backend.model;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSyncCheckpoint {
+    private String jobName;
+    private int lastPage;        // 현재 회차에서 DB 반영이 끝난 마지막 페이지
+    private int totalCount;      // API 전체 건수
+    private int syncedCount;     // 마지막으로 완료한 회차의 전체 건수 (증분 시작 위치)
+    private LocalDateTime lastCompletedAt;
+    private LocalDateTime lastFullCompletedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,90 @@
+package com.suppleit.backend.recommend;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// 추천 데이터 CSV 읽기 (RFC 4180: 따옴표 안의 쉼표/줄바꿈/"" 이스케이프, UTF-8 BOM 처리)
+final class CsvRows {
+
+    private CsvRows() {
+    }
+
+    static List<String[]> read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    static List<String[]> parse(BufferedReader reader) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        boolean first = true;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (first) {
+                first = false;
+                if (c == '\uFEFF') {
+                    continue;
+                }
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    fieldStarted = true;
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStarted = true;
+                }
+                case '\r' -> {
+                    // \r\n의 \r은 무시
+                }
+                case '\n' -> {
+                    if (fieldStarted || field.length() > 0 || !fields.isEmpty()) {
+                        fields.add(field.toString());
+                        rows.add(fields.toArray(new String[0]));
+                    }
+                    fields.clear();
+                    field.setLength(0);
+                    fieldStarted = false;
+                }
+                default -> {
+                    field.append((char) c);
+                    fieldStarted = true;
+                }
+            }
+        }
+        if (fieldStarted || field.length() > 0 || !fields.isEmpty()) {
+            fields.add(field.toString());
+            rows.add(fields.toArray(new String[0]));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,154 @@
+package com.suppleit.backend.recommend;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 네이버 쇼핑 검색 결과와 질의의 관련성 점수 계산.
+ * 카테고리 규칙(허용/제외, 부분 문자열 일치)은 설정에서 읽고, 카테고리 문자열별 판정을 기억해 두어
+ * 같은 카테고리는 다시 비교하지 않는다. 질의는 요청마다 한 번만 소문자화/단어 분리하고,
+ * 제목의 HTML 태그(네이버의 &lt;b&gt; 강조)는 정규식 없이 한 번 훑으면서 제거한다.
+ * 점수는 기존 정규식 구현(replaceAll("&lt;[^&gt;]*&gt;", ""), split("\\s+"), String.toLowerCase)과 같다.
+ */
+@Component
+public class ProductRelevanceScorer {
+
+    /** 제외/비허용 카테고리 항목 */
+    public static final int REJECTED = -1;
+
+    private static final int FULL_QUERY_SCORE = 100;
+    private static final int WORD_SCORE = 10;
+    private static final int ALLOWED_CATEGORY_SCORE = 50;
+
+    // 네이버 category1 값은 몇 개 안 되지만, 예상 밖 입력으로 무한히 커지지 않도록 상한
+    private static final int MAX_MEMOIZED_CATEGORIES = 1024;
+
+    private final String[] allowedCategories;
+    private final String[] blockedCategories;
+    private final Map<String, Boolean> verdicts = new ConcurrentHashMap<>();
+
+    public ProductRelevanceScorer(
+            @Value("${naver.match.allowed-categories:식품}") String[] allowedCategories,
+            @Value("${naver.match.blocked-categories:서비스,여행/항공권,E쿠폰,컨텐츠,가구/인테리어,스포츠/레저,생활/건강,화장품/미용,패션의류,출산/육아}") String[] blockedCategories) {
+        this.allowedCategories = trimAll(allowedCategories);
+        this.blockedCategories = trimAll(blockedCategories);
+    }
+
+    /** 질의를 한 번만 전처리한다 (같은 질의로 여러 상품을 채점할 때 재사용) */
+    public Query prepare(String query) {
+        String lowerQuery = query.toLowerCase();
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= lowerQuery.length(); i++) {
+            boolean space = i == lowerQuery.length() || isRegexSpace(lowerQuery.charAt(i));
+            if (!space && start < 0) {
+                start = i;
+            } else if (space && start >= 0) {
+                if (i - start > 1) {
+                    words.add(lowerQuery.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return new Query(lowerQuery, words.toArray(new String[0]));
+    }
+
+    /** 제외 카테고리가 아니고 허용 카테고리에 속하는지 */
+    public boolean isAllowedCategory(String category) {
+        Boolean verdict = verdicts.get(category);
+        if (verdict == null) {
+            verdict = !containsAny(category, blockedCategories) && containsAny(category, allowedCategories);
+            if (verdicts.size() < MAX_MEMOIZED_CATEGORIES) {
+                verdicts.put(category, verdict);
+            }
+        }
+        return verdict;
+    }
+
+    /**
+     * @param title HTML 태그를 제거하지 않은 원본 제목
+     * @return 관련성 점수, 카테고리에서 걸러지면 {@link #REJECTED}
+     */
+    public int score(Query query, String category, String title) {
+        if (!isAllowedCategory(category)) {
+            return REJECTED;
+        }
+        String lowerTitle = stripTags(title).toLowerCase();
+
+        int score = ALLOWED_CATEGORY_SCORE;
+        // 전체 쿼리가 제목에 포함되면 높은 점수
+        if (lowerTitle.contains(query.lowerQuery)) {
+            score += FULL_QUERY_SCORE;
+        }
+        // 개별 단어 일치 점수
+        for (String word : query.words) {
+            if (lowerTitle.contains(word)) {
+                score += WORD_SCORE;
+            }
+        }
+        return score;
+    }
+
+    /** 태그를 제거한 제목 (&lt;...&gt; 구간을 건너뛰며 한 번에 복사, 닫는 '&gt;'가 없으면 남은 글자는 그대로 유지) */
+    public static String stripTags(String title) {
+        if (title.indexOf('<') < 0) {
+            return title;
+        }
+        char[] out = new char[title.length()];
+        int length = 0;
+        int i = 0;
+        while (i < title.length()) {
+            char c = title.charAt(i);
+            if (c == '<') {
+                int close = title.indexOf('>', i + 1);
+                if (close >= 0) {
+                    i = close + 1;
+                    continue;
+                }
+            }
+            out[length++] = c;
+            i++;
+        }
+        return new String(out, 0, length);
+    }
+
+    // 정규식 \s와 같은 공백 ([ \t\n\x0B\f\r]), Character.isWhitespace보다 좁다
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean containsAny(String category, String[] rules) {
+        for (String rule : rules) {
+            if (category.contains(rule)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] trimAll(String[] values) {
+        List<String> trimmed = new ArrayList<>();
+        for (String value : values) {
+            if (!value.isBlank()) {
+                trimmed.add(value.trim());
+            }
+        }
+        return trimmed.toArray(new String[0]);
+    }
+
+    /** 전처리된 질의 (소문자 전체 문자열 + 2글자 이상 단어) */
+    public static final class Query {
+        private final String lowerQuery;
+        private final String[] words;
+
+        private Query(String lowerQuery, String[] words) {
+            this.lowerQuery = lowerQuery;
+            this.words = words;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.suppleit.backend.recommend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * scikit-learn TfidfVectorizer 기본 설정과 같은 TF-IDF 모델.
+ * (소문자화, 토큰 = 2글자 이상의 단어 문자 연속, idf = ln((1 + n) / (1 + df)) + 1, 행별 L2 정규화)
+ * 문서 행렬은 CSR(rowPtr/cols/weights) 원시 배열로 저장하고, 질의 시에는 같은 데이터를 전치한
+ * 단어별 포스팅으로 질의 단어가 등장하는 문서만 점수를 계산한다. 벡터가 L2 정규화되어 있으므로 내적 = 코사인 유사도.
+ */
+final class TfidfModel {
+
+    private static final double SCORE_SCALE = 1e12;
+
+    private final Map<String, Integer> vocabulary;
+    private final double[] idf;
+
+    // 문서 × 단어 CSR
+    private final int[] rowPtr;
+    private final int[] cols;
+    private final double[] weights;
+
+    // 단어 × 문서 (CSR의 전치)
+    private final int[] termPtr;
+    private final int[] termDocs;
+    private final double[] termWeights;
+
+    private TfidfModel(Map<String, Integer> vocabulary, double[] idf, int[] rowPtr, int[] cols, double[] weights,
+            int[] termPtr, int[] termDocs, double[] termWeights) {
+        this.vocabulary = vocabulary;
+        this.idf = idf;
+        this.rowPtr = rowPtr;
+        this.cols = cols;
+        this.weights = weights;
+        this.termPtr = termPtr;
+        this.termDocs = termDocs;
+        this.termWeights = termWeights;
+    }
+
+    int documentCount() {
+        return rowPtr.length - 1;
+    }
+
+    int vocabularySize() {
+        return idf.length;
+    }
+
+    // 단어의 idf (사전에 없으면 NaN)
+    double idf(String term) {
+        Integer id = vocabulary.get(term);
+        return id == null ? Double.NaN : idf[id];
+    }
+
+    static TfidfModel fit(List<String> documents) {
+        int n = documents.size();
+        Map<String, Integer> vocabulary = new HashMap<>();
+        List<int[]> docTerms = new ArrayList<>(n);   // 문서별 (단어 ID 정렬, 중복 제거)
+        List<int[]> docCounts = new ArrayList<>(n);  // 같은 순서의 등장 횟수
+        int[] df = new int[16];
+
+        for (String document : documents) {
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (String token : tokenize(document)) {
+                Integer id = vocabulary.get(token);
+                if (id == null) {
+                    id = vocabulary.size();
+                    vocabulary.put(token, id);
+                }
+                counts.merge(id, 1, Integer::sum);
+            }
+            int[] terms = new int[counts.size()];
+            int k = 0;
+            for (int id : counts.keySet()) {
+                terms[k++] = id;
+            }
+            Arrays.sort(terms);
+            int[] termCounts = new int[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                termCounts[i] = counts.get(terms[i]);
+                if (terms[i] >= df.length) {
+                    df = Arrays.copyOf(df, Math.max(df.length * 2, terms[i] + 1));
+                }
+                df[terms[i]]++;
+            }
+            docTerms.add(terms);
+            docCounts.add(termCounts);
+        }
+
+        int vocabularySize = vocabulary.size();
+        double[] idf = new double[vocabularySize];
+        for (int t = 0; t < vocabularySize; t++) {
+            idf[t] = Math.log((1.0 + n) / (1.0 + df[t])) + 1.0;
+        }
+
+        int[] rowPtr = new int[n + 1];
+        for (int d = 0; d < n; d++) {
+            rowPtr[d + 1] = rowPtr[d] + docTerms.get(d).length;
+        }
+        int nnz = rowPtr[n];
+        int[] cols = new int[nnz];
+        double[] weights = new double[nnz];
+        for (int d = 0; d < n; d++) {
+            int[] terms = docTerms.get(d);
+            int[] counts = docCounts.get(d);
+            int base = rowPtr[d];
+            double norm = 0;
+            for (int i = 0; i < terms.length; i++) {
+                double w = counts[i] * idf[terms[i]];
+                cols[base + i] = terms[i];
+                weights[base + i] = w;
+                norm += w * w;
+            }
+            if (norm > 0) {
+                norm = Math.sqrt(norm);
+                for (int i = 0; i < terms.length; i++) {
+                    weights[base + i] /= norm;
+                }
+            }
+        }
+
+        // 전치: 단어별로 (문서 ID 오름차순) 포스팅
+        int[] termPtr = new int[vocabularySize + 1];
+        for (int i = 0; i < nnz; i++) {
+            termPtr[cols[i] + 1]++;
+        }
+        for (int t = 0; t < vocabularySize; t++) {
+            termPtr[t + 1] += termPtr[t];
+        }
+        int[] fill = Arrays.copyOf(termPtr, vocabularySize);
+        int[] termDocs = new int[nnz];
+        double[] termWeights = new double[nnz];
+        for (int d = 0; d < n; d++) {
+            for (int i = rowPtr[d]; i < rowPtr[d + 1]; i++) {
+                int slot = fill[cols[i]]++;
+                termDocs[slot] = d;
+                termWeights[slot] = weights[i];
+            }
+        }
+
+        return new TfidfModel(vocabulary, idf, rowPtr, cols, weights, termPtr, termDocs, termWeights);
+    }
+
+    /**
+     * 질의와의 코사인 유사도가 threshold를 넘는 문서를 유사도 내림차순(같으면 문서 순서)으로 반환한다.
+     */
+    int[] rank(String query, double threshold) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String token : tokenize(query)) {
+            Integer id = vocabulary.get(token);
+            if (id != null) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+        if (counts.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] terms = new int[counts.size()];
+        double[] queryWeights = new double[terms.length];
+        double norm = 0;
+        int k = 0;
+        for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+            terms[k] = entry.getKey();
+            queryWeights[k] = entry.getValue() * idf[entry.getKey()];
+            norm += queryWeights[k] * queryWeights[k];
+            k++;
+        }
+        norm = Math.sqrt(norm);
+
+        // 질의 단어의 포스팅만 순회하며 점수 누적
+        double[] scores = new double[documentCount()];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+        boolean[] seen = new boolean[scores.length];
+        for (int i = 0; i < terms.length; i++) {
+            double q = queryWeights[i] / norm;
+            int t = terms[i];
+            for (int p = termPtr[t]; p < termPtr[t + 1]; p++) {
+                int d = termDocs[p];
+                if (!seen[d]) {
+                    seen[d] = true;
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = d;
+                }
+                scores[d] += q * termWeights[p];
+            }
+        }
+
+        int m = 0;
+        int[] result = new int[touchedCount];
+        for (int i = 0; i < touchedCount; i++) {
+            if (scores[touched[i]] > threshold) {
+                result[m++] = touched[i];
+            }
+        }
+        // 합산 순서에 따른 마지막 자리 오차로 순서가 뒤집히지 않도록 반올림한 값으로 비교 (같으면 문서 순서 = 안정 정렬)
+        long[] keys = new long[scores.length];
+        Integer[] order = new Integer[m];
+        for (int i = 0; i < m; i++) {
+            order[i] = result[i];
+            keys[result[i]] = Math.round(scores[result[i]] * SCORE_SCALE);
+        }
+        Arrays.sort(order, (a, b) -> keys[a] != keys[b] ? Long.compare(keys[b], keys[a]) : Integer.compare(a, b));
+        for (int i = 0; i < m; i++) {
+            result[i] = order[i];
+        }
+        return Arrays.copyOf(result, m);
+    }
+
+    // sklearn 기본 token_pattern (?u)\b\w\w+\b 와 같은 규칙: 단어 문자(문자/숫자/_) 2개 이상 연속
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean word = i < lower.length() && isWordChar(lower.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                if (i - start >= 2) {
+                    tokens.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
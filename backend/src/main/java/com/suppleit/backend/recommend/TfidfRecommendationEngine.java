@@ -0,0 +1,291 @@
+package com.suppleit.backend.recommend;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * flask/recommend.py의 recommend()를 JVM 안으로 옮긴 추천 엔진.
+ * preprocessed_*.csv를 카테고리별 TF-IDF 모델로 올려 두고 키워드 → 제품명 top-k를 바로 계산한다.
+ * 카테고리 추측, 유사도 임계값(0.05), 제품명 중복 제거, 결과가 없을 때의 랜덤 추천은 Flask와 같다.
+ * 데이터 파일이 바뀌면(수정 시각/크기) 새 스냅샷을 만들어 통째로 교체한다.
+ */
+@Component
+@Slf4j
+public class TfidfRecommendationEngine {
+
+    public static final int DEFAULT_LIMIT = 6;
+
+    // Flask BASE_CATEGORIES: 파일이 없어도 항상 첫 번째(기본) 카테고리
+    private static final String BASE_CATEGORY = "비타민";
+    private static final List<String> DATA_SUBDIRS = List.of("efficacy", "nutrient");
+    private static final String FILE_PREFIX = "preprocessed_";
+    private static final String FILE_SUFFIX = ".csv";
+
+    private static final String NAME_COLUMN = "제품명";
+    private static final String SEARCH_COLUMN = "processed_text";
+    private static final double THRESHOLD = 0.05;
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)");
+    private static final Pattern SPECIAL_CHARS = Pattern.compile("[^가-힣a-zA-Z0-9\\s]", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+", Pattern.UNICODE_CHARACTER_CLASS);
+
+    private final Timer recommendTimer;
+
+    @Value("${recommend.engine.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommend.engine.data-dir:../flask/recommend/data}")
+    private String dataDir;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dataDirMissing; // 없다는 로그는 한 번만 남긴다
+
+    public TfidfRecommendationEngine(MeterRegistry meterRegistry) {
+        this.recommendTimer = Timer.builder("recommend.engine.latency").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            reloadIfChanged();
+        }
+    }
+
+    // 데이터 파일이 바뀌었는지 주기적으로 확인하고, 바뀌었으면 다시 올린다
+    // 데이터 디렉터리가 없으면(예: flask 데이터가 없는 백엔드 컨테이너) 생길 때까지 존재 여부만 확인한다
+    @Scheduled(fixedDelayString = "${recommend.engine.reload-check-ms:60000}",
+            initialDelayString = "${recommend.engine.reload-check-ms:60000}")
+    public void reloadIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        Path root = Paths.get(dataDir);
+        if (!Files.isDirectory(root)) {
+            if (!dataDirMissing) {
+                dataDirMissing = true;
+                log.info("추천 데이터 디렉터리가 없어 Flask 추천을 사용합니다 (생기면 자동으로 로드): {}", root.toAbsolutePath());
+            }
+            return;
+        }
+        dataDirMissing = false;
+        try {
+            Map<String, Path> files = discoverFiles();
+            String fingerprint = fingerprint(files);
+            Snapshot current = snapshot;
+            if (current != null && current.fingerprint.equals(fingerprint)) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            Snapshot loaded = build(files, fingerprint);
+            snapshot = loaded;
+            log.info("추천 엔진 로드 완료: 카테고리 {}개, 제품 {}개, {}ms",
+                    loaded.models.size(), loaded.allProducts.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (IOException e) {
+            log.warn("추천 데이터 로드 실패: 경로={}, 원인={}", dataDir, e.getMessage());
+        }
+    }
+
+    /** 로컬 데이터가 올라와 있어 Flask 없이 답할 수 있는지 */
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    public List<String> recommend(String keyword) {
+        return recommend(keyword, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Flask /recommend와 같은 결과를 반환한다.
+     * 추측한 카테고리에서 임계값을 넘는 제품이 없으면 올라온 모든 카테고리의 제품 중 무작위로 고른다.
+     */
+    public List<String> recommend(String keyword, int limit) {
+        Snapshot current = snapshot;
+        if (current == null || keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return recommendTimer.record(() -> {
+            List<String> result = rank(current, keyword.strip(), limit);
+            if (result.isEmpty()) {
+                result = randomSample(current.allProducts, limit);
+            }
+            return result;
+        });
+    }
+
+    private static List<String> rank(Snapshot current, String keyword, int limit) {
+        CategoryModel category = current.models.get(current.guessCategory(keyword));
+        if (category == null) {
+            return new ArrayList<>(); // 파일이 없는 카테고리 (Flask에서 로드 실패와 같음)
+        }
+        Set<String> seen = new LinkedHashSet<>();
+        for (int doc : category.model.rank(preprocessQuery(keyword), THRESHOLD)) {
+            seen.add(category.names[doc]);
+            if (seen.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(seen);
+    }
+
+    private static List<String> randomSample(List<String> products, int limit) {
+        List<String> shuffled = new ArrayList<>(products);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return new ArrayList<>(shuffled.subList(0, Math.min(limit, shuffled.size())));
+    }
+
+    // 괄호 안 내용 제거 → 한글/영문/숫자/공백 외 제거 → 공백 정리
+    static String preprocessQuery(String query) {
+        String result = PARENTHESES.matcher(query).replaceAll("");
+        result = SPECIAL_CHARS.matcher(result).replaceAll("");
+        return WHITESPACE.matcher(result).replaceAll(" ").strip();
+    }
+
+    // 카테고리 이름 → CSV 파일 (기본 카테고리가 먼저, 나머지는 이름순)
+    private Map<String, Path> discoverFiles() throws IOException {
+        Path root = Paths.get(dataDir);
+        if (!Files.isDirectory(root)) {
+            throw new IOException("추천 데이터 디렉터리가 없습니다: " + root.toAbsolutePath());
+        }
+        Map<String, Path> discovered = new TreeMap<>();
+        for (String subdir : DATA_SUBDIRS) {
+            Path dir = root.resolve(subdir);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> paths = Files.list(dir)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    String fileName = path.getFileName().toString();
+                    if (fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX)) {
+                        String category = fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length());
+                        discovered.put(category, path);
+                    }
+                }
+            }
+        }
+        Map<String, Path> files = new LinkedHashMap<>();
+        files.put(BASE_CATEGORY, discovered.remove(BASE_CATEGORY));
+        files.putAll(discovered);
+        return files;
+    }
+
+    private static String fingerprint(Map<String, Path> files) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Path> entry : files.entrySet()) {
+            Path path = entry.getValue();
+            sb.append(entry.getKey()).append('|');
+            if (path != null && Files.exists(path)) {
+                sb.append(Files.getLastModifiedTime(path).toMillis()).append('|').append(Files.size(path));
+            }
+            sb.append(';');
+        }
+        return sb.toString();
+    }
+
+    private static Snapshot build(Map<String, Path> files, String fingerprint) throws IOException {
+        Map<String, CategoryModel> models = new LinkedHashMap<>();
+        List<String> allProducts = new ArrayList<>();
+        for (Map.Entry<String, Path> entry : files.entrySet()) {
+            if (entry.getValue() == null || !Files.exists(entry.getValue())) {
+                continue;
+            }
+            CategoryModel model = loadCategory(entry.getValue());
+            if (model == null) {
+                log.warn("추천 카테고리 건너뜀: {} (필수 컬럼이 없거나 데이터 행 없음)", entry.getKey());
+                continue;
+            }
+            models.put(entry.getKey(), model);
+            Collections.addAll(allProducts, model.names);
+        }
+        if (models.isEmpty()) {
+            throw new IOException("불러온 추천 카테고리가 없습니다");
+        }
+        return new Snapshot(fingerprint, new ArrayList<>(files.keySet()), models, List.copyOf(allProducts));
+    }
+
+    private static CategoryModel loadCategory(Path file) throws IOException {
+        List<String[]> rows = CsvRows.read(file);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        String[] header = rows.get(0);
+        int nameIndex = indexOf(header, NAME_COLUMN);
+        int textIndex = indexOf(header, SEARCH_COLUMN);
+        if (nameIndex < 0 || textIndex < 0) {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>();
+        List<String> documents = new ArrayList<>();
+        for (int i = 1; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            String name = field(row, nameIndex);
+            String text = field(row, textIndex);
+            // pandas dropna와 같이 검색 대상이 빈 행은 제외
+            if (text.isEmpty() || name.isBlank()) {
+                continue;
+            }
+            names.add(name);
+            documents.add(text);
+        }
+        if (documents.isEmpty()) {
+            return null;
+        }
+        return new CategoryModel(names.toArray(new String[0]), TfidfModel.fit(documents));
+    }
+
+    private static int indexOf(String[] header, String column) {
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].strip().equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(String[] row, int index) {
+        return index < row.length ? row[index] : "";
+    }
+
+    private record CategoryModel(String[] names, TfidfModel model) {
+    }
+
+    private record Snapshot(String fingerprint, List<String> categories, Map<String, CategoryModel> models,
+            List<String> allProducts) {
+
+        // 소문자/전처리한 키워드에 카테고리 이름이 들어 있으면 그 카테고리, 없으면 첫 번째(기본) 카테고리
+        String guessCategory(String keyword) {
+            String processed = preprocessQuery(keyword.toLowerCase(Locale.ROOT));
+            for (String category : categories) {
+                if (processed.contains(category.toLowerCase(Locale.ROOT))) {
+                    return category;
+                }
+            }
+            return categories.get(0);
+        }
+    }
+}
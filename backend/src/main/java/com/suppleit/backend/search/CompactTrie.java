@@ -0,0 +1,267 @@
+package com.suppleit.backend.search;
+
+import java.util.Arrays;
+
+/**
+ * 불변 경로 압축 트라이 (radix trie). 노드 정보는 모두 원시 배열에 저장되고,
+ * 엣지 라벨은 라벨만 모아 둔 문자 풀의 구간을 가리킨다. 엣지마다 라벨을 한 번씩만 담으므로 공통 접두사도 한 번만 저장된다.
+ * 각 노드는 서브트리에서 순위가 가장 높은 값 k개를 미리 계산해 두어 조회 시 접두사만 따라가면 된다.
+ * 값(value)은 작을수록 순위가 높은 int (호출 측에서 순위 순으로 매긴 ID).
+ */
+final class CompactTrie {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final char[] text;        // 엣지 라벨을 BFS 순서로 이어붙인 문자 풀
+    private final int[] labelStart;   // 노드로 들어오는 엣지 라벨의 시작 위치 (text 기준)
+    private final int[] labelLength;
+    private final int[] firstChild;   // 자식 노드는 BFS 순서로 연속 배치
+    private final int[] childCount;
+    private final int[] topStart;     // 노드별 상위 k개 값 (tops 기준)
+    private final byte[] topCount;
+    private final int[] tops;
+
+    private CompactTrie(char[] text, int[] labelStart, int[] labelLength, int[] firstChild, int[] childCount,
+                        int[] topStart, byte[] topCount, int[] tops) {
+        this.text = text;
+        this.labelStart = labelStart;
+        this.labelLength = labelLength;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.tops = tops;
+    }
+
+    int nodeCount() {
+        return labelStart.length;
+    }
+
+    int poolSize() {
+        return text.length;
+    }
+
+    /**
+     * 접두사로 시작하는 키들의 값 중 순위가 높은 것부터 최대 k개를 반환한다.
+     */
+    int[] lookup(String prefix) {
+        if (labelStart.length == 0) {
+            return EMPTY;
+        }
+        int node = 0;
+        int i = 0;
+        while (i < prefix.length()) {
+            int child = findChild(node, prefix.charAt(i));
+            if (child < 0) {
+                return EMPTY;
+            }
+            int start = labelStart[child];
+            int end = start + labelLength[child];
+            for (int j = start; j < end && i < prefix.length(); j++, i++) {
+                if (text[j] != prefix.charAt(i)) {
+                    return EMPTY;
+                }
+            }
+            node = child;
+        }
+        return Arrays.copyOfRange(tops, topStart[node], topStart[node] + topCount[node]);
+    }
+
+    // 자식들은 라벨 첫 글자 순으로 정렬되어 있으므로 이진 탐색
+    private int findChild(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char label = text[labelStart[mid]];
+            if (label < c) {
+                lo = mid + 1;
+            } else if (label > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 키/값 쌍으로 트라이를 만든다. 같은 키에 여러 값이 있어도 되고, 같은 값이 여러 키에 걸려도 된다.
+     * @param keys 키 목록
+     * @param values keys와 같은 길이의 값 목록 (작을수록 높은 순위)
+     * @param k 노드별로 유지할 상위 값 개수 (최대 127)
+     */
+    static CompactTrie build(String[] keys, int[] values, int k) {
+        int n = keys.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+
+        // 정렬된 키를 빌드용 문자 풀 하나로 합친다
+        int[] keyOffset = new int[n];
+        int[] keyLength = new int[n];
+        int[] sortedValues = new int[n];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            total += keys[order[i]].length();
+        }
+        char[] text = new char[total];
+        int offset = 0;
+        for (int i = 0; i < n; i++) {
+            String key = keys[order[i]];
+            key.getChars(0, key.length(), text, offset);
+            keyOffset[i] = offset;
+            keyLength[i] = key.length();
+            sortedValues[i] = values[order[i]];
+            offset += key.length();
+        }
+
+        // BFS로 노드를 만들며 자식을 연속 구간에 배치한다. 노드 = 정렬된 키의 구간 [lo, hi) + 접두사 길이
+        Nodes nodes = new Nodes(Math.max(16, n * 2));
+        nodes.add(0, n, 0, 0, 0);
+        for (int x = 0; x < nodes.size; x++) {
+            int lo = nodes.lo[x];
+            int hi = nodes.hi[x];
+            int depth = nodes.depth[x];
+
+            int i = lo;
+            while (i < hi && keyLength[i] == depth) {
+                i++; // 이 노드에서 끝나는 키
+            }
+            nodes.terminalEnd[x] = i;
+            nodes.firstChild[x] = nodes.size;
+            while (i < hi) {
+                char c = text[keyOffset[i] + depth];
+                int j = i + 1;
+                while (j < hi && text[keyOffset[j] + depth] == c) {
+                    j++;
+                }
+                // 정렬되어 있으므로 구간의 첫 키와 마지막 키의 공통 접두사가 구간 전체의 공통 접두사
+                int first = keyOffset[i];
+                int last = keyOffset[j - 1];
+                int limit = Math.min(keyLength[i], keyLength[j - 1]);
+                int common = depth + 1;
+                while (common < limit && text[first + common] == text[last + common]) {
+                    common++;
+                }
+                nodes.add(i, j, common, first + depth, common - depth);
+                i = j;
+            }
+            nodes.childCount[x] = nodes.size - nodes.firstChild[x];
+        }
+
+        // 자식부터 거꾸로 올라가며 노드별 상위 k개 값 계산
+        int count = nodes.size;
+        int[][] nodeTops = new int[count][];
+        int[] scratch = new int[64];
+        int topTotal = 0;
+        for (int x = count - 1; x >= 0; x--) {
+            int m = 0;
+            int terminalEnd = nodes.terminalEnd[x];
+            int needed = terminalEnd - nodes.lo[x];
+            int firstChild = nodes.firstChild[x];
+            for (int c = firstChild; c < firstChild + nodes.childCount[x]; c++) {
+                needed += nodeTops[c].length;
+            }
+            if (scratch.length < needed) {
+                scratch = new int[Math.max(needed, scratch.length * 2)];
+            }
+            for (int i = nodes.lo[x]; i < terminalEnd; i++) {
+                scratch[m++] = sortedValues[i];
+            }
+            for (int c = firstChild; c < firstChild + nodes.childCount[x]; c++) {
+                for (int value : nodeTops[c]) {
+                    scratch[m++] = value;
+                }
+            }
+            Arrays.sort(scratch, 0, m);
+            int[] top = new int[Math.min(m, k)];
+            int t = 0;
+            for (int i = 0; i < m && t < top.length; i++) {
+                if (t == 0 || top[t - 1] != scratch[i]) {
+                    top[t++] = scratch[i];
+                }
+            }
+            nodeTops[x] = t == top.length ? top : Arrays.copyOf(top, t);
+            topTotal += t;
+        }
+
+        int[] topStart = new int[count];
+        byte[] topCount = new byte[count];
+        int[] tops = new int[topTotal];
+        int p = 0;
+        for (int x = 0; x < count; x++) {
+            topStart[x] = p;
+            topCount[x] = (byte) nodeTops[x].length;
+            System.arraycopy(nodeTops[x], 0, tops, p, nodeTops[x].length);
+            p += nodeTops[x].length;
+        }
+
+        // 빌드용 풀(키 전체)에서 엣지 라벨만 옮겨 담는다 (공유 접두사는 해당 엣지 하나에만 남음)
+        int poolSize = 0;
+        for (int x = 0; x < count; x++) {
+            poolSize += nodes.labelLength[x];
+        }
+        char[] pool = new char[poolSize];
+        int[] labelStart = new int[count];
+        int q = 0;
+        for (int x = 0; x < count; x++) {
+            System.arraycopy(text, nodes.labelStart[x], pool, q, nodes.labelLength[x]);
+            labelStart[x] = q;
+            q += nodes.labelLength[x];
+        }
+
+        return new CompactTrie(pool,
+                labelStart,
+                Arrays.copyOf(nodes.labelLength, count),
+                Arrays.copyOf(nodes.firstChild, count),
+                Arrays.copyOf(nodes.childCount, count),
+                topStart, topCount, tops);
+    }
+
+    // 빌드 중에만 쓰는 노드 임시 저장소
+    private static final class Nodes {
+        int[] lo;
+        int[] hi;
+        int[] depth;
+        int[] terminalEnd;
+        int[] labelStart;
+        int[] labelLength;
+        int[] firstChild;
+        int[] childCount;
+        int size;
+
+        Nodes(int capacity) {
+            lo = new int[capacity];
+            hi = new int[capacity];
+            depth = new int[capacity];
+            terminalEnd = new int[capacity];
+            labelStart = new int[capacity];
+            labelLength = new int[capacity];
+            firstChild = new int[capacity];
+            childCount = new int[capacity];
+        }
+
+        void add(int lo, int hi, int depth, int labelStart, int labelLength) {
+            if (size == this.lo.length) {
+                int capacity = size + (size >> 1) + 1;
+                this.lo = Arrays.copyOf(this.lo, capacity);
+                this.hi = Arrays.copyOf(this.hi, capacity);
+                this.depth = Arrays.copyOf(this.depth, capacity);
+                terminalEnd = Arrays.copyOf(terminalEnd, capacity);
+                this.labelStart = Arrays.copyOf(this.labelStart, capacity);
+                this.labelLength = Arrays.copyOf(this.labelLength, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+            }
+            this.lo[size] = lo;
+            this.hi[size] = hi;
+            this.depth[size] = depth;
+            this.labelStart[size] = labelStart;
+            this.labelLength[size] = labelLength;
+            size++;
+        }
+    }
+}
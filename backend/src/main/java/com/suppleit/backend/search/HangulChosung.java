@@ -0,0 +1,48 @@
+package com.suppleit.backend.search;
+
+// 한글 초성 추출/판별 (완성형 음절 U+AC00~U+D7A3 기준)
+public final class HangulChosung {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21 × 종성 28
+
+    // 초성 19자 (호환용 자모)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    // 한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다 ("비타민C" → "ㅂㅌㅁC")
+    public static String toChosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosungOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    public static char chosungOf(char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            return CHOSUNG[(c - SYLLABLE_BASE) / SYLLABLES_PER_CHOSUNG];
+        }
+        return c;
+    }
+
+    public static boolean isChosung(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // 초성 자모가 하나라도 있으면 초성 검색으로 처리
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
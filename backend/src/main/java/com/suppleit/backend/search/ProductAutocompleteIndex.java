@@ -0,0 +1,267 @@
+package com.suppleit.backend.search;
+
+import com.suppleit.backend.dto.AutocompleteSuggestionDto;
+import com.suppleit.backend.event.ProductChangedEvent;
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.model.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성용 제품명/업체명 접두사 색인.
+ * 제품명/업체명의 각 단어 시작 위치를 키로 하는 트라이와, 같은 키를 초성으로 바꾼 트라이 두 개를 불변 스냅샷으로 만들어 두고
+ * 조회는 락 없이 스냅샷만 읽는다. 제품 변경 이벤트는 원본 목록에 반영한 뒤 잠시 모아서 스냅샷을 다시 만든다.
+ * 순위는 해당 이름을 쓰는 제품 수가 많은 순 → 짧은 순 → 가나다 순.
+ */
+@Component
+@Slf4j
+public class ProductAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final int TOP_K = 20; // 초성+음절 혼합 검색에서 걸러질 후보까지 고려한 노드별 보관 개수
+
+    private final ProductMapper productMapper;
+    private final long rebuildDelayMillis;
+
+    private Map<Long, String[]> sources = new HashMap<>(); // 제품 ID → {제품명, 업체명} (guarded by this)
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final ScheduledExecutorService rebuilder;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+
+    public ProductAutocompleteIndex(ProductMapper productMapper,
+                                    @Value("${product.autocomplete.rebuild-delay-ms:2000}") long rebuildDelayMillis) {
+        this.productMapper = productMapper;
+        this.rebuildDelayMillis = rebuildDelayMillis;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-autocomplete");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 애플리케이션 기동 완료 후 DB에서 한 번 읽어 스냅샷 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuilder.execute(() -> {
+            Map<Long, String[]> loaded = new HashMap<>();
+            try {
+                productMapper.scanProductsForIndex(context -> {
+                    Product product = context.getResultObject();
+                    loaded.put(product.getPrdId(), new String[] { product.getProductName(), product.getCompanyName() });
+                });
+            } catch (Exception e) {
+                log.error("자동완성 색인 로딩 실패: {}", e.getMessage(), e);
+                return;
+            }
+            synchronized (this) {
+                loaded.putAll(sources); // 로딩 중 들어온 변경분이 더 최신
+                sources = loaded;
+            }
+            rebuild();
+        });
+    }
+
+    // 제품 insert/update 커밋 후 원본 목록 갱신, 스냅샷 재생성은 잠시 모아서 한 번에
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        synchronized (this) {
+            for (Product product : event.getProducts()) {
+                if (product.getPrdId() != null) {
+                    sources.put(product.getPrdId(),
+                            new String[] { product.getProductName(), product.getCompanyName() });
+                }
+            }
+        }
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.schedule(this::rebuild, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 입력 중인 검색어로 자동완성 후보를 찾는다. DB에 접근하지 않는다.
+     * @param query 입력 중인 검색어 (초성만 입력해도 됨: "ㅂㅌㅁ" → 비타민)
+     * @param limit 최대 후보 수 (MAX_SUGGESTIONS 이하)
+     */
+    public List<AutocompleteSuggestionDto> suggest(String query, int limit) {
+        String key = SearchTextNormalizer.normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        limit = Math.min(limit, MAX_SUGGESTIONS);
+        Snapshot current = snapshot;
+
+        List<AutocompleteSuggestionDto> suggestions = new ArrayList<>(limit);
+        if (!HangulChosung.containsChosung(key)) {
+            for (int term : current.trie.lookup(key)) {
+                if (suggestions.size() == limit) {
+                    break;
+                }
+                suggestions.add(current.suggestion(term));
+            }
+            return suggestions;
+        }
+
+        // 초성 트라이로 후보를 찾고, "비ㅌ"처럼 음절이 섞여 있으면 음절 자리는 정확히 일치하는지 확인
+        for (int term : current.chosungTrie.lookup(HangulChosung.toChosung(key))) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            if (matchesMixed(current.keys[term], key)) {
+                suggestions.add(current.suggestion(term));
+            }
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return snapshot.terms.length;
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false);
+        long startedAt = System.currentTimeMillis();
+        List<String[]> rows;
+        synchronized (this) {
+            rows = new ArrayList<>(sources.values());
+        }
+        try {
+            Snapshot fresh = Snapshot.build(rows);
+            snapshot = fresh;
+            log.info("자동완성 색인 생성 완료: 후보 {}건, 노드 {}/{}개, {}ms", fresh.terms.length,
+                    fresh.trie.nodeCount(), fresh.chosungTrie.nodeCount(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("자동완성 색인 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 질의의 초성 자리는 초성만, 음절 자리는 음절 전체가 같아야 일치
+    private static boolean matchesMixed(String termKey, String query) {
+        for (int start = 0; start + query.length() <= termKey.length(); start++) {
+            if (!isWordStart(termKey, start)) {
+                continue;
+            }
+            boolean matched = true;
+            for (int i = 0; i < query.length() && matched; i++) {
+                char q = query.charAt(i);
+                char c = termKey.charAt(start + i);
+                matched = HangulChosung.isChosung(q) ? HangulChosung.chosungOf(c) == q : c == q;
+            }
+            if (matched) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        return index == 0 || Character.isWhitespace(text.charAt(index - 1));
+    }
+
+    // 조회 전용 불변 스냅샷. 후보 ID는 순위 순으로 매겨져 있어 트라이의 값 비교가 곧 순위 비교가 된다
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = build(List.of());
+
+        final String[] terms;     // 표시용 원문
+        final String[] keys;      // 정규화된 원문
+        final boolean[] company;
+        final CompactTrie trie;
+        final CompactTrie chosungTrie;
+
+        private Snapshot(String[] terms, String[] keys, boolean[] company, CompactTrie trie, CompactTrie chosungTrie) {
+            this.terms = terms;
+            this.keys = keys;
+            this.company = company;
+            this.trie = trie;
+            this.chosungTrie = chosungTrie;
+        }
+
+        AutocompleteSuggestionDto suggestion(int term) {
+            return new AutocompleteSuggestionDto(terms[term], company[term] ? "COMPANY" : "PRODUCT");
+        }
+
+        static Snapshot build(List<String[]> rows) {
+            // 같은 이름을 쓰는 제품 수를 가중치로 사용
+            Map<String, Term> byText = new HashMap<>();
+            for (String[] row : rows) {
+                addTerm(byText, row[0], false);
+                addTerm(byText, row[1], true);
+            }
+            List<Term> ranked = new ArrayList<>(byText.values());
+            ranked.sort(Comparator.<Term>comparingInt(term -> -term.weight)
+                    .thenComparingInt(term -> term.text.length())
+                    .thenComparing(term -> term.text));
+
+            int count = ranked.size();
+            String[] terms = new String[count];
+            String[] keys = new String[count];
+            boolean[] company = new boolean[count];
+            List<String> trieKeys = new ArrayList<>();
+            List<String> chosungKeys = new ArrayList<>();
+            List<Integer> owners = new ArrayList<>();
+            for (int id = 0; id < count; id++) {
+                Term term = ranked.get(id);
+                terms[id] = term.text;
+                keys[id] = SearchTextNormalizer.normalize(term.text);
+                company[id] = term.company;
+                String key = keys[id];
+                for (int start = 0; start < key.length(); start++) {
+                    if (isWordStart(key, start) && !Character.isWhitespace(key.charAt(start))) {
+                        String suffix = key.substring(start);
+                        trieKeys.add(suffix);
+                        chosungKeys.add(HangulChosung.toChosung(suffix));
+                        owners.add(id);
+                    }
+                }
+            }
+
+            int[] values = new int[owners.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = owners.get(i);
+            }
+            return new Snapshot(terms, keys, company,
+                    CompactTrie.build(trieKeys.toArray(new String[0]), values, TOP_K),
+                    CompactTrie.build(chosungKeys.toArray(new String[0]), values, TOP_K));
+        }
+
+        private static void addTerm(Map<String, Term> byText, String text, boolean company) {
+            if (text == null || text.isBlank()) {
+                return;
+            }
+            String trimmed = text.trim();
+            Term term = byText.get(trimmed);
+            if (term == null) {
+                byText.put(trimmed, new Term(trimmed, company));
+            } else {
+                term.weight++;
+                term.company &= company; // 제품명으로도 쓰이면 제품으로 표시
+            }
+        }
+    }
+
+    private static final class Term {
+        final String text;
+        boolean company;
+        int weight = 1;
+
+        Term(String text, boolean company) {
+            this.text = text;
+            this.company = company;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.suppleit.backend.search;
+
+import com.suppleit.backend.event.ProductChangedEvent;
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 제품명/업체명/주요기능에 대한 인메모리 n-gram(유니그램 + 바이그램) 역색인.
+ * 한글 음절은 하나의 char이므로 음절 단위 바이그램으로 색인되며,
+ * 후보 문서를 교집합으로 좁힌 뒤 실제 포함 여부를 검증하므로 LIKE '%kw%'와 같은 결과를 낸다.
+ * 정렬은 기존 SQL과 동일하게 (제품명 일치 → 제품명 접두 → 제품명 포함 → 업체명 → 주요기능) 후 제품명 순.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final int TIER_EXACT = 0;
+    private static final int TIER_PREFIX = 1;
+    private static final int TIER_NAME = 2;
+    private static final int TIER_COMPANY = 3;
+    private static final int TIER_FUNCTION = 4;
+
+    private final ProductMapper productMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();                       // guarded by lock
+    private List<Product> pendingChanges = new ArrayList<>(); // 재색인 중 들어온 변경분 (guarded by lock)
+    private boolean building = false;                         // guarded by lock
+    private volatile boolean ready = false;
+
+    // 애플리케이션 기동 완료 후 백그라운드에서 색인 생성 (생성 전까지는 기존 SQL 검색 사용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread.ofVirtual().name("product-search-index").start(this::rebuild);
+    }
+
+    // 제품 테이블 전체를 읽어 색인을 새로 만든 뒤 교체
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        try {
+            productMapper.scanProductsForIndex(context -> fresh.upsert(context.getResultObject()));
+        } catch (Exception e) {
+            log.error("제품 검색 색인 생성 실패, DB 검색으로 대체합니다: {}", e.getMessage(), e);
+            lock.writeLock().lock();
+            try {
+                building = false;
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Product product : pendingChanges) {
+                fresh.upsert(product);
+            }
+            pendingChanges = new ArrayList<>();
+            building = false;
+            index = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("제품 검색 색인 생성 완료: {}건, {}ms", fresh.size, System.currentTimeMillis() - startedAt);
+    }
+
+    // 제품 insert/update 커밋 후 해당 제품만 증분 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (Product product : event.getProducts()) {
+                index.upsert(product);
+                if (building) {
+                    pendingChanges.add(product);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드로 제품 ID를 검색한다.
+     * @param keyword 검색어
+     * @param limit 최대 결과 수
+     * @return 랭킹 순으로 정렬된 제품 ID 목록
+     */
+    public List<Long> search(String keyword, int limit) {
+        String key = SearchTextNormalizer.normalize(keyword);
+        if (key.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드로 제품을 랭킹 순으로 한 페이지 조회한다.
+     * 색인이 준비되어 있으면 해당 페이지의 ID만 PK로 조회하고, 아니면 기존 LIKE 쿼리 결과에서 잘라 쓴다.
+     * @param keyword 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @return 랭킹 순으로 정렬된 제품 목록
+     */
+    public List<Product> findProducts(String keyword, int offset, int limit) {
+        if (!ready) {
+            List<Product> products = productMapper.searchProducts(keyword);
+            if (products.size() <= offset) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(products.subList(offset, Math.min(products.size(), offset + limit)));
+        }
+
+        List<Long> rankedIds = search(keyword, offset + limit);
+        if (rankedIds.size() <= offset) {
+            return new ArrayList<>();
+        }
+        List<Long> pageIds = rankedIds.subList(offset, rankedIds.size());
+
+        Map<Long, Product> productsById = productMapper.getProductsByIds(pageIds).stream()
+                .collect(Collectors.toMap(Product::getPrdId, Function.identity()));
+        return pageIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 단일 문자는 유니그램, 그 외는 바이그램 키. 유니그램은 상위 16비트를 U+FFFF(비문자)로 채워 바이그램과 구분
+    private static int unigramKey(char c) {
+        return 0xFFFF0000 | c;
+    }
+
+    private static int bigramKey(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    // 색인용: 텍스트의 모든 유니그램 + 바이그램 (중복 제거)
+    private static int[] indexGrams(String text) {
+        int length = text.length();
+        if (length == 0) {
+            return new int[0];
+        }
+        int[] grams = new int[length * 2 - 1];
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            grams[n++] = unigramKey(text.charAt(i));
+            if (i + 1 < length) {
+                grams[n++] = bigramKey(text.charAt(i), text.charAt(i + 1));
+            }
+        }
+        return distinct(grams, n);
+    }
+
+    // 검색용: 한 글자면 유니그램, 그 이상이면 바이그램만 사용
+    private static int[] queryGrams(String key) {
+        if (key.length() == 1) {
+            return new int[] { unigramKey(key.charAt(0)) };
+        }
+        int[] grams = new int[key.length() - 1];
+        for (int i = 0; i + 1 < key.length(); i++) {
+            grams[i] = bigramKey(key.charAt(i), key.charAt(i + 1));
+        }
+        return distinct(grams, grams.length);
+    }
+
+    private static int[] distinct(int[] values, int length) {
+        Arrays.sort(values, 0, length);
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            if (n == 0 || values[n - 1] != values[i]) {
+                values[n++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    // 정렬된 int 포스팅 리스트
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] >= doc) {
+                int pos = Arrays.binarySearch(docs, 0, size, doc);
+                if (pos >= 0) {
+                    return;
+                }
+                insertAt(-pos - 1, doc);
+                return;
+            }
+            insertAt(size, doc);
+        }
+
+        void remove(int doc) {
+            int pos = Arrays.binarySearch(docs, 0, size, doc);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+            size--;
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+
+        private void insertAt(int pos, int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+            }
+            System.arraycopy(docs, pos, docs, pos + 1, size - pos);
+            docs[pos] = doc;
+            size++;
+        }
+    }
+
+    private record Hit(int tier, int doc) {
+    }
+
+    // 실제 색인 데이터 (스레드 안전하지 않음 - 바깥 락으로 보호)
+    private static final class Index {
+        private long[] ids = new long[1024];
+        private String[] names = new String[1024];      // 원본 제품명 (동일 등급 내 정렬용)
+        private String[] nameKeys = new String[1024];   // 정규화된 제품명
+        private String[] companyKeys = new String[1024];
+        private int[] functionOf = new int[1024];       // 문서 → 주요기능 텍스트 ID
+        private int size;
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+
+        private final Map<Integer, Postings> nameGrams = new HashMap<>();
+        private final Map<Integer, Postings> companyGrams = new HashMap<>();
+
+        // 주요기능은 정형화된 문구가 많이 반복되므로 중복 제거된 텍스트 단위로 색인한다
+        private final Map<String, Integer> functionIds = new HashMap<>();
+        private final List<String> functionTexts = new ArrayList<>();
+        private final List<Postings> functionDocs = new ArrayList<>();
+        private final Map<Integer, Postings> functionGrams = new HashMap<>();
+
+        void upsert(Product product) {
+            if (product == null || product.getPrdId() == null) {
+                return;
+            }
+            String nameKey = SearchTextNormalizer.normalize(product.getProductName());
+            String companyKey = SearchTextNormalizer.normalize(product.getCompanyName());
+            String functionKey = SearchTextNormalizer.normalize(product.getMainFunction());
+
+            Integer existing = ordinalById.get(product.getPrdId());
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                removeGrams(nameGrams, nameKeys[doc], doc);
+                removeGrams(companyGrams, companyKeys[doc], doc);
+                functionDocs.get(functionOf[doc]).remove(doc);
+            } else {
+                doc = size++;
+                ensureCapacity(size);
+                ids[doc] = product.getPrdId();
+                ordinalById.put(product.getPrdId(), doc);
+            }
+
+            names[doc] = product.getProductName() != null ? product.getProductName() : "";
+            nameKeys[doc] = nameKey;
+            companyKeys[doc] = companyKey;
+            addGrams(nameGrams, nameKey, doc);
+            addGrams(companyGrams, companyKey, doc);
+
+            int functionId = functionId(functionKey);
+            functionOf[doc] = functionId;
+            functionDocs.get(functionId).add(doc);
+        }
+
+        List<Long> search(String key, int limit) {
+            Comparator<Hit> order = Comparator.<Hit>comparingInt(Hit::tier)
+                    .thenComparing(hit -> names[hit.doc()]);
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, order.reversed());
+            int[] grams = queryGrams(key);
+
+            for (int doc : intersect(nameGrams, grams)) {
+                String nameKey = nameKeys[doc];
+                if (!nameKey.contains(key)) {
+                    continue;
+                }
+                int tier = nameKey.equals(key) ? TIER_EXACT
+                        : nameKey.startsWith(key) ? TIER_PREFIX
+                        : TIER_NAME;
+                offer(top, new Hit(tier, doc), limit);
+            }
+
+            // 이미 제품명 등급으로 limit개가 찼으면 하위 등급은 볼 필요가 없다
+            if (top.size() < limit) {
+                for (int doc : intersect(companyGrams, grams)) {
+                    if (companyKeys[doc].contains(key) && !nameKeys[doc].contains(key)) {
+                        offer(top, new Hit(TIER_COMPANY, doc), limit);
+                    }
+                }
+            }
+
+            if (top.size() < limit) {
+                for (int functionId : intersect(functionGrams, grams)) {
+                    if (!functionTexts.get(functionId).contains(key)) {
+                        continue;
+                    }
+                    Postings docs = functionDocs.get(functionId);
+                    for (int i = 0; i < docs.size; i++) {
+                        int doc = docs.docs[i];
+                        if (!nameKeys[doc].contains(key) && !companyKeys[doc].contains(key)) {
+                            offer(top, new Hit(TIER_FUNCTION, doc), limit);
+                        }
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(order);
+            List<Long> result = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                result.add(ids[hit.doc()]);
+            }
+            return result;
+        }
+
+        private void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+            top.offer(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        private int functionId(String text) {
+            Integer id = functionIds.get(text);
+            if (id == null) {
+                id = functionTexts.size();
+                functionIds.put(text, id);
+                functionTexts.add(text);
+                functionDocs.add(new Postings());
+                addGrams(functionGrams, text, id);
+            }
+            return id;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, newLength);
+            names = Arrays.copyOf(names, newLength);
+            nameKeys = Arrays.copyOf(nameKeys, newLength);
+            companyKeys = Arrays.copyOf(companyKeys, newLength);
+            functionOf = Arrays.copyOf(functionOf, newLength);
+        }
+
+        private static void addGrams(Map<Integer, Postings> grams, String text, int doc) {
+            for (int gram : indexGrams(text)) {
+                grams.computeIfAbsent(gram, k -> new Postings()).add(doc);
+            }
+        }
+
+        private static void removeGrams(Map<Integer, Postings> grams, String text, int doc) {
+            for (int gram : indexGrams(text)) {
+                Postings postings = grams.get(gram);
+                if (postings != null) {
+                    postings.remove(doc);
+                    if (postings.size == 0) {
+                        grams.remove(gram);
+                    }
+                }
+            }
+        }
+
+        // 가장 짧은 포스팅부터 교집합
+        private static int[] intersect(Map<Integer, Postings> grams, int[] keys) {
+            Postings[] lists = new Postings[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Postings postings = grams.get(keys[i]);
+                if (postings == null || postings.size == 0) {
+                    return new int[0];
+                }
+                lists[i] = postings;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+
+            int[] result = Arrays.copyOf(lists[0].docs, lists[0].size);
+            int n = result.length;
+            for (int i = 1; i < lists.length && n > 0; i++) {
+                int m = 0;
+                for (int j = 0; j < n; j++) {
+                    if (lists[i].contains(result[j])) {
+                        result[m++] = result[j];
+                    }
+                }
+                n = m;
+            }
+            return n == result.length ? result : Arrays.copyOf(result, n);
+        }
+    }
+}
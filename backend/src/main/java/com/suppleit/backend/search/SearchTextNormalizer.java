@@ -0,0 +1,22 @@
+package com.suppleit.backend.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 검색 색인과 검색어에 공통으로 적용하는 텍스트 정규화
+public final class SearchTextNormalizer {
+
+    private SearchTextNormalizer() {
+    }
+
+    // NFC 정규화(분리형 자모 → 완성형 음절) 후 소문자/공백 정리
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String composed = Normalizer.isNormalized(text, Normalizer.Form.NFC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFC);
+        return composed.toLowerCase(Locale.ROOT).trim();
+    }
+}
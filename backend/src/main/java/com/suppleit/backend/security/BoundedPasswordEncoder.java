@@ -0,0 +1,98 @@
+package com.suppleit.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 검증(matches)을 전용 스레드 풀에서만 실행하는 PasswordEncoder.
+ * 스레드 수와 대기열 길이를 제한해 로그인 폭주(크리덴셜 스터핑 등)가 있어도 BCrypt가 쓰는 CPU는 풀 크기를 넘지 않고,
+ * 대기열이 차거나 제한 시간 안에 차례가 오지 않으면 바로 {@link LoginThrottledException}으로 거절한다.
+ * 해싱(encode)은 가입/비밀번호 변경/소셜 가입과 로그인 후 백그라운드 재해시처럼 거절을 처리하지 않는 경로에서 쓰이므로
+ * 호출 스레드에서 바로 실행한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueSize, long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash").register(meterRegistry);
+        this.rejections = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    // 로그인 요청 스레드에서는 호출되지 않으므로 풀을 거치지 않는다 (거절 없음)
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 비용(strength)이 설정보다 낮으면 true (계산 없음, 풀을 거치지 않는다)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new LoginThrottledException("요청이 많아 잠시 후 다시 시도해 주세요.", 1);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에서 차례를 기다리다 시간 초과: 아직 시작하지 않았다면 실행되지 않는다
+            future.cancel(false);
+            rejections.increment();
+            throw new LoginThrottledException("요청이 많아 잠시 후 다시 시도해 주세요.", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
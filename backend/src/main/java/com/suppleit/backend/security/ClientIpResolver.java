@@ -0,0 +1,78 @@
+package com.suppleit.backend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * nginx 뒤에서 실제 클라이언트 주소를 구한다.
+ * 직접 연결한 쪽이 신뢰하는 프록시(기본값: 루프백과 도커 네트워크 등 사설 대역)일 때만 nginx가 넣는 X-Real-IP를,
+ * 없으면 X-Forwarded-For에서 신뢰하지 않는 가장 오른쪽 주소를 쓴다. 그 외에는 헤더를 무시하고 연결 주소를 쓴다
+ * (외부에서 헤더를 위조해 로그인 한도를 피하지 못하게).
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]{2,45}");
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(
+            @Value("${auth.client-ip.trusted-proxies:127.0.0.1/32,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+            String[] trustedProxies) {
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && IP_LITERAL.matcher(realIp.trim()).matches()) {
+            return realIp.trim();
+        }
+
+        // 프록시가 덧붙인 주소는 오른쪽에 있으므로 뒤에서부터 처음 만나는 신뢰하지 않는 주소가 클라이언트
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!IP_LITERAL.matcher(hop).matches()) {
+                    break;
+                }
+                if (!isTrusted(hop)) {
+                    return hop;
+                }
+            }
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false; // IP 형식이 아님
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,191 @@
+package com.suppleit.backend.security;
+
+import com.suppleit.backend.cache.TtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정별/IP별 로그인 실패 횟수 제한.
+ * 비밀번호 검증 전에 {@link #acquire}로 시도 한 건을 예약하고, 실패 횟수 + 진행 중인 시도가 한도에 닿으면 회원 조회와
+ * BCrypt 검증 전에 바로 거절한다. 확인과 예약이 한 번에 이뤄지므로 동시에 몰려온 요청도 한도를 넘겨 검증되지 않는다.
+ * 실패는 마지막 실패 시각부터 window 동안 유지되며(실패할 때마다 기간이 다시 시작됨), 성공하면 예약만 풀고 계정 카운터를 지운다.
+ * 카운터는 키 해시로 나눈 여러 구역(stripe)의 LRU 캐시에 나눠 담아 동시 로그인끼리 같은 잠금을 다투지 않게 한다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final TtlCache<String, Window>[] accountStripes;
+    private final TtlCache<String, Window>[] ipStripes;
+    private final int maxAccountFailures;
+    private final int maxIpFailures;
+    private final long windowSeconds;
+
+    private final Counter blocked;
+
+    @SuppressWarnings("unchecked")
+    public LoginAttemptLimiter(MeterRegistry meterRegistry,
+                               @Value("${auth.login.max-account-failures:5}") int maxAccountFailures,
+                               @Value("${auth.login.max-ip-failures:50}") int maxIpFailures,
+                               @Value("${auth.login.window-seconds:900}") long windowSeconds,
+                               @Value("${auth.login.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.maxAccountFailures = maxAccountFailures;
+        this.maxIpFailures = maxIpFailures;
+        this.windowSeconds = windowSeconds;
+        this.accountStripes = new TtlCache[STRIPES];
+        this.ipStripes = new TtlCache[STRIPES];
+        long windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        for (int i = 0; i < STRIPES; i++) {
+            accountStripes[i] = new TtlCache<>(Math.max(1, maxTrackedKeys / STRIPES), windowMillis);
+            ipStripes[i] = new TtlCache<>(Math.max(1, maxTrackedKeys / STRIPES), windowMillis);
+        }
+        this.blocked = Counter.builder("auth.login.blocked").register(meterRegistry);
+    }
+
+    /**
+     * 한도를 확인하고 시도 한 건을 예약한다. 결과는 반환된 {@link Attempt}로 알려야 하며,
+     * 실패로 기록하지 않고 닫으면 예약만 풀린다 (try-with-resources로 사용).
+     * @param ip 클라이언트 주소 (없으면 계정만 확인)
+     * @throws LoginThrottledException 한도 초과
+     */
+    public Attempt acquire(String email, String ip) {
+        String accountKey = normalize(email);
+        TtlCache<String, Window> accountStripe = stripe(accountStripes, accountKey);
+        // 잠금 순서는 항상 계정 → IP
+        synchronized (accountStripe) {
+            Window account = window(accountStripe, accountKey);
+            if (ip == null) {
+                if (account.used() >= maxAccountFailures) {
+                    throw throttled();
+                }
+                account.inFlight++;
+                return new Attempt(accountKey, account, null, null);
+            }
+            TtlCache<String, Window> ipStripe = stripe(ipStripes, ip);
+            synchronized (ipStripe) {
+                Window address = window(ipStripe, ip);
+                if (account.used() >= maxAccountFailures || address.used() >= maxIpFailures) {
+                    throw throttled();
+                }
+                account.inFlight++;
+                address.inFlight++;
+                return new Attempt(accountKey, account, ip, address);
+            }
+        }
+    }
+
+    private LoginThrottledException throttled() {
+        blocked.increment();
+        return new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", windowSeconds);
+    }
+
+    // 기존 창을 그대로 쓰고(조회로 기간을 늘리지 않음), 없으면 새로 만든다
+    private static Window window(TtlCache<String, Window> stripe, String key) {
+        Window window = stripe.get(key);
+        if (window == null) {
+            window = new Window();
+            stripe.put(key, window);
+        }
+        return window;
+    }
+
+    // 예약을 실패로 바꾸고 기간을 다시 시작한다 (캐시에 다시 넣어 만료 시각 갱신)
+    private static void fail(TtlCache<String, Window> stripe, String key, Window window) {
+        synchronized (stripe) {
+            window.inFlight--;
+            Window current = stripe.get(key);
+            if (current == null || current == window) {
+                current = window;
+            }
+            // 검증 도중 창이 만료/교체됐으면 현재 창에 실패를 남긴다
+            current.failures++;
+            stripe.put(key, current);
+        }
+    }
+
+    private static void release(TtlCache<String, Window> stripe, Window window) {
+        synchronized (stripe) {
+            window.inFlight--;
+        }
+    }
+
+    private static TtlCache<String, Window> stripe(TtlCache<String, Window>[] stripes, String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+
+    // 키 하나의 실패 수와 진행 중인 시도 수 (해당 stripe 잠금으로 보호)
+    private static final class Window {
+        private int failures;
+        private int inFlight;
+
+        private int used() {
+            return failures + inFlight;
+        }
+    }
+
+    /** 예약된 로그인 시도 한 건 */
+    public final class Attempt implements AutoCloseable {
+        private final String accountKey;
+        private final Window account;
+        private final String ip;
+        private final Window address;
+        private boolean done;
+
+        private Attempt(String accountKey, Window account, String ip, Window address) {
+            this.accountKey = accountKey;
+            this.account = account;
+            this.ip = ip;
+            this.address = address;
+        }
+
+        /** 잘못된 자격 증명: 예약을 실패 횟수로 남긴다 */
+        public void failed() {
+            if (done) {
+                return;
+            }
+            done = true;
+            fail(stripe(accountStripes, accountKey), accountKey, account);
+            if (address != null) {
+                fail(stripe(ipStripes, ip), ip, address);
+            }
+        }
+
+        /** 성공: 계정 카운터를 지운다 (IP 카운터는 여러 계정을 시도하는 경우를 막기 위해 유지) */
+        public void succeeded() {
+            if (done) {
+                return;
+            }
+            close();
+            TtlCache<String, Window> stripe = stripe(accountStripes, accountKey);
+            synchronized (stripe) {
+                if (stripe.get(accountKey) == account && account.inFlight == 0) {
+                    stripe.invalidate(accountKey);
+                } else {
+                    account.failures = 0; // 다른 시도가 진행 중이면 그 예약은 남겨 둔다
+                }
+            }
+        }
+
+        /** 실패로 기록하지 않고 끝난 시도 (계정 없음/소셜 계정 등): 예약만 푼다 */
+        @Override
+        public void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            release(stripe(accountStripes, accountKey), account);
+            if (address != null) {
+                release(stripe(ipStripes, ip), address);
+            }
+        }
+    }
+}
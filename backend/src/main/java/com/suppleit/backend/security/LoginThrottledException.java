@@ -0,0 +1,15 @@
+package com.suppleit.backend.security;
+
+import lombok.Getter;
+
+// 로그인/비밀번호 검증이 호출 제한에 걸렸을 때 (HTTP 429로 응답)
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,14 +1,16 @@
 package com.suppleit.backend.security.jwt;
 
+import com.suppleit.backend.service.MemberDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,14 +18,46 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Bearer 토큰 인증 필터.
+ * 토큰은 요청당 한 번만 검증하고, 검증된 claims를 요청 속성({@link #CLAIMS_ATTRIBUTE})에 담아
+ * 컨트롤러가 다시 파싱하지 않고 쓰게 한다. 요청당 파싱 횟수는 jwt.parse.per-request로 기록한다.
+ * 인증 principal({@link MemberPrincipal})은 토큰의 memberId/role 클레임으로 만들어 회원을 조회하지 않으며,
+ * memberId가 없는 이전 형식 토큰은 이행 기간(jwt.legacy-tokens.accepted) 동안만 회원 캐시로 보완한다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
+    /** 검증된 {@link Claims} 요청 속성 */
+    public static final String CLAIMS_ATTRIBUTE = JwtFilter.class.getName() + ".claims";
+    private static final String PARSE_COUNT_ATTRIBUTE = JwtFilter.class.getName() + ".parseCount";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final MemberDetailsService memberDetailsService;
     private final JwtTokenBlacklistService tokenBlacklistService; // 추가
+    private final boolean legacyTokensAccepted;
+    private final DistributionSummary parsesPerRequest;
+
+    public JwtFilter(JwtTokenProvider jwtTokenProvider,
+                     MemberDetailsService memberDetailsService,
+                     JwtTokenBlacklistService tokenBlacklistService,
+                     boolean legacyTokensAccepted,
+                     MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.memberDetailsService = memberDetailsService;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.legacyTokensAccepted = legacyTokensAccepted;
+        this.parsesPerRequest = DistributionSummary.builder("jwt.parse.per-request").register(meterRegistry);
+    }
+
+    /** 필터 밖(컨트롤러 등)에서 토큰을 다시 파싱했을 때 요청당 파싱 횟수에 더한다 */
+    public static void countParse(HttpServletRequest request) {
+        if (request.getAttribute(PARSE_COUNT_ATTRIBUTE) instanceof AtomicInteger count) {
+            count.incrementAndGet();
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -64,29 +98,45 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 토큰 유효성 검사
-            if (!jwtTokenProvider.validateToken(token)) {
-                log.warn("잘못되거나 만료된 토큰");
+            // 토큰 유효성 검사 (요청당 한 번, 검증된 claims는 컨트롤러가 재사용)
+            AtomicInteger parseCount = new AtomicInteger(1);
+            request.setAttribute(PARSE_COUNT_ATTRIBUTE, parseCount);
+            Claims claims;
+            try {
+                claims = jwtTokenProvider.parseClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                parsesPerRequest.record(parseCount.get());
+                log.warn("잘못되거나 만료된 토큰: {}", e.getMessage());
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "잘못되거나 만료된 토큰");
                 return;
             }
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
 
-            // 사용자 정보 로드 및 인증 설정
-            String email = jwtTokenProvider.getEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-            if (userDetails != null) {
-                Authentication auth = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities()
-                );
-                ((UsernamePasswordAuthenticationToken) auth)
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            } else {
-                log.warn("이메일에 해당하는 사용자 정보를 찾을 수 없음: {}", email);
+            // 인증 설정 (토큰 클레임으로 principal 구성, 회원 조회 없음)
+            MemberPrincipal principal = MemberPrincipal.from(claims);
+            if (principal == null) {
+                // memberId 클레임이 없는 이전 형식 토큰
+                if (!legacyTokensAccepted) {
+                    parsesPerRequest.record(parseCount.get());
+                    log.info("이전 형식 토큰 거부: {}", claims.getSubject());
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "다시 로그인해 주세요");
+                    return;
+                }
+                principal = memberDetailsService.loadPrincipal(claims.getSubject());
             }
+
+            Authentication auth = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities()
+            );
+            ((UsernamePasswordAuthenticationToken) auth)
+                    .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(auth);
             
-            chain.doFilter(request, response);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                parsesPerRequest.record(parseCount.get());
+            }
         } catch (Exception e) {
             log.error("JWT 필터 오류: {}", e.getMessage(), e);
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "인증 오류: " + e.getMessage());
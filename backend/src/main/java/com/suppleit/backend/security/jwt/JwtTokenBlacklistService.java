@@ -1,56 +1,208 @@
 package com.suppleit.backend.security.jwt;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 로그아웃된 토큰 블랙리스트.
+ * 토큰 원문 대신 SHA-256 해시를 Redis에 토큰 만료 시각까지 TTL로 저장하므로 모든 노드에 바로 적용되고 정리 작업이 필요 없다.
+ * 각 노드는 로컬 Bloom filter를 앞에 두어, 블랙리스트에 없는 토큰(거의 모든 요청)은 Redis를 조회하지 않는다.
+ * 추가된 해시는 pub/sub으로 다른 노드의 Bloom filter에도 반영되고, 메시지 유실에 대비해 주기적으로 Redis와 다시 맞춘다.
+ * Bloom filter는 두 세대로 나눠 액세스 토큰 수명마다 교체하므로, 만료된 토큰의 비트는 최대 수명 두 배 안에 사라진다.
+ * Redis 쓰기에 실패한 항목은 메모리에 보관해 두고 주기적으로 다시 써서, Redis가 돌아오면 다른 노드에도 적용되게 한다.
+ */
 @Service
 @Slf4j
 public class JwtTokenBlacklistService {
-    
-    // 메모리 기반 블랙리스트 (토큰 -> 만료 시간)
-    private final Map<String, Long> tokenBlacklist = new ConcurrentHashMap<>();
-    
-    // 토큰을 블랙리스트에 추가
+
+    static final String KEY_PREFIX = "jwt:blacklist:";
+    static final String CHANNEL = "jwt:blacklist";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final long generationMillis;
+
+    private volatile TokenBloomFilter current;
+    private volatile TokenBloomFilter previous;
+    private volatile long rotateAt;
+
+    // Redis에 아직 쓰지 못한 해시 → 토큰 만료 시각
+    private final Map<String, Long> pendingWrites = new ConcurrentHashMap<>();
+
+    private final Counter bloomNegatives;
+    private final Counter confirmed;
+    private final Counter falsePositives;
+    private final Counter redisErrors;
+
+    public JwtTokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${jwt.expiration}") long accessTokenMillis,
+                                    @Value("${jwt.blacklist.bloom.expected-entries:100000}") int expectedEntries,
+                                    @Value("${jwt.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.generationMillis = accessTokenMillis;
+        this.current = new TokenBloomFilter(expectedEntries, falsePositiveRate);
+        this.previous = new TokenBloomFilter(expectedEntries, falsePositiveRate);
+        this.rotateAt = System.currentTimeMillis() + generationMillis;
+
+        this.bloomNegatives = Counter.builder("jwt.blacklist.checks").tag("result", "bloom_negative").register(meterRegistry);
+        this.confirmed = Counter.builder("jwt.blacklist.checks").tag("result", "blacklisted").register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.blacklist.checks").tag("result", "false_positive").register(meterRegistry);
+        this.redisErrors = Counter.builder("jwt.blacklist.checks").tag("result", "redis_error").register(meterRegistry);
+        Gauge.builder("jwt.blacklist.pending-writes", pendingWrites, Map::size).register(meterRegistry);
+
+        // 다른 노드(자기 자신 포함)에서 추가된 해시 구독
+        listenerContainer.addMessageListener(
+                (message, pattern) -> addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    // 토큰을 블랙리스트에 추가 (토큰 만료 시각까지)
     public void addToBlacklist(String token, Long expiryTimeInMillis) {
         if (token == null || token.isEmpty()) {
             log.warn("Attempted to blacklist null or empty token");
             return;
         }
-        
+        long ttl = expiryTimeInMillis - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return; // 이미 만료된 토큰은 어차피 거부된다
+        }
+
+        String hash = JwtTokenProvider.tokenHash(token);
+        addLocal(hash); // Redis 장애 시에도 이 노드에서는 바로 적용
         log.info("Adding token to blacklist, expires at: {}", expiryTimeInMillis);
-        tokenBlacklist.put(token, expiryTimeInMillis);
-        
-        // 만료된 토큰 정리 
-        cleanupExpiredTokens();
+        try {
+            writeToRedis(hash, ttl);
+        } catch (Exception e) {
+            // 로그아웃은 성공시키고, Redis가 돌아오면 retryPendingWrites에서 다시 쓴다
+            pendingWrites.put(hash, expiryTimeInMillis);
+            log.warn("블랙리스트 Redis 저장 실패, 재시도 대기: {}", e.getMessage());
+        }
+    }
+
+    // Redis 쓰기에 실패했던 항목을 다시 쓴다 (Redis가 계속 실패하면 다음 주기로 미룸)
+    @Scheduled(fixedDelayString = "${jwt.blacklist.retry-ms:5000}")
+    public void retryPendingWrites() {
+        for (Map.Entry<String, Long> entry : pendingWrites.entrySet()) {
+            long ttl = entry.getValue() - System.currentTimeMillis();
+            if (ttl > 0) {
+                try {
+                    writeToRedis(entry.getKey(), ttl);
+                } catch (Exception e) {
+                    log.warn("블랙리스트 Redis 재저장 실패, {}건 대기 중: {}", pendingWrites.size(), e.getMessage());
+                    return;
+                }
+            }
+            pendingWrites.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void writeToRedis(String hash, long ttlMillis) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + hash, "1", ttlMillis, TimeUnit.MILLISECONDS);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, hash);
+        } catch (Exception e) {
+            // 다른 노드는 다음 재동기화 때 반영
+            log.warn("블랙리스트 추가 메시지 발행 실패: {}", e.getMessage());
+        }
     }
-    
-    // 토큰이 블랙리스트에 있는지 확인
+
+    // 토큰이 블랙리스트에 있는지 확인 (Bloom filter에 없으면 Redis 조회 없이 false)
     public boolean isBlacklisted(String token) {
         if (token == null || token.isEmpty()) {
             return false;
         }
-        
-        boolean isBlacklisted = tokenBlacklist.containsKey(token);
-        if (isBlacklisted) {
-            log.info("Token is in blacklist");
+
+        String hash = JwtTokenProvider.tokenHash(token);
+        byte[] digest = Base64.getUrlDecoder().decode(hash);
+        rotateIfDue();
+        if (!current.mightContain(digest) && !previous.mightContain(digest)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        if (pendingWrites.containsKey(hash)) {
+            confirmed.increment(); // 이 노드에서 로그아웃했지만 아직 Redis에 쓰지 못한 토큰
+            return true;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + hash))) {
+                confirmed.increment();
+                log.info("Token is in blacklist");
+                return true;
+            }
+            falsePositives.increment();
+            return false;
+        } catch (Exception e) {
+            // 확인할 수 없으면 로그아웃된 토큰으로 간주 (Bloom filter 오탐률만큼만 영향)
+            redisErrors.increment();
+            log.warn("Redis 블랙리스트 조회 실패, 차단으로 처리: {}", e.getMessage());
+            return true;
         }
-        return isBlacklisted;
     }
-    
-    // 주기적으로 만료된 토큰 정리 (선택적)
-    @Scheduled(fixedRate = 600000) // 10분마다 실행
-    public void cleanupExpiredTokens() {
-        long currentTime = System.currentTimeMillis();
-        int beforeSize = tokenBlacklist.size();
-        
-        tokenBlacklist.entrySet().removeIf(entry -> entry.getValue() < currentTime);
-        
-        int afterSize = tokenBlacklist.size();
-        if (beforeSize > afterSize) {
-            log.info("Cleaned up {} expired tokens from blacklist", beforeSize - afterSize);
+
+    // 기동 시와 주기적으로 Redis의 블랙리스트 해시를 로컬 Bloom filter에 반영 (pub/sub 메시지 유실 대비)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.resync-ms:300000}")
+    public void resyncFromRedis() {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                addLocal(keys.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (Exception e) {
+            log.warn("블랙리스트 재동기화 실패: {}", e.getMessage());
+            return;
+        }
+        log.debug("블랙리스트 재동기화: {}건", count);
+    }
+
+    private void addLocal(String hash) {
+        byte[] digest;
+        try {
+            digest = Base64.getUrlDecoder().decode(hash);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 해시 무시: {}", hash);
+            return;
+        }
+        rotateIfDue();
+        current.add(digest);
+    }
+
+    // 액세스 토큰 수명마다 세대 교체: 추가된 해시는 최소 한 수명 동안 남아 있다
+    private void rotateIfDue() {
+        if (System.currentTimeMillis() < rotateAt) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now < rotateAt) {
+                return;
+            }
+            previous = current;
+            current = new TokenBloomFilter(expectedEntries, falsePositiveRate);
+            rotateAt = now + generationMillis;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,37 +1,109 @@
 package com.suppleit.backend.security.jwt;
 
+import com.suppleit.backend.cache.TtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
+/**
+ * JWT 생성/검증.
+ * 파서는 한 번만 만들어 재사용하고, 서명 검증을 통과한 claims는 토큰 해시를 키로 만료 시각(exp)까지 캐시해
+ * 같은 토큰이 다시 오면 HMAC 검증과 JSON 파싱을 건너뛴다 (만료된 토큰은 캐시에서 빠지므로 다시 검증되어 거부됨).
+ * 반환되는 claims는 요청 간에 공유되므로 읽기 전용이다.
+ */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    public static final String MEMBER_ID_CLAIM = "memberId";
+    public static final String ROLE_CLAIM = "role";
+
     private final Key key;
+    private final JwtParser parser;
     private final long expirationTime;
     private final long refreshExpirationTime; // 리프레시 토큰 만료 시간 추가
+    private final TtlCache<String, Claims> verifiedClaims;
+
+    private final Counter cacheHits;
+    private final Counter verified;
+    private final Counter rejected;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.expiration}") long expirationTime,
-            @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationTime) { // 기본값 7일
+            @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationTime, // 기본값 7일
+            @Value("${jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize,
+            MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.expirationTime = expirationTime;
         this.refreshExpirationTime = refreshExpirationTime;
+        this.verifiedClaims = new TtlCache<String, Claims>(claimsCacheMaxSize, expirationTime)
+                .registerMetrics(meterRegistry, "jwt.claims.cache");
+        this.cacheHits = Counter.builder("jwt.parse").tag("result", "cache_hit").register(meterRegistry);
+        this.verified = Counter.builder("jwt.parse").tag("result", "verified").register(meterRegistry);
+        this.rejected = Counter.builder("jwt.parse").tag("result", "rejected").register(meterRegistry);
+    }
+
+    /**
+     * 서명/만료를 검증하고 claims를 반환한다 (검증된 토큰은 만료 시각까지 캐시).
+     * @throws JwtException 잘못되었거나 만료된 토큰 (만료는 {@link ExpiredJwtException})
+     * @throws IllegalArgumentException 빈 토큰
+     */
+    public Claims parseClaims(String token) {
+        String cacheKey = tokenHash(token);
+        Claims cached = verifiedClaims.get(cacheKey);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        Claims claims;
+        try {
+            // 캐시된 claims는 여러 요청이 공유하므로 읽기 전용 사본으로 보관/반환
+            claims = ReadOnlyClaims.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            throw e;
+        }
+        verified.increment();
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            long ttl = expiration.getTime() - System.currentTimeMillis();
+            if (ttl > 0) {
+                verifiedClaims.put(cacheKey, claims, ttl);
+            }
+        }
+        return claims;
+    }
+
+    /** 토큰 원문 대신 보관/비교에 쓰는 SHA-256 해시 (Base64 URL) */
+    public static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
     }
 
-    // JWT 생성 (이메일 + 역할 포함)
-    public String createToken(String email, String role) {
+    // JWT 생성 (회원 ID + 이메일 + 역할 포함, 요청 처리 시 회원 조회 없이 MemberPrincipal을 만든다)
+    public String createToken(Long memberId, String email, String role) {
         return Jwts.builder()
                 .setSubject(email)
-                .claim("role", "ROLE_" + role.toUpperCase())  // ROLE_을 포함하여 저장
+                .claim(MEMBER_ID_CLAIM, memberId)
+                .claim(ROLE_CLAIM, "ROLE_" + role.toUpperCase())  // ROLE_을 포함하여 저장
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -41,7 +113,7 @@ public class JwtTokenProvider {
     // JWT 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
@@ -63,33 +135,18 @@ public class JwtTokenProvider {
 
     // JWT에서 이메일 추출
     public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // JWT에서 역할(role) 추출
     public String getRole(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role", String.class);   // 역할(role) 가져오기
+        return parseClaims(token).get(ROLE_CLAIM, String.class);   // 역할(role) 가져오기
     }
 
     // JWT 만료 여부 확인
     public boolean isJwtExpired(String token) {
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
+            Date expiration = parseClaims(token).getExpiration();
             return expiration.before(new Date());
         } catch (ExpiredJwtException e) {
             return true;  // 토큰이 만료됨
@@ -101,12 +158,7 @@ public class JwtTokenProvider {
     // JWT 만료 시간 가져오기
     public Long getTokenExpirationTime(String token) {
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
+            Date expiration = parseClaims(token).getExpiration();
             return expiration.getTime();
         } catch (JwtException e) {
             return null;
@@ -126,7 +178,7 @@ public class JwtTokenProvider {
     // 리프레시 토큰 검증
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,39 @@
+package com.suppleit.backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 인증된 회원 (SecurityContext의 principal).
+ * 액세스 토큰의 memberId/role 클레임으로 만들어지므로 컨트롤러/서비스가 요청마다 회원을 다시 조회하지 않아도 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberPrincipal {
+
+    private final Long memberId;
+    private final String email;
+    private final String role; // ROLE_USER, ROLE_ADMIN
+
+    /**
+     * 토큰 클레임으로 principal을 만든다.
+     * @return memberId 클레임이 없는 이전 형식 토큰이면 null
+     */
+    public static MemberPrincipal from(Claims claims) {
+        Number memberId = claims.get(JwtTokenProvider.MEMBER_ID_CLAIM, Number.class);
+        String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        if (memberId == null || role == null) {
+            return null;
+        }
+        return new MemberPrincipal(memberId.longValue(), claims.getSubject(), role);
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+}
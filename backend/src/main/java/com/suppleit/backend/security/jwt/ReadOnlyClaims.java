@@ -0,0 +1,123 @@
+package com.suppleit.backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시에 넣어 여러 요청이 함께 쓰는 claims의 읽기 전용 사본.
+ * 파서가 돌려준 {@link Claims}는 수정 가능하므로 복사해 두고, 모든 변경 메서드는 {@link UnsupportedOperationException}.
+ */
+final class ReadOnlyClaims extends AbstractMap<String, Object> implements Claims {
+
+    private final Claims copy;
+    private final Map<String, Object> view;
+
+    private ReadOnlyClaims(Claims claims) {
+        this.copy = Jwts.claims(claims);
+        this.view = Collections.unmodifiableMap(copy);
+    }
+
+    static Claims of(Claims claims) {
+        return claims instanceof ReadOnlyClaims ? claims : new ReadOnlyClaims(claims);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return view.entrySet();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return view.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return view.containsKey(key);
+    }
+
+    @Override
+    public <T> T get(String claimName, Class<T> requiredType) {
+        return copy.get(claimName, requiredType);
+    }
+
+    @Override
+    public String getIssuer() {
+        return copy.getIssuer();
+    }
+
+    @Override
+    public String getSubject() {
+        return copy.getSubject();
+    }
+
+    @Override
+    public String getAudience() {
+        return copy.getAudience();
+    }
+
+    @Override
+    public Date getExpiration() {
+        return copy.getExpiration();
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return copy.getNotBefore();
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return copy.getIssuedAt();
+    }
+
+    @Override
+    public String getId() {
+        return copy.getId();
+    }
+
+    @Override
+    public Claims setIssuer(String iss) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setSubject(String sub) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setAudience(String aud) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setExpiration(Date exp) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setNotBefore(Date nbf) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setIssuedAt(Date iat) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setId(String jti) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("캐시된 JWT claims는 수정할 수 없습니다");
+    }
+}
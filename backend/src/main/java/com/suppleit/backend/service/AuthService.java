@@ -2,15 +2,21 @@ package com.suppleit.backend.service;
 
 import com.suppleit.backend.constants.MemberRole;
 import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.event.MemberChangedEvent;
 import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.LoginAttemptLimiter;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 @Log4j2
@@ -20,33 +26,66 @@ public class AuthService {
     private final MemberMapper memberMapper;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    @Qualifier("backgroundExecutor")
+    private final Executor backgroundExecutor;
     
-    // 로그인 인증 및 JWT 생성
-    public String authenticate(String email, String password) {
-        Member member = memberMapper.getMemberByEmail(email);
-        
-        if (member == null) {
-            throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
-        }
-        
-        String storedPassword = member.getPassword();
-        if (storedPassword == null || storedPassword.isEmpty()) {
-            throw new IllegalArgumentException("비밀번호가 설정되지 않은 계정입니다.");
+    // 로그인 인증 및 JWT 생성 (실패 한도를 넘은 계정/IP는 회원 조회와 BCrypt 전에 거절)
+    public String authenticate(String email, String password, String clientIp) {
+        Member member;
+        try (LoginAttemptLimiter.Attempt attempt = loginAttemptLimiter.acquire(email, clientIp)) {
+            member = memberMapper.getMemberByEmail(email);
+            
+            if (member == null) {
+                attempt.failed();
+                throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
+            }
+            
+            String storedPassword = member.getPassword();
+            if (storedPassword == null || storedPassword.isEmpty()) {
+                throw new IllegalArgumentException("비밀번호가 설정되지 않은 계정입니다.");
+            }
+            
+            // 소셜 로그인 사용자는 일반 로그인 불가
+            if (member.getSocialType() != SocialType.NONE) {
+                throw new IllegalArgumentException("소셜 로그인 계정입니다. 일반 로그인 대신 소셜 로그인 API를 사용하세요.");
+            }
+            
+            // 비밀번호 검증
+            boolean passwordMatch = passwordEncoder.matches(password, storedPassword);
+            if (!passwordMatch) {
+                attempt.failed();
+                throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+            }
+            attempt.succeeded();
         }
+        rehashIfNeeded(member, password);
         
-        // 소셜 로그인 사용자는 일반 로그인 불가
-        if (member.getSocialType() != SocialType.NONE) {
-            throw new IllegalArgumentException("소셜 로그인 계정입니다. 일반 로그인 대신 소셜 로그인 API를 사용하세요.");
+        MemberRole role = (member.getMemberRole() != null) ? member.getMemberRole() : MemberRole.USER;
+        return jwtTokenProvider.createToken(member.getMemberId(), email, role.name());
+    }
+    
+    // 설정된 BCrypt 비용이 바뀌었으면 로그인 성공 후 백그라운드에서 새 비용으로 다시 해시해 저장
+    // (로그인 스레드에서 BCrypt를 한 번 더 돌리지 않는다, 대기열이 차면 다음 로그인 때 다시 시도)
+    private void rehashIfNeeded(Member member, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(member.getPassword())) {
+            return;
         }
-        
-        // 비밀번호 검증
-        boolean passwordMatch = passwordEncoder.matches(password, storedPassword);
-        if (!passwordMatch) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+        String email = member.getEmail();
+        try {
+            backgroundExecutor.execute(() -> {
+                try {
+                    memberMapper.updatePassword(email, passwordEncoder.encode(rawPassword));
+                    eventPublisher.publishEvent(new MemberChangedEvent(email));
+                    log.info("비밀번호 해시 비용 갱신: {}", email);
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 해시 갱신 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 해시 갱신 건너뜀 (대기열 가득 참): {}", email);
         }
-        
-        MemberRole role = (member.getMemberRole() != null) ? member.getMemberRole() : MemberRole.USER;
-        return jwtTokenProvider.createToken(email, role.name());
     }
     
     // 리프레시 토큰으로 새 액세스 토큰 발급
@@ -63,7 +102,7 @@ public class AuthService {
         }
         
         MemberRole role = (member.getMemberRole() != null) ? member.getMemberRole() : MemberRole.USER;
-        return jwtTokenProvider.createToken(email, role.name());
+        return jwtTokenProvider.createToken(member.getMemberId(), email, role.name());
     }
     
     /**
@@ -92,6 +131,7 @@ public class AuthService {
 
         // 비밀번호 업데이트
         memberMapper.updatePassword(email, encryptedTempPassword);
+        eventPublisher.publishEvent(new MemberChangedEvent(email));
         log.info("임시 비밀번호 발급: {}", tempPassword);
 
         return tempPassword;
@@ -99,18 +139,23 @@ public class AuthService {
     
     // 비밀번호 변경
     public boolean changePassword(String email, String oldPassword, String newPassword) {
-        Member member = memberMapper.getMemberByEmail(email);
-    
-        if (member == null) {
-            throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
-        }
-        
-        if (member.getSocialType() != SocialType.NONE) {
-            throw new IllegalArgumentException("소셜 로그인 사용자는 비밀번호를 변경할 수 없습니다.");
-        }
+        Member member;
+        try (LoginAttemptLimiter.Attempt attempt = loginAttemptLimiter.acquire(email, null)) {
+            member = memberMapper.getMemberByEmail(email);
         
-        if (!passwordEncoder.matches(oldPassword, member.getPassword())) {
-            throw new IllegalArgumentException("기존 비밀번호가 일치하지 않습니다.");
+            if (member == null) {
+                throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
+            }
+            
+            if (member.getSocialType() != SocialType.NONE) {
+                throw new IllegalArgumentException("소셜 로그인 사용자는 비밀번호를 변경할 수 없습니다.");
+            }
+            
+            if (!passwordEncoder.matches(oldPassword, member.getPassword())) {
+                attempt.failed();
+                throw new IllegalArgumentException("기존 비밀번호가 일치하지 않습니다.");
+            }
+            attempt.succeeded();
         }
     
         if (passwordEncoder.matches(newPassword, member.getPassword())) {
@@ -119,6 +164,7 @@ public class AuthService {
     
         String encodedNewPassword = passwordEncoder.encode(newPassword);
         memberMapper.updatePassword(email, encodedNewPassword);
+        eventPublisher.publishEvent(new MemberChangedEvent(email));
         
         return true;
     }
@@ -127,5 +173,6 @@ public class AuthService {
     public void updatePassword(String email, String newPassword) {
         String encodedPassword = passwordEncoder.encode(newPassword);
         memberMapper.updatePassword(email, encodedPassword);
+        eventPublisher.publishEvent(new MemberChangedEvent(email));
     }
 }
\ No newline at end of file
@@ -1,14 +1,14 @@
 package com.suppleit.backend.service;
 
 import com.suppleit.backend.dto.FavoriteDto;
+import com.suppleit.backend.event.ProductChangedEvent;
 import com.suppleit.backend.mapper.FavoriteMapper;
-import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.mapper.ProductMapper;
 import com.suppleit.backend.model.Favorite;
-import com.suppleit.backend.model.Member;
 import com.suppleit.backend.model.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,17 +21,12 @@ import java.util.stream.Collectors;
 public class FavoriteService {
 
     private final FavoriteMapper favoriteMapper;
-    private final MemberMapper memberMapper;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 사용자의 즐겨찾기 목록 조회
-    public List<FavoriteDto> getUserFavorites(String email) {
-        Member member = memberMapper.getMemberByEmail(email);
-        if (member == null) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email);
-        }
-        
-        List<Favorite> favorites = favoriteMapper.getFavoritesByMemberId(member.getMemberId());
+    // 사용자의 즐겨찾기 목록 조회 (memberId는 인증 토큰에서)
+    public List<FavoriteDto> getUserFavorites(Long memberId) {
+        List<Favorite> favorites = favoriteMapper.getFavoritesByMemberId(memberId);
         return favorites.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -39,13 +34,7 @@ public class FavoriteService {
 
     // 즐겨찾기 추가
     @Transactional
-    public void addFavorite(String email, FavoriteDto favoriteDto) {
-        // 회원 정보 조회
-        Member member = memberMapper.getMemberByEmail(email);
-        if (member == null) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email);
-        }
-        
+    public void addFavorite(Long memberId, FavoriteDto favoriteDto) {
         // 제품 정보 확인 및 저장
         Product product = productMapper.getProductById(favoriteDto.getPrdId());
         if (product == null) {
@@ -56,12 +45,13 @@ public class FavoriteService {
             product.setCompanyName(favoriteDto.getCompanyName());
             
             productMapper.insertProduct(product);
+            eventPublisher.publishEvent(ProductChangedEvent.of(product));
             log.info("새 제품 저장: {}", favoriteDto.getProductName());
         }
         
         // 이미 즐겨찾기한 제품인지 확인
         Favorite existingFavorite = favoriteMapper.getFavoriteByMemberAndProduct(
-                member.getMemberId(), favoriteDto.getPrdId());
+                memberId, favoriteDto.getPrdId());
         
         if (existingFavorite != null) {
             log.info("이미 즐겨찾기한 제품입니다: {}", favoriteDto.getProductName());
@@ -70,25 +60,18 @@ public class FavoriteService {
         
         // 즐겨찾기 추가
         Favorite favorite = new Favorite();
-        favorite.setMemberId(member.getMemberId());
+        favorite.setMemberId(memberId);
         favorite.setPrdId(favoriteDto.getPrdId());
         
         favoriteMapper.insertFavorite(favorite);
-        log.info("즐겨찾기 추가 완료: {} - {}", email, favoriteDto.getProductName());
+        log.info("즐겨찾기 추가 완료: {} - {}", memberId, favoriteDto.getProductName());
     }
 
     // 즐겨찾기 삭제
     @Transactional
-    public void removeFavorite(String email, Long prdId) {
-        // 회원 정보 조회
-        Member member = memberMapper.getMemberByEmail(email);
-        if (member == null) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email);
-        }
-        
-        // 즐겨찾기 삭제
-        favoriteMapper.deleteFavorite(member.getMemberId(), prdId);
-        log.info("즐겨찾기 삭제 완료: {} - {}", email, prdId);
+    public void removeFavorite(Long memberId, Long prdId) {
+        favoriteMapper.deleteFavorite(memberId, prdId);
+        log.info("즐겨찾기 삭제 완료: {} - {}", memberId, prdId);
     }
 
     // Entity -> DTO 변환
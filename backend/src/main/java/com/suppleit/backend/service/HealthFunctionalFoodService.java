@@ -1,31 +1,46 @@
 package com.suppleit.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.cache.SingleFlight;
+import com.suppleit.backend.cache.TtlCache;
+import com.suppleit.backend.client.PublicDataApiClient;
+import com.suppleit.backend.client.PublicDataPage;
+import com.suppleit.backend.client.PublicDataResponseDecoder;
 import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import com.suppleit.backend.event.ProductChangedEvent;
 import com.suppleit.backend.mapper.ProductMapper;
 import com.suppleit.backend.model.Product;
+import com.suppleit.backend.search.ProductSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class HealthFunctionalFoodService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-    private final ProductMapper productMapper; // 상품 정보를 DB에 저장하기 위한 매퍼 추가
+    private final PublicDataApiClient publicDataApiClient;
+    private final ProductMapper productMapper;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductWriteBehindQueue productWriteBehindQueue; // 상품 정보를 비동기로 DB에 저장
+    private final MeterRegistry meterRegistry;
+
+    // 같은 품목제조신고번호로 동시에 나가는 상세 조회를 하나로 합친다
+    private SingleFlight<String, HealthFunctionalFoodDto> detailFlight;
+
+    // 품목제조신고번호 → 상세정보 (메모리 → DB → API 순으로 읽는 read-through 캐시)
+    private TtlCache<String, HealthFunctionalFoodDto> detailCache;
 
     @Value("${api.health-functional-food.url}")
     private String apiUrl;
@@ -33,6 +48,32 @@ public class HealthFunctionalFoodService {
     @Value("${api.health-functional-food.key}")
     private String serviceKey;
 
+    @Value("${health-food.detail.timeout-ms:15000}")
+    private long detailTimeoutMillis;
+
+    @Value("${health-food.detail.cache.max-size:5000}")
+    private int detailCacheMaxSize;
+
+    @Value("${health-food.detail.cache.ttl-seconds:3600}")
+    private long detailCacheTtlSeconds;
+
+    @PostConstruct
+    public void init() {
+        detailFlight = new SingleFlight<>("health-food.detail.api", detailTimeoutMillis, meterRegistry);
+        detailCache = new TtlCache<String, HealthFunctionalFoodDto>(detailCacheMaxSize, detailCacheTtlSeconds * 1000)
+                .registerMetrics(meterRegistry, "health-food.detail.cache");
+    }
+
+    // 제품 정보가 바뀌면 캐시된 상세정보를 버려 다음 조회 때 DB에서 다시 읽게 한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        for (Product product : event.getProducts()) {
+            if (product.getRegistrationNo() != null) {
+                detailCache.invalidate(product.getRegistrationNo().trim());
+            }
+        }
+    }
+
     /**
      * 건강기능식품 상세정보를 검색하는 메서드
      * @param keyword 검색어 (제품명)
@@ -56,148 +97,81 @@ public class HealthFunctionalFoodService {
             
             log.debug("요청 URL: {}", uri);
             
-            // API 호출
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
+            // API 호출 (응답을 스트림으로 바로 디코딩)
+            PublicDataPage response = publicDataApiClient.fetch(uri);
             
-            // 응답 파싱
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                // 응답 구조 확인
-                JsonNode header = root.path("header");
-                String resultCode = header.path("resultCode").asText();
-                String resultMsg = header.path("resultMsg").asText();
-                
-                if (!"00".equals(resultCode)) {
-                    log.error("API 오류 응답: {}, {}", resultCode, resultMsg);
-                    return new ArrayList<>();
-                }
-                
-                JsonNode body = root.path("body");
-                int totalCount = body.path("totalCount").asInt();
-                log.info("검색 결과 총 건수: {}", totalCount);
-                
-                List<HealthFunctionalFoodDto> results = new ArrayList<>();
-                JsonNode items = body.path("items");
-                
-                // API 응답 구조에 맞게 수정
-                if (items.isArray() && items.size() > 0) {
-                    for (JsonNode item : items) {
-                        HealthFunctionalFoodDto dto = parseHealthFoodItem(item);
-                        if (dto != null) {
-                            results.add(dto);
-                            saveToDatabase(dto); // DB에 저장
-                        }
-                    }
-                }
-                
-                log.info("검색 완료: {}건 조회됨", results.size());
-                return results;
-            } else {
-                log.error("API 응답 오류: {}", response.getStatusCode());
+            if (response.isThrottled()) {
+                // 호출 한도에 걸리면 이미 저장된 제품에서만 찾는다
+                log.info("공공데이터 API 호출 제한, DB 저장분으로 응답: 키워드={}", keyword);
+                return searchFromDatabase(keyword, pageNo, numOfRows);
+            }
+
+            if (!response.isSuccess()) {
+                log.error("API 오류 응답: {}, {}", response.getResultCode(), response.getResultMsg());
                 return new ArrayList<>();
             }
             
+            log.info("검색 결과 총 건수: {}", response.getTotalCount());
+            
+            List<HealthFunctionalFoodDto> results = new ArrayList<>();
+            for (HealthFunctionalFoodDto dto : response.getItems()) {
+                results.add(dto);
+                saveToDatabase(dto); // DB에 저장
+            }
+            
+            log.info("검색 완료: {}건 조회됨", results.size());
+            return results;
+            
         } catch (Exception e) {
             log.error("건강기능식품 검색 중 오류 발생", e);
             return new ArrayList<>();
         }
     }
     
+    // 제품 테이블에서 검색해 API 응답 형식으로 변환 (색인이 준비되어 있으면 해당 페이지의 ID만 PK로 조회)
+    private List<HealthFunctionalFoodDto> searchFromDatabase(String keyword, int pageNo, int numOfRows) {
+        int from = Math.max(0, (pageNo - 1) * numOfRows);
+        return productSearchIndex.findProducts(keyword, from, numOfRows).stream()
+                .map(HealthFunctionalFoodService::toDetailDto)
+                .collect(Collectors.toList());
+    }
+
     /**
-     * API 결과를 데이터베이스에 저장
+     * API 결과를 데이터베이스에 저장 (write-behind 큐에 적재, 존재 여부는 upsert로 처리)
      */
     private void saveToDatabase(HealthFunctionalFoodDto dto) {
         try {
-            // Product 객체로 변환
-            Product product = new Product();
-            
-            // 제품번호 생성 (등록번호가 있으면 이용, 없으면 제품명 해시코드 활용)
-            String registrationNo = dto.getSttemntNo();
-            Long productId;
-            
-            if (registrationNo != null && !registrationNo.isEmpty()) {
-                // 신고번호에서 숫자만 추출
-                String numericPart = registrationNo.replaceAll("[^0-9]", "");
-                if (!numericPart.isEmpty()) {
-                    try {
-                        productId = Long.parseLong(numericPart);
-                    } catch (NumberFormatException e) {
-                        productId = Math.abs((long) registrationNo.hashCode());
-                    }
-                } else {
-                    productId = Math.abs((long) registrationNo.hashCode());
-                }
-            } else {
-                productId = Math.abs((long) dto.getPrduct().hashCode());
-            }
-            
-            // 이미 DB에 있는지 확인
-            Product existingProduct = productMapper.getProductById(productId);
-            if (existingProduct != null) {
-                log.debug("이미 DB에 존재하는 제품: {}", dto.getPrduct());
-                return;
-            }
-            
-            // Product 객체 설정
-            product.setPrdId(productId);
-            product.setProductName(dto.getPrduct());
-            product.setCompanyName(dto.getEntrps());
-            product.setRegistrationNo(dto.getSttemntNo());
-            product.setExpirationPeriod(dto.getDistbPd());
-            product.setSrvUse(dto.getSrvUse());
-            product.setMainFunction(dto.getMainFnctn());
-            product.setPreservation(dto.getPrsrvPd());
-            product.setIntakeHint(dto.getIntakeHint());
-            product.setBaseStandard(dto.getBaseStandard());
-            
-            // DB 저장
-            productMapper.insertProduct(product);
-            log.info("공공데이터 API 결과를 DB에 저장: {}", dto.getPrduct());
+            // DB 저장 대기열에 적재
+            productWriteBehindQueue.enqueue(toProduct(dto));
+            log.debug("공공데이터 API 결과 저장 대기: {}", dto.getPrduct());
         } catch (Exception e) {
             log.error("DB 저장 중 오류: {}", e.getMessage(), e);
         }
     }
-    
+
     /**
-     * JSON 응답에서 건강기능식품 정보 파싱
+     * API 항목을 Product 객체로 변환 (카탈로그 동기화 작업과 공용)
      */
-    private HealthFunctionalFoodDto parseHealthFoodItem(JsonNode itemNode) {
-        // item이 제대로 포맷되어 있는지 확인
-        JsonNode item = itemNode.has("item") ? itemNode.get("item") : itemNode;
-        
-        HealthFunctionalFoodDto dto = new HealthFunctionalFoodDto();
-        
-        try {
-            dto.setPrduct(getTextSafely(item, "PRDUCT")); // 제품명
-            dto.setEntrps(getTextSafely(item, "ENTRPS")); // 업체명
-            dto.setSttemntNo(getTextSafely(item, "STTEMNT_NO")); // 품목제조신고번호
-            dto.setRegistDt(getTextSafely(item, "REGIST_DT")); // 등록일자
-            dto.setDistbPd(getTextSafely(item, "DISTB_PD")); // 유통기한
-            dto.setSungsang(getTextSafely(item, "SUNGSANG")); // 성상
-            dto.setSrvUse(getTextSafely(item, "SRV_USE")); // 섭취방법
-            dto.setPrsrvPd(getTextSafely(item, "PRSRV_PD")); // 보관방법
-            dto.setIntakeHint(getTextSafely(item, "INTAKE_HINT1")); // 섭취 시 주의사항
-            dto.setMainFnctn(getTextSafely(item, "MAIN_FNCTN")); // 주요기능
-            dto.setBaseStandard(getTextSafely(item, "BASE_STANDARD")); // 기준규격
-        } catch (Exception e) {
-            log.error("건강기능식품 정보 파싱 중 오류: {}", e.getMessage());
-            return null;
-        }
-        
-        return dto;
+    public static Product toProduct(HealthFunctionalFoodDto dto) {
+        Product product = new Product();
+
+        // 제품번호 생성 (등록번호가 있으면 이용, 없으면 제품명 해시코드 활용)
+        Long productId = PublicDataResponseDecoder.productIdOf(dto.getSttemntNo(), dto.getPrduct());
+
+        // Product 객체 설정
+        product.setPrdId(productId);
+        product.setProductName(dto.getPrduct());
+        product.setCompanyName(dto.getEntrps());
+        product.setRegistrationNo(dto.getSttemntNo());
+        product.setExpirationPeriod(dto.getDistbPd());
+        product.setSrvUse(dto.getSrvUse());
+        product.setMainFunction(dto.getMainFnctn());
+        product.setPreservation(dto.getPrsrvPd());
+        product.setIntakeHint(dto.getIntakeHint());
+        product.setBaseStandard(dto.getBaseStandard());
+        return product;
     }
     
-    /**
-     * JSON 노드에서 안전하게 텍스트 추출
-     */
-    private String getTextSafely(JsonNode node, String fieldName) {
-        if (node == null || node.path(fieldName).isMissingNode()) {
-            return "";
-        }
-        return node.path(fieldName).asText("").trim();
-    }
-
     /**
      * 건강기능식품 상세정보 조회 메서드
      * @param sttemntNo 품목제조신고번호
@@ -206,6 +180,61 @@ public class HealthFunctionalFoodService {
     public HealthFunctionalFoodDto getHealthFunctionalFoodDetail(String sttemntNo) {
         log.info("건강기능식품 상세정보 조회: 품목제조신고번호={}", sttemntNo);
         
+        if (sttemntNo == null || sttemntNo.isBlank()) {
+            return null;
+        }
+        String key = sttemntNo.trim();
+
+        HealthFunctionalFoodDto cached = detailCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 이미 제품 테이블에 있는 제품은 외부 API를 거치지 않는다
+        try {
+            Product product = productMapper.getProductByRegistrationNo(key);
+            if (hasDetail(product)) {
+                HealthFunctionalFoodDto detail = toDetailDto(product);
+                detailCache.put(key, detail);
+                return detail;
+            }
+        } catch (Exception e) {
+            log.warn("DB 상세정보 조회 실패, 외부 API로 조회: {}", e.getMessage());
+        }
+
+        try {
+            HealthFunctionalFoodDto detail = detailFlight.call(key, () -> fetchDetail(key));
+            if (detail != null) {
+                detailCache.put(key, detail);
+                saveToDatabase(detail); // 다음 조회부터는 DB에서 읽도록 저장
+            }
+            return detail;
+        } catch (Exception e) {
+            log.error("건강기능식품 상세정보 조회 중 오류 발생", e);
+            return null;
+        }
+    }
+
+    // 즐겨찾기 등으로 이름만 저장된 행은 상세정보가 없으므로 API로 채운다
+    private static boolean hasDetail(Product product) {
+        return product != null && (product.getMainFunction() != null || product.getSrvUse() != null);
+    }
+
+    private static HealthFunctionalFoodDto toDetailDto(Product product) {
+        return HealthFunctionalFoodDto.builder()
+                .prduct(product.getProductName())
+                .entrps(product.getCompanyName())
+                .sttemntNo(product.getRegistrationNo())
+                .distbPd(product.getExpirationPeriod())
+                .srvUse(product.getSrvUse())
+                .prsrvPd(product.getPreservation())
+                .intakeHint(product.getIntakeHint())
+                .mainFnctn(product.getMainFunction())
+                .baseStandard(product.getBaseStandard())
+                .build();
+    }
+
+    private HealthFunctionalFoodDto fetchDetail(String sttemntNo) {
         try {
             // API 요청 URL 구성 - 상세 조회용 엔드포인트로 수정
             URI uri = UriComponentsBuilder.fromUriString(apiUrl + "/getHtfsItem01")
@@ -219,38 +248,27 @@ public class HealthFunctionalFoodService {
             
             log.debug("요청 URL: {}", uri);
             
-            // API 호출
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
+            // API 호출 (응답을 스트림으로 바로 디코딩)
+            PublicDataPage response = publicDataApiClient.fetch(uri);
             
-            // 응답 파싱
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                // 응답 구조 확인
-                JsonNode header = root.path("header");
-                String resultCode = header.path("resultCode").asText();
-                String resultMsg = header.path("resultMsg").asText();
-                
-                if (!"00".equals(resultCode)) {
-                    log.error("API 오류 응답: {}, {}", resultCode, resultMsg);
-                    return null;
-                }
-                
-                JsonNode body = root.path("body");
-                JsonNode items = body.path("items");
-                
-                if (items.isArray() && items.size() > 0) {
-                    // 첫 번째 항목만 가져오기
-                    return parseHealthFoodItem(items.get(0));
-                }
-                
-                log.info("해당 품목제조신고번호로 조회된 결과 없음");
+            if (response.isThrottled()) {
+                log.info("공공데이터 API 호출 제한으로 상세정보 조회 생략: {}", sttemntNo);
                 return null;
-            } else {
-                log.error("API 응답 오류: {}", response.getStatusCode());
+            }
+
+            if (!response.isSuccess()) {
+                log.error("API 오류 응답: {}, {}", response.getResultCode(), response.getResultMsg());
                 return null;
             }
             
+            if (!response.getItems().isEmpty()) {
+                // 첫 번째 항목만 가져오기
+                return response.getItems().get(0);
+            }
+            
+            log.info("해당 품목제조신고번호로 조회된 결과 없음");
+            return null;
+            
         } catch (Exception e) {
             log.error("건강기능식품 상세정보 조회 중 오류 발생", e);
             return null;
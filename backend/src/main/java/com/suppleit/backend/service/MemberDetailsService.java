@@ -1,24 +1,121 @@
 package com.suppleit.backend.service;
 
+import com.suppleit.backend.cache.TtlCache;
 import com.suppleit.backend.constants.SocialType;
 import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.event.MemberChangedEvent;
 import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Member;
-import lombok.RequiredArgsConstructor;
+import com.suppleit.backend.security.jwt.MemberPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * JWT 인증 요청마다 쓰는 UserDetails 조회.
+ * 이메일별로 TTL 캐시에 보관해 요청마다 member 테이블을 조회하지 않고,
+ * 회원 정보가 바뀌면(MemberChangedEvent) 커밋 직후 로컬 캐시를 비우고 Redis pub/sub으로 다른 노드에도 알린다.
+ * DB 조회 도중 무효화가 끼어들면 조회한 값이 이미 낡았을 수 있으므로, 이메일별 무효화 세대를 조회 전후로 비교해
+ * 바뀌었으면 캐시에 넣지 않는다.
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class MemberDetailsService implements UserDetailsService {
 
+    static final String INVALIDATION_CHANNEL = "member:changed";
+
+    // 무효화 세대 줄무늬 수 (이메일 해시로 나눔, 충돌하면 캐시 저장을 한 번 건너뛸 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
     private final MemberMapper memberMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TtlCache<String, CachedMember> userDetailsCache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public MemberDetailsService(MemberMapper memberMapper,
+                                RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry,
+                                @Value("${member.details-cache.max-size:10000}") int maxSize,
+                                @Value("${member.details-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberMapper = memberMapper;
+        this.redisTemplate = redisTemplate;
+        this.userDetailsCache = new TtlCache<String, CachedMember>(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds))
+                .registerMetrics(meterRegistry, "member.details.cache");
+        // 다른 노드(자기 자신 포함)에서 발행한 무효화 메시지 구독
+        listenerContainer.addMessageListener(
+                (message, pattern) -> invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        // 인증 과정에서 자격 증명이 지워질 수 있으므로(eraseCredentials) 캐시된 인스턴스는 그대로 내보내지 않는다
+        return User.withUserDetails(load(email).details()).build();
+    }
+
+    /**
+     * memberId 클레임이 없는 이전 형식 토큰용: 이메일로 회원을 찾아 principal을 만든다 (캐시 사용).
+     */
+    public MemberPrincipal loadPrincipal(String email) throws UsernameNotFoundException {
+        CachedMember member = load(email);
+        String role = member.details().getAuthorities().iterator().next().getAuthority();
+        return new MemberPrincipal(member.memberId(), email, role);
+    }
+
+    private CachedMember load(String email) {
+        CachedMember cached = userDetailsCache.get(email);
+        if (cached == null) {
+            int stripe = stripe(email);
+            long generation = generations.get(stripe);
+            cached = loadFromDatabase(email);
+            if (generations.get(stripe) == generation) {
+                userDetailsCache.put(email, cached);
+                // 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 값을 다시 뺀다
+                if (generations.get(stripe) != generation) {
+                    userDetailsCache.invalidate(email);
+                }
+            }
+        }
+        return cached;
+    }
+
+    // 세대를 먼저 올려 진행 중인 조회가 낡은 값을 캐시에 넣지 못하게 한 뒤 캐시를 비운다
+    private void invalidate(String email) {
+        generations.incrementAndGet(stripe(email));
+        userDetailsCache.invalidate(email);
+    }
+
+    private static int stripe(String email) {
+        return Math.floorMod(email.hashCode(), GENERATION_STRIPES);
+    }
+
+    // 회원 변경 커밋 후 로컬 캐시를 비우고 다른 노드에 알린다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.getEmail());
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getEmail());
+        } catch (Exception e) {
+            // 다른 노드는 TTL이 지나면 갱신된다
+            log.warn("회원 캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private CachedMember loadFromDatabase(String email) {
         Member member = memberMapper.getMemberByEmail(email);
         if (member == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email);
@@ -30,9 +127,13 @@ public class MemberDetailsService implements UserDetailsService {
             password = member.getPassword();
         }
 
-        return User.withUsername(member.getEmail())
+        UserDetails details = User.withUsername(member.getEmail())
                 .password(password)
                 .roles(member.getMemberRole() != null ? member.getMemberRole().name() : MemberRole.USER.name())  // ✅ memberRole이 null이면 기본값 "USER" 설정
                 .build();
+        return new CachedMember(member.getMemberId(), details);
+    }
+
+    private record CachedMember(Long memberId, UserDetails details) {
     }
 }
@@ -3,10 +3,12 @@ package com.suppleit.backend.service;
 import com.suppleit.backend.constants.MemberRole;
 import com.suppleit.backend.constants.SocialType;
 import com.suppleit.backend.dto.MemberDto;
+import com.suppleit.backend.event.MemberChangedEvent;
 import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Member;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,7 @@ public class MemberService {
 
     private final MemberMapper memberMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입
     @Transactional
@@ -139,6 +142,7 @@ public class MemberService {
         }
         
         memberMapper.updateMemberInfo(existingMember);
+        eventPublisher.publishEvent(new MemberChangedEvent(email));
         log.info("회원 정보 수정 완료: {}", existingMember.getEmail());
     }
 
@@ -164,6 +168,7 @@ public class MemberService {
 
         // DB에서 회원 정보 삭제
         memberMapper.deleteMemberByEmail(email);
+        eventPublisher.publishEvent(new MemberChangedEvent(email));
         log.info("회원 탈퇴 완료: {}", email);
     }
     // 비밀번호 검증 메소드 추가
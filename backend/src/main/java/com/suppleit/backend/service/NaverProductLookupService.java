@@ -0,0 +1,167 @@
+package com.suppleit.backend.service;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.suppleit.backend.cache.SingleFlight;
+import com.suppleit.backend.cache.TtlCache;
+import com.suppleit.backend.client.NaverShoppingClient;
+import com.suppleit.backend.dto.ProductResponse;
+import com.suppleit.backend.recommend.ProductRelevanceScorer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 키워드 → 네이버 쇼핑 상품 매칭.
+ * 최적화한 질의 문자열을 키로 결과를 캐시한다. 찾은 상품뿐 아니라 "결과 없음/허용 카테고리 없음"도
+ * 짧은 TTL로 캐시해 같은 질의가 다시 네이버를 호출하지 않게 한다 (호출 제한/오류는 캐시하지 않음).
+ * 직접 검색과 추천 키워드 검색이 같은 캐시를 쓰고, 동시에 들어온 같은 질의는 한 번만 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NaverProductLookupService {
+
+  private final NaverShoppingClient naverShoppingClient;
+  private final ProductRelevanceScorer productRelevanceScorer;
+  private final MeterRegistry meterRegistry;
+
+  // 값이 비어 있으면 네거티브 캐시 (찾아봤지만 적합한 상품 없음)
+  private TtlCache<String, Optional<ProductResponse>> lookupCache;
+  private SingleFlight<String, Optional<ProductResponse>> lookupFlight;
+
+  @Value("${naver.lookup.cache.max-size:10000}")
+  private int cacheMaxSize;
+
+  @Value("${naver.lookup.cache.ttl-seconds:1800}")
+  private long cacheTtlSeconds;
+
+  @Value("${naver.lookup.cache.negative-ttl-seconds:300}")
+  private long negativeTtlSeconds;
+
+  @Value("${naver.lookup.timeout-ms:5000}")
+  private long lookupTimeoutMillis;
+
+  @PostConstruct
+  public void init() {
+    lookupCache = new TtlCache<String, Optional<ProductResponse>>(cacheMaxSize, cacheTtlSeconds * 1000)
+        .registerMetrics(meterRegistry, "naver.lookup.cache");
+    lookupFlight = new SingleFlight<>("naver.lookup", lookupTimeoutMillis, meterRegistry);
+  }
+
+  /**
+   * 네이버 쇼핑에서 질의에 가장 적합한 식품 상품 하나를 찾는다.
+   * 결과가 없으면 첫 단어만으로 다시 검색한다.
+   * @return 찾은 상품, 없으면 null
+   */
+  public ProductResponse lookup(String query) {
+    log.debug("Searching for product on Naver with query: {}", query);
+    try {
+      // 쿼리 최적화 (특수문자 제거, 키워드 정리 등) - 캐시 키로도 사용
+      String optimizedQuery = optimizeSearchQuery(query);
+      Optional<ProductResponse> cached = lookupCache.get(optimizedQuery);
+      if (cached != null) {
+        return cached.orElse(null);
+      }
+
+      Optional<ProductResponse> resolved = lookupFlight.call(optimizedQuery, () -> resolve(optimizedQuery));
+      return resolved != null ? resolved.orElse(null) : null;
+    } catch (Exception e) {
+      log.error("Error occurred while processing query: {}, Exception: {}", query, e.getMessage());
+    }
+
+    return null;
+  }
+
+  // 네이버를 호출해 결과를 캐시한다. 호출 제한/장애로 확인하지 못했으면 캐시하지 않고 null
+  private Optional<ProductResponse> resolve(String optimizedQuery) {
+    // 속도 제한은 공유 토큰 버킷이 처리 (여유가 있으면 바로 호출)
+    JsonNode items = naverShoppingClient.searchItems(optimizedQuery, 5); // 여러 결과를 가져와서 최적의 결과 선택
+    if (items == null) {
+      return null;
+    }
+
+    ProductResponse product = null;
+    if (items.size() > 0) {
+      // 최적의 결과 선택
+      JsonNode bestItem = findBestMatch(items, optimizedQuery);
+
+      if (bestItem != null) {
+        String category = bestItem.path("category1").asText();
+        log.info("Found product: {} with price: {}, category: {}",
+            bestItem.path("title").asText(),
+            bestItem.path("lprice").asInt(0),
+            category);
+
+        product = new ProductResponse(
+            bestItem.path("title").asText(),
+            bestItem.path("link").asText(),
+            bestItem.path("image").asText(),
+            bestItem.path("lprice").asInt(0),
+            category, // 카테고리 정보도 함께 저장 (ProductResponse 클래스에 필드 추가 필요)
+            false); // 실제 상품이므로 isDummy = false
+      }
+    } else {
+      log.warn("No items found for query: {}", optimizedQuery);
+
+      // 대체 쿼리 시도 (키워드 단순화) - 단순화한 질의도 같은 캐시를 거친다
+      if (optimizedQuery.contains(" ")) {
+        String simplifiedQuery = optimizedQuery.split(" ")[0]; // 첫번째 단어만 사용
+        log.info("Trying simplified query: {}", simplifiedQuery);
+        String simplifiedKey = optimizeSearchQuery(simplifiedQuery);
+        Optional<ProductResponse> simplified = lookupCache.get(simplifiedKey);
+        if (simplified == null) {
+          simplified = resolve(simplifiedKey);
+          if (simplified == null) {
+            return null;
+          }
+        }
+        product = simplified.orElse(null);
+      }
+    }
+
+    Optional<ProductResponse> result = Optional.ofNullable(product);
+    lookupCache.put(optimizedQuery, result, product != null ? cacheTtlSeconds * 1000 : negativeTtlSeconds * 1000);
+    return result;
+  }
+
+  // 쿼리 최적화 메소드
+  private String optimizeSearchQuery(String query) {
+    // 괄호와 특수문자 제거
+    return query.replaceAll("[\\(\\)\\[\\]\\{\\}]", "").trim();
+  }
+
+  // 가장 적합한 결과 찾기 (질의는 한 번만 전처리)
+  private JsonNode findBestMatch(JsonNode items, String originalQuery) {
+    JsonNode bestItem = null;
+    int highestScore = -1;
+    ProductRelevanceScorer.Query query = productRelevanceScorer.prepare(originalQuery);
+
+    for (JsonNode item : items) {
+      String title = item.path("title").asText();
+      String category = item.path("category1").asText(); // 네이버 API의 카테고리 필드
+
+      // 제외/비허용 카테고리는 건너뛰기
+      int score = productRelevanceScorer.score(query, category, title);
+      if (score == ProductRelevanceScorer.REJECTED) {
+        if (log.isDebugEnabled()) {
+          log.debug("Skipping item in category: {}, title: {}", category, ProductRelevanceScorer.stripTags(title));
+        }
+        continue;
+      }
+
+      if (score > highestScore) {
+        highestScore = score;
+        bestItem = item;
+      }
+    }
+
+    return bestItem;
+  }
+}
@@ -2,7 +2,6 @@ package com.suppleit.backend.service;
 
 import com.suppleit.backend.dto.NoticeDto;
 import com.suppleit.backend.mapper.NoticeMapper;
-import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Notice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +22,6 @@ public class NoticeService {
     private int maxContentLength; // 기본값 16000자
 
     private final NoticeMapper noticeMapper;
-    private final MemberMapper memberMapper;
     private final FileService fileService;
 
     // 모든 공지사항 조회
@@ -247,9 +245,4 @@ public class NoticeService {
         noticeMapper.deleteNotice(noticeId);
         log.info("공지사항 삭제 완료, ID: {}", noticeId);
     }
-
-    // 이메일을 통해 member_id 가져오기
-    public Long getMemberIdByEmail(String email) {
-        return memberMapper.getMemberByEmail(email).getMemberId();
-    }
 }
\ No newline at end of file
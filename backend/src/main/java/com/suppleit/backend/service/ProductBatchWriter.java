@@ -0,0 +1,41 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.event.ProductChangedEvent;
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 제품 다건 INSERT ... ON DUPLICATE KEY UPDATE를 MyBatis 배치 세션으로 실행
+@Component
+@RequiredArgsConstructor
+public class ProductBatchWriter {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 제품 목록을 chunkSize 단위의 다건 upsert로 나눠 한 번에 커밋한다.
+     * 커밋 후 ProductChangedEvent를 발행해 검색 색인 등을 갱신한다.
+     */
+    public void upsert(List<Product> products, int chunkSize) {
+        if (products.isEmpty()) {
+            return;
+        }
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            ProductMapper mapper = session.getMapper(ProductMapper.class);
+            for (int from = 0; from < products.size(); from += chunkSize) {
+                mapper.upsertProducts(products.subList(from, Math.min(from + chunkSize, products.size())));
+            }
+            session.flushStatements();
+            session.commit();
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(products));
+    }
+}
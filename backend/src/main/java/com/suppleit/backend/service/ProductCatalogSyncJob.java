@@ -0,0 +1,318 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.client.PublicDataApiClient;
+import com.suppleit.backend.client.PublicDataPage;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.mapper.ProductSyncMapper;
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.model.ProductSyncCheckpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공공데이터 getHtfsItem01 전체 목록을 주기적으로 product 테이블에 동기화하는 작업.
+ * 페이지를 제한된 병렬도로 가져와 내용이 바뀐 항목만 다건 upsert하고,
+ * 반영이 끝난 페이지를 체크포인트로 남겨 재시작 시 이어서 진행한다.
+ * <p>
+ * API에는 변경일 조건이 없으므로 가져오는 범위는 두 가지로 나눈다.
+ * <ul>
+ *   <li>증분: 목록은 신고 순서로 쌓이므로, 지난 완료 시점의 건수(synced_count) 이후 항목이 들어 있는 페이지부터만 가져온다.
+ *       전체 건수가 그대로면 첫 페이지 확인 한 번으로 끝난다.</li>
+ *   <li>전체: 기존 항목의 내용 변경은 증분으로 알 수 없으므로 full-refresh-days마다(또는 전체 건수가 줄었을 때)
+ *       모든 페이지를 다시 가져와 바뀐 항목만 반영한다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ProductCatalogSyncJob {
+
+    private static final String JOB_NAME = "htfs-item-01";
+
+    private final PublicDataApiClient publicDataApiClient;
+    private final ProductMapper productMapper;
+    private final ProductSyncMapper productSyncMapper;
+    private final ProductBatchWriter productBatchWriter;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger currentPage = new AtomicInteger();
+    private final AtomicInteger totalPages = new AtomicInteger();
+
+    private final Counter fetchedItems;
+    private final Counter changedItems;
+    private final Counter failedRuns;
+
+    @Value("${product.sync.enabled:false}")
+    private boolean enabled;
+
+    // 로컬 테스트 시 API 스텁 주소로 바꿀 수 있도록 별도 설정
+    @Value("${product.sync.api-url:${api.health-functional-food.url}}")
+    private String apiUrl;
+
+    @Value("${api.health-functional-food.key}")
+    private String serviceKey;
+
+    @Value("${product.sync.page-size:100}")
+    private int pageSize;
+
+    @Value("${product.sync.parallelism:4}")
+    private int parallelism;
+
+    @Value("${product.sync.batch-size:500}")
+    private int batchSize;
+
+    // 사용자 요청과 호출 한도를 나눠 쓰므로 배치는 더 오래 기다린다
+    @Value("${product.sync.acquire-timeout-ms:30000}")
+    private long acquireTimeoutMillis;
+
+    // 모든 페이지를 다시 확인하는 주기 (그 사이 실행은 새로 추가된 페이지만)
+    @Value("${product.sync.full-refresh-days:7}")
+    private int fullRefreshDays;
+
+    public ProductCatalogSyncJob(PublicDataApiClient publicDataApiClient,
+                                 ProductMapper productMapper,
+                                 ProductSyncMapper productSyncMapper,
+                                 ProductBatchWriter productBatchWriter,
+                                 MeterRegistry meterRegistry) {
+        this.publicDataApiClient = publicDataApiClient;
+        this.productMapper = productMapper;
+        this.productSyncMapper = productSyncMapper;
+        this.productBatchWriter = productBatchWriter;
+        this.fetchedItems = Counter.builder("product.sync.items").tag("result", "fetched").register(meterRegistry);
+        this.changedItems = Counter.builder("product.sync.items").tag("result", "changed").register(meterRegistry);
+        this.failedRuns = Counter.builder("product.sync.failures").register(meterRegistry);
+        Gauge.builder("product.sync.current-page", currentPage, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("product.sync.total-pages", totalPages, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // 새로 배포되어 product 테이블이 비어 있으면 바로 한 번 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnEmptyCatalog() {
+        if (!enabled || productMapper.getProductCount() > 0) {
+            return;
+        }
+        Thread.ofVirtual().name("product-sync-initial").start(this::runSync);
+    }
+
+    @Scheduled(cron = "${product.sync.cron:0 0 4 * * *}")
+    public void scheduledSync() {
+        if (enabled) {
+            runSync();
+        }
+    }
+
+    /**
+     * 동기화를 한 번 실행한다. 이미 실행 중이면 바로 반환한다.
+     * @return 끝까지 완료했으면 true
+     */
+    public boolean runSync() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("제품 카탈로그 동기화가 이미 실행 중입니다");
+            return false;
+        }
+        try {
+            doSync();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("제품 카탈로그 동기화 중단됨");
+            return false;
+        } catch (Exception e) {
+            failedRuns.increment();
+            log.error("제품 카탈로그 동기화 실패 (다음 실행 시 체크포인트부터 재개): {}", e.getMessage(), e);
+            return false;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void doSync() throws InterruptedException, ExecutionException {
+        ProductSyncCheckpoint checkpoint = productSyncMapper.getCheckpoint(JOB_NAME);
+        if (checkpoint == null) {
+            checkpoint = ProductSyncCheckpoint.builder().jobName(JOB_NAME).build();
+        }
+
+        PublicDataPage firstPage = fetchPage(1);
+        int totalCount = firstPage.getTotalCount();
+        int pages = (totalCount + pageSize - 1) / pageSize;
+        boolean full = needsFullRefresh(checkpoint, totalCount);
+        totalPages.set(pages);
+        if (!full && totalCount == checkpoint.getSyncedCount()) {
+            log.info("제품 카탈로그 동기화: 새 항목 없음 (전체 {}건)", totalCount);
+            complete(checkpoint, totalCount, false);
+            return;
+        }
+
+        // 증분이면 지난 회차 이후 추가된 첫 항목이 있는 페이지부터
+        int firstNeededPage = full ? 1 : checkpoint.getSyncedCount() / pageSize + 1;
+        int startPage = checkpoint.getLastPage() >= firstNeededPage && checkpoint.getLastPage() < pages
+                ? checkpoint.getLastPage() + 1   // 중단된 회차 이어서
+                : firstNeededPage;
+        log.info("제품 카탈로그 {} 동기화 시작: 전체 {}건 ({}페이지), {}페이지부터",
+                full ? "전체" : "증분", totalCount, pages, startPage);
+
+        long startedAt = System.nanoTime();
+        long fetchedTotal = 0;
+        long changedTotal = 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "product-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int from = startPage; from <= pages; from += parallelism) {
+                int to = Math.min(from + parallelism - 1, pages);
+
+                // 한 번에 parallelism개 페이지만 동시에 요청
+                List<Future<PublicDataPage>> futures = new ArrayList<>();
+                for (int page = from; page <= to; page++) {
+                    int pageNo = page;
+                    futures.add(pageNo == 1
+                            ? CompletableFuture.completedFuture(firstPage)
+                            : pool.submit(() -> fetchPage(pageNo)));
+                }
+
+                List<Product> fetched = new ArrayList<>();
+                for (Future<PublicDataPage> future : futures) {
+                    for (HealthFunctionalFoodDto dto : future.get().getItems()) {
+                        Product product = HealthFunctionalFoodService.toProduct(dto);
+                        if (product.getProductName() == null || product.getProductName().isBlank()) {
+                            continue;
+                        }
+                        if (product.getCompanyName() == null) {
+                            product.setCompanyName(""); // company_name은 NOT NULL
+                        }
+                        fetched.add(product);
+                    }
+                }
+
+                List<Product> changed = detectChanges(fetched);
+                productBatchWriter.upsert(changed, batchSize);
+
+                // 이 구간까지 DB 반영이 끝났으므로 체크포인트 이동
+                checkpoint.setLastPage(to);
+                checkpoint.setTotalCount(totalCount);
+                productSyncMapper.saveCheckpoint(checkpoint);
+
+                fetchedTotal += fetched.size();
+                changedTotal += changed.size();
+                fetchedItems.increment(fetched.size());
+                changedItems.increment(changed.size());
+                currentPage.set(to);
+
+                double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+                log.info("제품 카탈로그 동기화 진행: {}/{}페이지, 누적 {}건 (변경 {}건), {}건/초",
+                        to, pages, fetchedTotal, changedTotal, Math.round(fetchedTotal / elapsedSeconds));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        complete(checkpoint, totalCount, full);
+        log.info("제품 카탈로그 동기화 완료: {}건 확인, {}건 반영 ({}ms)",
+                fetchedTotal, changedTotal, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 전체 확인 이력이 없거나 오래됐거나, 전체 건수가 줄었으면(삭제/재정렬) 모든 페이지를 다시 확인
+    private boolean needsFullRefresh(ProductSyncCheckpoint checkpoint, int totalCount) {
+        LocalDateTime lastFull = checkpoint.getLastFullCompletedAt();
+        return lastFull == null
+                || lastFull.isBefore(LocalDateTime.now().minus(Duration.ofDays(fullRefreshDays)))
+                || totalCount < checkpoint.getSyncedCount();
+    }
+
+    // 한 회차 완료: 다음 증분 실행은 이번 전체 건수 이후 항목부터
+    private void complete(ProductSyncCheckpoint checkpoint, int totalCount, boolean full) {
+        LocalDateTime now = LocalDateTime.now();
+        checkpoint.setLastPage(0);
+        checkpoint.setTotalCount(totalCount);
+        checkpoint.setSyncedCount(totalCount);
+        checkpoint.setLastCompletedAt(now);
+        if (full) {
+            checkpoint.setLastFullCompletedAt(now);
+        }
+        productSyncMapper.saveCheckpoint(checkpoint);
+    }
+
+    private PublicDataPage fetchPage(int pageNo) {
+        URI uri = UriComponentsBuilder.fromUriString(apiUrl + "/getHtfsItem01")
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", pageSize)
+                .queryParam("type", "json")
+                .build(true)
+                .toUri();
+
+        PublicDataPage page = publicDataApiClient.fetch(uri, acquireTimeoutMillis);
+        if (page.isThrottled()) {
+            throw new IllegalStateException("공공데이터 API 호출 제한 (" + pageNo + "페이지): " + page.getResultMsg());
+        }
+        if (!page.isSuccess()) {
+            throw new IllegalStateException("API 오류 응답 (" + pageNo + "페이지): "
+                    + page.getResultCode() + ", " + page.getResultMsg());
+        }
+        return page;
+    }
+
+    // DB에 없거나 내용이 달라진 항목만 골라낸다
+    private List<Product> detectChanges(List<Product> fetched) {
+        Map<Long, Product> byId = new LinkedHashMap<>();
+        for (Product product : fetched) {
+            byId.put(product.getPrdId(), product);
+        }
+        if (byId.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> existing = new LinkedHashMap<>();
+        for (Product product : productMapper.getProductsByIds(new ArrayList<>(byId.keySet()))) {
+            existing.put(product.getPrdId(), product);
+        }
+
+        List<Product> changed = new ArrayList<>();
+        for (Product product : byId.values()) {
+            Product current = existing.get(product.getPrdId());
+            if (current == null || !sameContent(current, product)) {
+                changed.add(product);
+            }
+        }
+        return changed;
+    }
+
+    private static boolean sameContent(Product a, Product b) {
+        return Objects.equals(a.getProductName(), b.getProductName())
+                && Objects.equals(a.getCompanyName(), b.getCompanyName())
+                && Objects.equals(a.getRegistrationNo(), b.getRegistrationNo())
+                && Objects.equals(a.getExpirationPeriod(), b.getExpirationPeriod())
+                && Objects.equals(a.getSrvUse(), b.getSrvUse())
+                && Objects.equals(a.getMainFunction(), b.getMainFunction())
+                && Objects.equals(a.getPreservation(), b.getPreservation())
+                && Objects.equals(a.getIntakeHint(), b.getIntakeHint())
+                && Objects.equals(a.getBaseStandard(), b.getBaseStandard());
+    }
+}
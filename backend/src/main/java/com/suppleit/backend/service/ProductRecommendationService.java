@@ -0,0 +1,252 @@
+package com.suppleit.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.suppleit.backend.cache.RecommendationResponseCache;
+import com.suppleit.backend.dto.ProductResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /api/recommend 파이프라인: 원본 키워드 직접 검색 + Flask 추천 키워드별 네이버 검색.
+ * 요청마다 가상 스레드 범위를 만들어 모든 분기를 동시에 실행하고,
+ * 요청 마감 시각까지 도착한 결과만 모은 뒤 남은 분기는 취소한다.
+ * 완성된 응답은 키워드별로 캐시되며, 만료 후에는 이전 응답을 주면서 백그라운드에서 다시 계산한다.
+ * 스트리밍 모드는 같은 파이프라인에서 상품이 도착하는 대로 SSE 이벤트로 내보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductRecommendationService {
+
+  public static final int RESULT_SIZE = 5;
+
+  // 스트림 타임아웃 = 요청 마감 + 이벤트 전송 여유
+  private static final long STREAM_TIMEOUT_MARGIN_MS = 2000;
+
+  private final RecommendationService recommendationService;
+  private final NaverProductLookupService naverProductLookupService;
+  private final RecommendationResponseCache recommendationResponseCache;
+  private final MeterRegistry meterRegistry;
+
+  // 요청 전체 마감 시간 (이 시간 안에 도착한 상품만 응답에 포함)
+  @Value("${recommend.deadline-ms:3000}")
+  private long deadlineMillis;
+
+  public List<ProductResponse> recommend(String keyword) {
+    return recommendationResponseCache.get(keyword, () -> compute(keyword));
+  }
+
+  /**
+   * SSE로 추천 상품을 보낸다.
+   * "product" 이벤트: 직접 검색 결과가 먼저, 이후 추천 키워드 상품이 도착 순서대로 하나씩.
+   * "done" 이벤트: 5개를 채우는 더미 상품 목록 (빈 목록일 수 있음) 후 스트림 종료.
+   * 클라이언트가 연결을 끊으면 작업 스레드를 인터럽트해 남은 네이버 호출을 취소한다.
+   */
+  public SseEmitter stream(String keyword) {
+    SseEmitter emitter = new SseEmitter(deadlineMillis + STREAM_TIMEOUT_MARGIN_MS);
+    Thread worker = Thread.ofVirtual().name("recommend-stream").unstarted(() -> {
+      try {
+        List<ProductResponse> results = recommendationResponseCache.getIfPresent(keyword, () -> compute(keyword));
+        int sent = 0;
+        if (results != null) {
+          for (ProductResponse product : results) {
+            if (!product.isDummy()) {
+              send(emitter, "product", product);
+              sent++;
+            }
+          }
+        } else {
+          // 전송은 작업 스레드에서 동기로 이루어지므로 느린 클라이언트는 다음 상품 수집을 늦출 뿐 쌓이지 않는다
+          List<ProductResponse> products = run(keyword, product -> send(emitter, "product", product));
+          recommendationResponseCache.put(keyword, fillWithDummies(products, RESULT_SIZE));
+          sent = products.size();
+        }
+        send(emitter, "done", fillWithDummies(List.of(), RESULT_SIZE - sent));
+        emitter.complete();
+      } catch (UncheckedIOException e) {
+        log.debug("Recommendation stream closed by client: {}", keyword);
+        emitter.completeWithError(e.getCause());
+      } catch (RuntimeException e) {
+        log.error("Recommendation stream failed for keyword {}: {}", keyword, e.getMessage());
+        emitter.completeWithError(e);
+      }
+    });
+    // 연결 종료/타임아웃/오류 시 진행 중인 수집을 중단 (대기 중인 분기는 run()의 finally에서 취소)
+    emitter.onCompletion(worker::interrupt);
+    emitter.onTimeout(worker::interrupt);
+    emitter.onError(e -> worker.interrupt());
+    worker.start();
+    return emitter;
+  }
+
+  private List<ProductResponse> compute(String keyword) {
+    List<ProductResponse> products = run(keyword, product -> {
+    });
+    // 정확히 5개를 반환하기 위해 더미 데이터로 채우기
+    return fillWithDummies(products, RESULT_SIZE);
+  }
+
+  /**
+   * 추천 파이프라인 본체. 상품이 도착할 때마다 onProduct를 호출하고 (최대 5개),
+   * 직접 검색 결과 다음에 추천 키워드 순서로 정렬한 목록을 반환한다 (더미 없음).
+   */
+  private List<ProductResponse> run(String keyword, Consumer<ProductResponse> onProduct) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+    ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      // 1. 원본 키워드 직접 검색과 Flask 추천 키워드 조회를 동시에 시작
+      Future<ProductResponse> direct = scope.submit(
+          timed("direct", () -> naverProductLookupService.lookup(keyword)));
+      Future<List<String>> flask = scope.submit(
+          timed("flask", () -> recommendationService.getRecommendations(keyword)));
+
+      List<String> recommendations = await(flask, deadline, List.of());
+      if (recommendations.isEmpty()) {
+        log.warn("No recommendations found for keyword: {}", keyword);
+      }
+
+      // 2. 각 추천 키워드에 원본 키워드를 결합하여 검색 관련성 높이기 (완료 순서대로 받기)
+      CompletionService<ProductResponse> completion = new ExecutorCompletionService<>(scope);
+      Map<Future<ProductResponse>, Integer> branchIndex = new IdentityHashMap<>();
+      for (String recommendation : recommendations) {
+        String combinedQuery = recommendation + " " + keyword;
+        branchIndex.put(completion.submit(
+            timed("recommendation", () -> naverProductLookupService.lookup(combinedQuery))), branchIndex.size());
+      }
+
+      // 3. 직접 검색 결과를 먼저, 이후 마감 시각까지 도착한 추천 상품을 도착 순서대로 전달
+      List<ProductResponse> results = new ArrayList<>();
+      ProductResponse directResult = await(direct, deadline, null);
+      if (directResult != null) {
+        results.add(directResult);
+        onProduct.accept(directResult);
+      }
+      ProductResponse[] byIndex = new ProductResponse[branchIndex.size()];
+      int ready = 0;
+      for (int pending = branchIndex.size(); pending > 0 && results.size() + ready < RESULT_SIZE; pending--) {
+        Future<ProductResponse> branch = poll(completion, deadline);
+        if (branch == null) {
+          break; // 마감 (남은 분기는 finally에서 취소)
+        }
+        ProductResponse product = await(branch, deadline, null);
+        if (product != null) {
+          byIndex[branchIndex.get(branch)] = product;
+          ready++;
+          onProduct.accept(product);
+        }
+      }
+      log.info("Fetched {} valid products from Naver API ({} branches)", ready, branchIndex.size());
+
+      for (ProductResponse product : byIndex) {
+        if (product != null) {
+          results.add(product);
+        }
+      }
+      return results;
+    } finally {
+      scope.shutdownNow(); // 마감을 넘긴 분기는 인터럽트로 취소 (종료를 기다리지 않음)
+    }
+  }
+
+  // 다음으로 끝난 분기를 남은 시간만큼만 기다린다 (마감/인터럽트 시 null)
+  private static Future<ProductResponse> poll(CompletionService<ProductResponse> completion, long deadlineNanos) {
+    try {
+      return completion.poll(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  // 전송 실패(연결 끊김, 이미 종료된 emitter)는 UncheckedIOException으로 올려 파이프라인을 중단시킨다
+  private static void send(SseEmitter emitter, String name, Object data) {
+    try {
+      emitter.send(SseEmitter.event().name(name).data(data));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (IllegalStateException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+  }
+
+  // 남은 시간만큼만 기다리고, 넘기면 해당 분기를 취소하고 fallback 반환
+  private <T> T await(Future<T> future, long deadlineNanos, T fallback) {
+    try {
+      return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      return fallback;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return fallback;
+    } catch (ExecutionException e) {
+      log.error("Recommendation branch failed: {}", e.getCause().getMessage());
+      return fallback;
+    }
+  }
+
+  // 분기별 소요 시간 기록 (recommend.branch.latency{branch, outcome})
+  private <T> Callable<T> timed(String branch, Callable<T> task) {
+    return () -> {
+      long startedAt = System.nanoTime();
+      String outcome = "error";
+      try {
+        T result = task.call();
+        outcome = result == null ? "empty" : "success";
+        return result;
+      } finally {
+        if (Thread.currentThread().isInterrupted()) {
+          outcome = "cancelled";
+        }
+        Timer.builder("recommend.branch.latency")
+            .tag("branch", branch)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      }
+    };
+  }
+
+  // 더미 상품으로 채우는 헬퍼 메소드
+  public static List<ProductResponse> fillWithDummies(List<ProductResponse> products, int targetSize) {
+    List<ProductResponse> result = new ArrayList<>(products);
+    for (int i = products.size(); i < targetSize; i++) {
+      result.add(createDummyProduct());
+    }
+    return result;
+  }
+
+  // 더미 상품 생성 메서드
+  private static ProductResponse createDummyProduct() {
+    return new ProductResponse(
+        "추천 준비 중", // 제목
+        "#", // 링크
+        " ", // 더미 이미지 경로
+        0, // 가격
+        "미분류", // 카테고리 (기본값)
+        true); // 더미 표시 플래그
+  }
+}
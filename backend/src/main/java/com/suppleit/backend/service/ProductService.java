@@ -1,20 +1,23 @@
 package com.suppleit.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.cache.ProductSearchCache;
+import com.suppleit.backend.cache.SingleFlight;
+import com.suppleit.backend.client.PublicDataApiClient;
+import com.suppleit.backend.client.PublicDataPage;
+import com.suppleit.backend.client.PublicDataResponseDecoder;
+import com.suppleit.backend.dto.AutocompleteSuggestionDto;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
 import com.suppleit.backend.dto.ProductDto;
 import com.suppleit.backend.mapper.ProductMapper;
 import com.suppleit.backend.model.Product;
+import com.suppleit.backend.search.ProductAutocompleteIndex;
+import com.suppleit.backend.search.ProductSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import jakarta.annotation.PostConstruct;
@@ -23,10 +26,14 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,8 +42,29 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductMapper productMapper;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final PublicDataApiClient publicDataApiClient;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+    private final ProductSearchCache productSearchCache;
+    private final ProductWriteBehindQueue productWriteBehindQueue;
+    @Qualifier("externalApiExecutor")
+    private final Executor externalApiExecutor;
+    @Qualifier("backgroundExecutor")
+    private final Executor backgroundExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 같은 검색어/페이지로 동시에 나가는 외부 API 호출을 하나로 합친다
+    private SingleFlight<String, List<ProductDto>> apiSearchFlight;
+
+    private static final int DB_SEARCH_LIMIT = 20;
+    private static final int MIN_DB_RESULTS = 5;
+
+    // 검색 1건당 전체 지연 예산 (DB + 외부 API 조회)
+    @Value("${product.search.budget-ms:3000}")
+    private long searchBudgetMillis;
+
+    @Value("${product.search.api-timeout-ms:15000}")
+    private long apiSearchTimeoutMillis;
 
     @Value("${api.health-functional-food.url}")
     private String apiUrl;
@@ -47,6 +75,8 @@ public class ProductService {
     // 초기 데이터 확인 및 설정
     @PostConstruct
     public void initializeData() {
+        apiSearchFlight = new SingleFlight<>("product.search.api", apiSearchTimeoutMillis, meterRegistry);
+
         // 데이터베이스가 비어있는지 확인
         long productCount = productMapper.getProductCount();
         if (productCount == 0) {
@@ -61,49 +91,90 @@ public class ProductService {
         return searchProducts(keyword, 1); // 기본값 page 1로 위임
     }
 
-    // 페이지 파라미터를 받는 오버로딩된 메서드
+    // 페이지 파라미터를 받는 오버로딩된 메서드 (정규화된 키워드 + 페이지 단위로 캐시)
     public List<ProductDto> searchProducts(String keyword, int page) {
+        return productSearchCache.get(keyword, page, () -> loadSearchResults(keyword, page));
+    }
+
+    // 캐시 미스 시 실제 DB + 외부 API 검색 (DB 결과가 부족할 때만 예산 안에 도착한 API 결과를 병합)
+    private ProductSearchCache.Loaded loadSearchResults(String keyword, int page) {
         log.info("제품 검색 시작: keyword={}, page={}", keyword, page);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(searchBudgetMillis);
     
         try {
-            // 먼저 DB 검색
+            // 색인이 준비되어 있으면 DB 검색은 1ms 미만이므로 결과를 먼저 보고 부족할 때만 API를 호출한다 (일일 호출 한도 절약).
+            // 색인 생성 전에는 LIKE 쿼리가 느리므로 API 호출을 DB 검색과 동시에 시작한다.
+            CompletableFuture<List<ProductDto>> apiFuture = productSearchIndex.isReady() ? null : startApiSearch(keyword, page);
             List<ProductDto> dbResults = searchProductsFromDb(keyword);
     
-            // DB 결과가 부족할 경우 API 검색
-            if (dbResults.size() < 5) {
-                log.info("DB 결과 부족 ({}건), 외부 API로 검색 진행", dbResults.size());
-    
-                List<ProductDto> apiResults = searchProductsFromApi(keyword, page);
-    
-                // 결과 병합 (중복 제거)
-                Map<Long, ProductDto> combinedResults = new HashMap<>();
-                for (ProductDto product : dbResults) {
-                    combinedResults.put(product.getPrdId(), product);
-                }
-    
-                for (ProductDto product : apiResults) {
-                    if (!combinedResults.containsKey(product.getPrdId())) {
-                        combinedResults.put(product.getPrdId(), product);
+            // DB 결과가 충분하면 API 응답은 기다리지 않음 (이미 시작했다면 도착 후 제품 테이블 저장에만 쓰임)
+            if (dbResults.size() >= MIN_DB_RESULTS) {
+                return ProductSearchCache.Loaded.complete(dbResults);
+            }
+            if (apiFuture == null) {
+                apiFuture = startApiSearch(keyword, page);
+            }
+
+            log.info("DB 결과 부족 ({}건), 외부 API 결과 병합", dbResults.size());
+            List<ProductDto> apiResults = awaitUntil(apiFuture, deadline);
+            if (apiResults == null) {
+                // 예산을 넘겨 늦게 도착한 API 응답은 다음 검색을 위해 캐시에 반영 (잘린 결과는 캐시에 저장되지 않음)
+                log.info("외부 API 응답 지연, 도착한 결과만 반환: keyword={}", keyword);
+                apiFuture.thenAcceptAsync(lateResults -> {
+                    if (!lateResults.isEmpty()) {
+                        productSearchCache.put(keyword, page, mergeResults(dbResults, lateResults));
                     }
-                }
-    
-                return new ArrayList<>(combinedResults.values());
+                }, backgroundExecutor);
+                return ProductSearchCache.Loaded.partial(dbResults);
             }
-    
-            return dbResults;
+            return ProductSearchCache.Loaded.complete(mergeResults(dbResults, apiResults));
     
         } catch (Exception e) {
             log.error("제품 검색 중 오류", e);
+            return ProductSearchCache.Loaded.complete(new ArrayList<>());
+        }
+    }
+
+    // 같은 키로 진행 중인 호출이 있으면 그 결과를 함께 받는다 (풀이 포화되면 실패한 future → DB 결과만 사용)
+    private CompletableFuture<List<ProductDto>> startApiSearch(String keyword, int page) {
+        return apiSearchFlight.execute(productSearchCache.cacheKey(keyword, page),
+                () -> searchProductsFromApi(keyword, page), externalApiExecutor);
+    }
+
+    // 마감 시각까지 기다리고, 넘기거나 중단되면 null (실패하면 빈 결과)
+    private List<ProductDto> awaitUntil(CompletableFuture<List<ProductDto>> future, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.error("외부 API 검색 실패: {}", e.getCause().getMessage());
             return new ArrayList<>();
         }
     }
 
+    // 결과 병합 (중복 제거, DB 랭킹 순서 뒤에 API 응답 순서 유지)
+    private List<ProductDto> mergeResults(List<ProductDto> dbResults, List<ProductDto> apiResults) {
+        Map<Long, ProductDto> combinedResults = new LinkedHashMap<>();
+        for (ProductDto product : dbResults) {
+            combinedResults.put(product.getPrdId(), product);
+        }
+        for (ProductDto product : apiResults) {
+            combinedResults.putIfAbsent(product.getPrdId(), product);
+        }
+        return new ArrayList<>(combinedResults.values());
+    }
+
 
     // DB에서 제품 검색
     private List<ProductDto> searchProductsFromDb(String keyword) {
         log.info("DB에서 제품 검색: {}", keyword);
         try {
-            List<Product> products = productMapper.searchProducts(keyword);
+            List<Product> products = findProducts(keyword);
             return products.stream()
                     .map(this::convertToDto)
                     .collect(Collectors.toList());
@@ -112,11 +183,17 @@ public class ProductService {
             return new ArrayList<>();
         }
     }
+
+    // 검색창 자동완성 (메모리 색인만 사용)
+    public List<AutocompleteSuggestionDto> autocomplete(String query, int limit) {
+        return productAutocompleteIndex.suggest(query, limit);
+    }
+
     // DB에서만 제품 검색 (API 호출 없음)
     public List<ProductDto> searchProductsFromDbOnly(String keyword) {
         log.info("DB에서만 제품 검색: {}", keyword);
         try {
-            List<Product> products = productMapper.searchProducts(keyword);
+            List<Product> products = findProducts(keyword);
             return products.stream()
                     .map(this::convertToDto)
                     .collect(Collectors.toList());
@@ -126,6 +203,11 @@ public class ProductService {
         }
     }
 
+    // 검색 색인이 준비되어 있으면 색인으로 ID를 찾고 PK로 조회, 아니면 기존 LIKE 쿼리 사용
+    private List<Product> findProducts(String keyword) {
+        return productSearchIndex.findProducts(keyword, 0, DB_SEARCH_LIMIT);
+    }
+
     // API에서 제품 검색
     private List<ProductDto> searchProductsFromApi(String keyword, int page) {
         log.info("API 검색: keyword={}, page={}", keyword, page);
@@ -140,41 +222,26 @@ public class ProductService {
                     "&pageNo=" + page +
                     "&numOfRows=10&type=json";
     
-            URI uri = URI.create(fullUrl);
-    
-            HttpHeaders headers = new HttpHeaders();
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-    
-            ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, entity, String.class);
-    
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                JsonNode header = root.path("header");
-    
-                String resultCode = header.path("resultCode").asText();
-                if (!"00".equals(resultCode)) {
-                    log.error("API 오류 응답: {}, {}", resultCode, header.path("resultMsg").asText());
-                    return results;
-                }
-    
-                JsonNode body = root.path("body");
-                JsonNode items = body.path("items");
-    
-                if (items.isArray()) {
-                    for (JsonNode itemNode : items) {
-                        JsonNode item = itemNode.path("item");
-                        ProductDto productDto = item.isMissingNode() ?
-                                parseProductFromJson(itemNode) : parseProductFromJson(item);
-                        if (productDto != null) results.add(productDto);
-                    }
-                }
-    
-                log.info("API 결과: {}건", results.size());
-            } else {
-                log.warn("API 응답 없음 또는 실패");
+            PublicDataPage response = publicDataApiClient.fetch(URI.create(fullUrl));
+            if (response.isThrottled()) {
+                log.info("공공데이터 API 호출 제한, DB 결과만 사용: keyword={}", keyword);
+                return results;
+            }
+            if (!response.isSuccess()) {
+                log.error("API 오류 응답: {}, {}", response.getResultCode(), response.getResultMsg());
+                return results;
+            }
+
+            for (HealthFunctionalFoodDto item : response.getItems()) {
+                ProductDto productDto = toProductDto(item);
+                if (productDto != null) results.add(productDto);
             }
     
+            log.info("API 결과: {}건", results.size());
+
+            // 다음 검색부터는 DB에서 찾을 수 있도록 비동기로 저장
+            results.forEach(this::saveProductToDb);
+    
         } catch (Exception e) {
             log.error("API 검색 오류", e);
         }
@@ -193,107 +260,31 @@ public class ProductService {
         return convertToDto(product);
     }
 
-    // JSON을 Product 객체로 파싱
-    private ProductDto parseProductFromJson(JsonNode item) {
-        if (item == null) {
-            return null;
-        }
-        
-        try {
-            // 로그에 파싱할 항목 출력
-            log.debug("파싱할 항목: {}", item.toString());
-            
-            String productName = getTextFromNode(item, "PRDUCT"); // 제품명
-            
-            // 제품명이 없으면 건너뛰기
-            if (productName.isEmpty()) {
-                log.warn("제품명이 없는 항목 무시");
-                return null;
-            }
-            
-            String companyName = getTextFromNode(item, "ENTRPS"); // 업체명
-            String reportNo = getTextFromNode(item, "STTEMNT_NO"); // 품목제조신고번호
-            
-            // 제품 ID 생성
-            Long prdId;
-            if (!reportNo.isEmpty()) {
-                // 신고번호에서 숫자만 추출
-                String numericPart = reportNo.replaceAll("[^0-9]", "");
-                if (!numericPart.isEmpty()) {
-                    try {
-                        prdId = Long.parseLong(numericPart);
-                    } catch (NumberFormatException e) {
-                        // 숫자로 변환 실패 시 해시코드 사용
-                        prdId = (long) Math.abs(productName.hashCode() + System.currentTimeMillis() % 1000000000);
-                    }
-                } else {
-                    prdId = (long) Math.abs(productName.hashCode() + System.currentTimeMillis() % 1000000000);
-                }
-            } else {
-                prdId = (long) Math.abs(productName.hashCode() + System.currentTimeMillis() % 1000000000);
-            }
-            
-            ProductDto dto = new ProductDto();
-            dto.setPrdId(prdId);
-            dto.setProductName(productName);
-            dto.setCompanyName(companyName);
-            dto.setRegistrationNo(reportNo);
-            
-            // 추가 정보 매핑
-            dto.setExpirationPeriod(getTextFromNode(item, "DISTB_PD")); // 유통기한
-            dto.setMainFunction(getTextFromNode(item, "MAIN_FNCTN")); // 주요기능
-            dto.setIntakeHint(getTextFromNode(item, "INTAKE_HINT1")); // 섭취시 주의사항
-            dto.setPreservation(getTextFromNode(item, "PRSRV_PD")); // 보관방법
-            dto.setSrvUse(getTextFromNode(item, "SRV_USE")); // 섭취방법
-            dto.setBaseStandard(getTextFromNode(item, "BASE_STANDARD")); // 기준규격
-            
-            log.info("파싱된 제품: {}", productName);
-            return dto;
-        } catch (Exception e) {
-            log.error("제품 데이터 파싱 중 오류: {}", e.getMessage(), e);
+    // API 항목을 제품 DTO로 변환 (제품명이 없으면 건너뜀)
+    private ProductDto toProductDto(HealthFunctionalFoodDto item) {
+        String productName = item.getPrduct() != null ? item.getPrduct() : "";
+        if (productName.isEmpty()) {
+            log.warn("제품명이 없는 항목 무시");
             return null;
         }
-    }
 
-    // 노드에서 텍스트 안전하게 가져오기
-    private String getTextFromNode(JsonNode node, String fieldName) {
-        if (node == null || node.path(fieldName).isMissingNode()) {
-            return "";
-        }
-        return node.path(fieldName).asText("").trim();
+        ProductDto dto = new ProductDto();
+        dto.setPrdId(PublicDataResponseDecoder.productIdOf(item.getSttemntNo(), productName)); // 신고번호 기반 ID
+        dto.setProductName(productName);
+        dto.setCompanyName(item.getEntrps()); // 업체명
+        dto.setRegistrationNo(item.getSttemntNo()); // 품목제조신고번호
+        dto.setExpirationPeriod(item.getDistbPd()); // 유통기한
+        dto.setMainFunction(item.getMainFnctn()); // 주요기능
+        dto.setIntakeHint(item.getIntakeHint()); // 섭취시 주의사항
+        dto.setPreservation(item.getPrsrvPd()); // 보관방법
+        dto.setSrvUse(item.getSrvUse()); // 섭취방법
+        dto.setBaseStandard(item.getBaseStandard()); // 기준규격
+        return dto;
     }
 
-    // 제품 정보를 DB에 저장 - 기능 구현예정
+    // 제품 정보를 DB에 저장 (write-behind 큐에 넣고 요청 스레드는 기다리지 않음)
     private void saveProductToDb(ProductDto productDto) {
-        /* try { 
-            // ID가 0인 경우 처리
-            if (productDto.getPrdId() == 0) {
-                productDto.setPrdId(generateTempId(productDto.getProductName()));
-            }
-            
-            // 이미 존재하는지 확인
-            Product existingProduct = productMapper.getProductById(productDto.getPrdId());
-            
-            if (existingProduct == null) {
-                // 새 제품 저장
-                Product product = convertToEntity(productDto);
-                productMapper.insertProduct(product);
-                log.info("새 제품 DB에 저장: {}", productDto.getProductName());
-            } else {
-                // 기존 제품 갱신
-                Product product = convertToEntity(productDto);
-                productMapper.updateProduct(product);
-                log.info("기존 제품 정보 업데이트: {}", productDto.getProductName());
-            }
-        } catch (Exception e) {
-            log.error("제품 저장 중 오류: {}", e.getMessage(), e);
-            throw e;
-        } */
-    }
-
-    // 임시 ID 생성
-    private Long generateTempId(String key) {
-        return Math.abs((key.hashCode() + System.currentTimeMillis()) % 1000000000L);
+        productWriteBehindQueue.enqueue(convertToEntity(productDto));
     }
 
     // Entity -> DTO 변환
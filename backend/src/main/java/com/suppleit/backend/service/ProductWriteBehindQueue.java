@@ -0,0 +1,187 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API에서 받은 제품을 비동기로 DB에 반영하는 write-behind 큐.
+ * 같은 제품 ID는 최신 값 하나로 합쳐지고(coalescing), 일정 주기마다 다건 INSERT ... ON DUPLICATE KEY UPDATE를
+ * MyBatis 배치 세션으로 실행한다. 큐가 가득 차면 요청 스레드를 막지 않고 버린다.
+ * 배치 저장이 실패하면(동기화 작업과의 데드락 등) 잠시 쉬었다가 한 번 더 시도하고, 그래도 실패한 건수는 dropped로 센다.
+ */
+@Component
+@Slf4j
+public class ProductWriteBehindQueue {
+
+    private final ProductBatchWriter productBatchWriter;
+    private final int capacity;
+    private final int batchSize;
+    private final long retryBackoffMillis;
+
+    private final LinkedHashMap<Long, Product> pending = new LinkedHashMap<>(); // guarded by this
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter flushed;
+    private final Counter failed;
+
+    public ProductWriteBehindQueue(ProductBatchWriter productBatchWriter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${product.write-behind.capacity:10000}") int capacity,
+                                   @Value("${product.write-behind.batch-size:500}") int batchSize,
+                                   @Value("${product.write-behind.coalesce-window-ms:500}") long coalesceWindowMillis,
+                                   @Value("${product.write-behind.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.productBatchWriter = productBatchWriter;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.enqueued = Counter.builder("product.write-behind.enqueued").register(meterRegistry);
+        this.dropped = Counter.builder("product.write-behind.dropped").register(meterRegistry);
+        this.flushed = Counter.builder("product.write-behind.flushed").register(meterRegistry);
+        this.failed = Counter.builder("product.write-behind.failed").register(meterRegistry);
+        Gauge.builder("product.write-behind.pending", this, ProductWriteBehindQueue::pendingCount).register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, coalesceWindowMillis, coalesceWindowMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 제품을 저장 대기열에 넣는다. 호출 스레드는 DB 작업을 기다리지 않는다.
+     * @return 큐가 가득 차서 버려졌으면 false
+     */
+    public boolean enqueue(Product product) {
+        if (product == null || product.getPrdId() == null
+                || product.getProductName() == null || product.getProductName().isBlank()) {
+            return false;
+        }
+        if (product.getCompanyName() == null) {
+            product.setCompanyName(""); // company_name은 NOT NULL
+        }
+
+        int size;
+        synchronized (this) {
+            if (!pending.containsKey(product.getPrdId()) && pending.size() >= capacity) {
+                dropped.increment();
+                log.warn("제품 저장 대기열이 가득 차서 버림: {}", product.getProductName());
+                return false;
+            }
+            pending.remove(product.getPrdId()); // 최신 값을 뒤로 보낸다
+            pending.put(product.getPrdId(), product);
+            size = pending.size();
+        }
+        enqueued.increment();
+
+        // 한 배치 분량이 모이면 주기를 기다리지 않고 바로 반영
+        if (size >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushSafely);
+            } catch (Exception e) {
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    public void enqueueAll(Collection<Product> products) {
+        for (Product product : products) {
+            enqueue(product);
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    // 대기 중인 제품을 배치로 DB에 반영
+    public void flush() {
+        List<Product> drained;
+        synchronized (this) {
+            flushRequested.set(false);
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        if (!upsertWithRetry(drained)) {
+            dropped.increment(drained.size());
+            log.error("제품 배치 저장 재시도 실패, {}건 버림", drained.size());
+            return;
+        }
+
+        flushed.increment(drained.size());
+        log.info("제품 {}건 DB 반영 완료 ({}ms)", drained.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 실패하면 backoff(+지터) 뒤 한 번만 재시도 (failed는 실패한 시도의 건수)
+    private boolean upsertWithRetry(List<Product> products) {
+        try {
+            productBatchWriter.upsert(products, batchSize);
+            return true;
+        } catch (Exception e) {
+            failed.increment(products.size());
+            log.warn("제품 배치 저장 실패 ({}건), 재시도 예정: {}", products.size(), e.getMessage());
+        }
+
+        try {
+            Thread.sleep(retryBackoffMillis + ThreadLocalRandom.current().nextLong(retryBackoffMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            productBatchWriter.upsert(products, batchSize);
+            return true;
+        } catch (Exception e) {
+            failed.increment(products.size());
+            log.error("제품 배치 저장 실패 ({}건): {}", products.size(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("제품 저장 대기열 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    // 종료 시 남은 항목을 모두 반영
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -1,21 +1,14 @@
 package com.suppleit.backend.service;
 
-import java.net.URI;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import com.suppleit.backend.dto.RecommendationResponse;
+import com.suppleit.backend.client.FlaskRecommendationClient;
+import com.suppleit.backend.recommend.TfidfRecommendationEngine;
 
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,11 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RecommendationService {
 
-  private final RestTemplate restTemplate;
-  private final ExecutorService executorService = Executors.newFixedThreadPool(10);
-
-  @Value("${flask.api.url}")
-  private String flaskUrl;
+  private final FlaskRecommendationClient flaskRecommendationClient;
+  private final TfidfRecommendationEngine recommendationEngine;
 
   @Value("${naver.api.client-id}")
   private String clientId;
@@ -44,34 +34,16 @@ public class RecommendationService {
   }
 
   public List<String> getRecommendations(String keyword) {
-    log.info("Fetching recommendations for keyword: {}", keyword);
-    // 캐시 버스팅을 위한 타임스탬프 추가
-    String timestamp = String.valueOf(System.currentTimeMillis());
-    // Flask 서버의 recommend 엔드포인트로 요청
-    URI uri = UriComponentsBuilder.fromUriString(flaskUrl + "/recommend")
-        .queryParam("keyword", keyword)
-        .queryParam("_", timestamp) // 캐시 버스팅 파라미터 추가
-        .build()
-        .encode() // 이 줄이 추가됨 - URI 인코딩 처리
-        .toUri();
-    try {
-      log.debug("Calling Flask API with URI: {}", uri);
-      ResponseEntity<RecommendationResponse> response = restTemplate.getForEntity(uri, RecommendationResponse.class);
-      if (response.getBody() != null && response.getBody().getRecommendations() != null) {
-        log.info("Received recommendations: {}", response.getBody().getRecommendations());
-        return response.getBody().getRecommendations();
-      } else {
-        log.warn("No recommendations found for keyword: {}", keyword);
-        return new ArrayList<>();
-      }
-    } catch (Exception e) {
-      log.error("Error fetching recommendations from Flask API: {}", e.getMessage());
-      return new ArrayList<>();
+    // 추천 데이터가 JVM에 올라와 있으면 Flask 호출 없이 바로 계산
+    if (recommendationEngine.isReady()) {
+      List<String> recommendations = recommendationEngine.recommend(keyword);
+      log.info("Local recommendations for keyword {}: {}", keyword, recommendations);
+      return recommendations;
     }
-  }
-
-  @PreDestroy
-  public void shutdown() {
-    executorService.shutdown();
+    log.info("Fetching recommendations for keyword: {}", keyword);
+    // Flask 서버로 요청 (동시 요청은 배치로 묶여 전송됨)
+    List<String> recommendations = flaskRecommendationClient.getRecommendations(keyword);
+    log.info("Received recommendations: {}", recommendations);
+    return recommendations;
   }
 }
\ No newline at end of file
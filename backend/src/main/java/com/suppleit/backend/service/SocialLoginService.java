@@ -12,7 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -25,8 +25,11 @@ import java.util.Arrays;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -37,7 +40,7 @@ import java.util.UUID;
 public class SocialLoginService {
 
     private final MemberMapper memberMapper;
-    private final RestTemplate restTemplate;
+    private final WebClient outboundWebClient;
     private final ObjectMapper objectMapper;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
@@ -54,6 +57,22 @@ public class SocialLoginService {
     @Value("${spring.security.oauth2.client.registration.naver.client-secret}")
     private String naverClientSecret;
 
+    // 토큰 교환 + 사용자 정보 조회 전체 대기 한도
+    @Value("${oauth.http.timeout-ms:5000}")
+    private long oauthTimeoutMillis;
+
+    @Value("${oauth.google.token-uri:https://oauth2.googleapis.com/token}")
+    private String googleTokenUri;
+
+    @Value("${oauth.google.user-info-uri:https://www.googleapis.com/oauth2/v3/userinfo}")
+    private String googleUserInfoUri;
+
+    @Value("${oauth.naver.token-uri:https://nid.naver.com/oauth2.0/token}")
+    private String naverTokenUri;
+
+    @Value("${oauth.naver.user-info-uri:https://openapi.naver.com/v1/nid/me}")
+    private String naverUserInfoUri;
+
     @Bean
     public ClientRegistrationRepository clientRegistrationRepository(
             @Value("${spring.security.oauth2.client.registration.google.client-id}") String googleClientId,
@@ -99,9 +118,6 @@ public class SocialLoginService {
             log.info("구글 인증 코드 처리 시작: {}", code);
             
             // 1. 인증 코드로 액세스 토큰 요청
-            HttpHeaders tokenHeaders = new HttpHeaders();
-            tokenHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            
             MultiValueMap<String, String> tokenRequest = new LinkedMultiValueMap<>();
             tokenRequest.add("code", code);
             tokenRequest.add("client_id", googleClientId);
@@ -111,49 +127,25 @@ public class SocialLoginService {
 
             log.info("구글 클라이언트 ID: {}", googleClientId);
             log.info("리디렉션 URI: http://localhost/callback/google"); // 수정된 로그 메시지
-            
-            HttpEntity<MultiValueMap<String, String>> tokenEntity = new HttpEntity<>(tokenRequest, tokenHeaders);
-            
             log.info("구글 토큰 요청: {}", tokenRequest);
             
-            ResponseEntity<String> tokenResponse = restTemplate.exchange(
-                    "https://oauth2.googleapis.com/token",
-                    HttpMethod.POST,
-                    tokenEntity,
-                    String.class
-            );
+            // 2. 토큰 교환 → 사용자 정보 조회를 하나의 논블로킹 호출 체인으로 실행하고 최종 결과만 기다림 (컨트롤러가 가상 스레드에서 호출)
+            String userInfo = requestAccessToken(googleTokenUri, tokenRequest, "구글")
+                    .flatMap(accessToken -> requestUserInfo(googleUserInfoUri, accessToken))
+                    .block(Duration.ofMillis(oauthTimeoutMillis));
             
-            log.info("구글 토큰 응답: {}", tokenResponse.getBody());
-            
-            // 2. 응답에서 액세스 토큰 추출
-            JsonNode tokenJson = objectMapper.readTree(tokenResponse.getBody());
-            String accessToken = tokenJson.get("access_token").asText();
-            
-            log.info("구글 액세스 토큰 획득: {}", accessToken);
-            
-            // 3. 이후 기존 로직을 사용하여 사용자 정보 요청
-            return getGoogleUserInfo(accessToken);
+            // 3. 이후 기존 로직을 사용하여 사용자 정보 처리
+            return getGoogleUserInfo(userInfo);
         } catch (Exception e) {
             log.error("구글 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("구글 로그인 처리 중 오류 발생: " + e.getMessage(), e);
         }
     }
     
-    // 기존 getGoogleMember 메서드를 getGoogleUserInfo로 이름 변경하고 내부 로직 유지
-    private Map<String, Object> getGoogleUserInfo(String accessToken) {
+    // 구글 사용자 정보 응답으로 로그인/가입 처리
+    private Map<String, Object> getGoogleUserInfo(String userInfo) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                    "https://www.googleapis.com/oauth2/v3/userinfo",
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            JsonNode jsonNode = objectMapper.readTree(userInfo);
             log.info("구글 API 응답: {}", jsonNode.toString());
 
             String email = jsonNode.has("email") ? jsonNode.get("email").asText() : null;
@@ -175,9 +167,6 @@ public class SocialLoginService {
             log.info("네이버 인증 코드 처리 시작 - 코드: {}", code);
             
             // 1. 인증 코드로 액세스 토큰 요청
-            HttpHeaders tokenHeaders = new HttpHeaders();
-            tokenHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            
             MultiValueMap<String, String> tokenRequest = new LinkedMultiValueMap<>();
             tokenRequest.add("grant_type", "authorization_code");
             tokenRequest.add("client_id", naverClientId);
@@ -185,48 +174,25 @@ public class SocialLoginService {
             tokenRequest.add("code", code);
             tokenRequest.add("redirect_uri", "http://localhost/callback/naver"); // 수정된 부분
             
-            HttpEntity<MultiValueMap<String, String>> tokenEntity = new HttpEntity<>(tokenRequest, tokenHeaders);
-            
             log.info("네이버 토큰 요청: {}", tokenRequest);
             
-            ResponseEntity<String> tokenResponse = restTemplate.exchange(
-                    "https://nid.naver.com/oauth2.0/token",
-                    HttpMethod.POST,
-                    tokenEntity,
-                    String.class
-            );
+            // 2. 토큰 교환 → 사용자 정보 조회를 하나의 논블로킹 호출 체인으로 실행하고 최종 결과만 기다림 (컨트롤러가 가상 스레드에서 호출)
+            String userInfo = requestAccessToken(naverTokenUri, tokenRequest, "네이버")
+                    .flatMap(accessToken -> requestUserInfo(naverUserInfoUri, accessToken))
+                    .block(Duration.ofMillis(oauthTimeoutMillis));
             
-            log.info("네이버 토큰 응답: {}", tokenResponse.getBody());
-            
-            // 2. 응답에서 액세스 토큰 추출
-            JsonNode tokenJson = objectMapper.readTree(tokenResponse.getBody());
-            String accessToken = tokenJson.get("access_token").asText();
-            
-            log.info("네이버 액세스 토큰 획득: {}", accessToken);
-            
-            // 3. 이후 기존 로직을 사용하여 사용자 정보 요청
-            return getNaverUserInfo(accessToken);
+            // 3. 이후 기존 로직을 사용하여 사용자 정보 처리
+            return getNaverUserInfo(userInfo);
         } catch (Exception e) {
             log.error("네이버 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("네이버 로그인 처리 중 오류 발생: " + e.getMessage(), e);
         }
     }
     
-    // 기존 getNaverMember 메서드를 getNaverUserInfo로 이름 변경하고 내부 로직 유지
-    private Map<String, Object> getNaverUserInfo(String accessToken) {
+    // 네이버 사용자 정보 응답으로 로그인/가입 처리
+    private Map<String, Object> getNaverUserInfo(String userInfo) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                    "https://openapi.naver.com/v1/nid/me",
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            JsonNode jsonNode = objectMapper.readTree(userInfo);
             log.info("네이버 API 응답: {}", jsonNode.toString());
 
             // 네이버 API는 response 객체 안에 실제 데이터가 있음
@@ -247,6 +213,39 @@ public class SocialLoginService {
         }
     }
 
+    // 인증 코드 → 액세스 토큰 (공용 WebClient 커넥션 풀 사용)
+    private Mono<String> requestAccessToken(String tokenUrl, MultiValueMap<String, String> tokenRequest, String provider) {
+        return outboundWebClient.post()
+                .uri(tokenUrl)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(tokenRequest))
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(body -> {
+                    log.info("{} 토큰 응답: {}", provider, body);
+                    String accessToken = readAccessToken(body);
+                    log.info("{} 액세스 토큰 획득: {}", provider, accessToken);
+                    return accessToken;
+                });
+    }
+
+    // 액세스 토큰 → 사용자 정보 원문(JSON)
+    private Mono<String> requestUserInfo(String userInfoUrl, String accessToken) {
+        return outboundWebClient.get()
+                .uri(userInfoUrl)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private String readAccessToken(String tokenResponse) {
+        try {
+            return objectMapper.readTree(tokenResponse).get("access_token").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException("액세스 토큰 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
     // 소셜 로그인 공통 처리 메서드 (private → public으로 변경)
     public Map<String, Object> processSocialLogin(String email, String nickname, SocialType socialType) {
         Member existingMember = memberMapper.getMemberByEmail(email);
@@ -264,7 +263,7 @@ public class SocialLoginService {
             }
             
             String role = existingMember.getMemberRole().name();
-            jwtToken = jwtTokenProvider.createToken(email, role);
+            jwtToken = jwtTokenProvider.createToken(existingMember.getMemberId(), email, role);
             refreshToken = jwtTokenProvider.createRefreshToken(email);
             memberDto = MemberDto.fromEntity(existingMember);
         } else {
@@ -287,7 +286,7 @@ public class SocialLoginService {
             // 방금 등록한 회원 정보 조회
             Member savedMember = memberMapper.getMemberByEmail(email);
             
-            jwtToken = jwtTokenProvider.createToken(email, MemberRole.USER.name());
+            jwtToken = jwtTokenProvider.createToken(savedMember.getMemberId(), email, MemberRole.USER.name());
             refreshToken = jwtTokenProvider.createRefreshToken(email);
             memberDto = MemberDto.fromEntity(savedMember);
         }
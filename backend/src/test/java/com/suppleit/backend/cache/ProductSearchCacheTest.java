@@ -0,0 +1,68 @@
+package com.suppleit.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.ProductDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ProductSearchCache cache;
+
+    ProductSearchCacheTest() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+        cache = new ProductSearchCache(redisTemplate, new ObjectMapper(), Runnable::run, new SimpleMeterRegistry(),
+                100, 300, 3600, 0.8, 1000);
+    }
+
+    @Test
+    void partialResultIsReturnedButNotStored() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<ProductDto> first = cache.get("비타민", 1, () -> {
+            loads.incrementAndGet();
+            return ProductSearchCache.Loaded.partial(List.of(product(1L)));
+        });
+        cache.get("비타민", 1, () -> {
+            loads.incrementAndGet();
+            return ProductSearchCache.Loaded.complete(List.of(product(1L), product(2L)));
+        });
+
+        assertEquals(1, first.size());
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.get("비타민", 1, () -> ProductSearchCache.Loaded.complete(List.of())).size());
+    }
+
+    @Test
+    void lateResultPutDuringPartialLoadIsKept() {
+        // 로더가 끝나기 전에 늦은 API 응답이 병합 결과를 먼저 넣어도 잘린 결과로 덮어쓰지 않는다
+        cache.get("비타민", 1, () -> {
+            cache.put("비타민", 1, List.of(product(1L), product(2L), product(3L)));
+            return ProductSearchCache.Loaded.partial(List.of(product(1L)));
+        });
+
+        assertEquals(3, cache.get("비타민", 1, () -> ProductSearchCache.Loaded.complete(List.of())).size());
+    }
+
+    private static ProductDto product(long id) {
+        ProductDto product = new ProductDto();
+        product.setPrdId(id);
+        product.setProductName("제품" + id);
+        return product;
+    }
+}
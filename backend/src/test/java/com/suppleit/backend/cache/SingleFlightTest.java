@@ -0,0 +1,199 @@
+package com.suppleit.backend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 5_000, registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(9);
+        try {
+            Future<String> leader = callers.submit(() -> flight.call("k", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "value";
+            }));
+            waitUntil(() -> flight.isInFlight("k"));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                followers.add(callers.submit(() -> flight.call("k", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            waitUntil(() -> count("test.calls", "coalesced") == 8);
+            release.countDown();
+
+            assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, count("test.calls", "leader"));
+            assertFalse(flight.isInFlight("k"));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void failurePropagatesToFollowersAndClearsKey() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 5_000, registry);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = callers.submit(() -> flight.call("k", () -> {
+                await(release);
+                throw new IllegalArgumentException("boom");
+            }));
+            waitUntil(() -> flight.isInFlight("k"));
+            Future<String> follower = callers.submit(() -> flight.call("k", () -> "unused"));
+            waitUntil(() -> count("test.calls", "coalesced") == 1);
+            release.countDown();
+
+            ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, leaderError.getCause());
+            assertInstanceOf(IllegalArgumentException.class, followerError.getCause());
+            assertFalse(flight.isInFlight("k"));
+            assertEquals("again", flight.call("k", () -> "again")); // 실패는 보관하지 않는다
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void followerGivesUpAfterTimeout() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 50, registry);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            callers.submit(() -> flight.call("k", () -> {
+                await(release);
+                return "late";
+            }));
+            waitUntil(() -> flight.isInFlight("k"));
+
+            assertThrows(IllegalStateException.class, () -> flight.call("k", () -> "unused"));
+            assertEquals(1, registry.get("test.timeouts").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentKeysRunIndependently() {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 5_000, registry);
+
+        assertEquals("a", flight.call("a", () -> "a"));
+        assertEquals("b", flight.call("b", () -> "b"));
+        assertEquals(2, count("test.calls", "leader"));
+    }
+
+    @Test
+    void executeReturnsSameFutureWhileInFlight() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 5_000, registry);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> first = flight.execute("k", () -> {
+                await(release);
+                return "value";
+            }, executor);
+            CompletableFuture<String> second = flight.execute("k", () -> "other", executor);
+
+            assertSame(first, second);
+            release.countDown();
+            assertEquals("value", second.get(5, TimeUnit.SECONDS));
+            waitUntil(() -> !flight.isInFlight("k"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeTimesOutAndLetsNextCallRunAgain() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 50, registry);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CompletableFuture<String> slow = flight.execute("k", () -> {
+                await(release);
+                return "late";
+            }, executor);
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> slow.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, error.getCause());
+            waitUntil(() -> !flight.isInFlight("k"));
+            assertEquals(1, registry.get("test.timeouts").counter().count());
+
+            assertEquals("fresh", flight.execute("k", () -> "fresh", executor).get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeRejectedByExecutorFailsAndClearsKey() {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 5_000, registry);
+
+        CompletableFuture<String> future = flight.execute("k", () -> "value", task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(flight.isInFlight("k"));
+    }
+
+    private double count(String name, String role) {
+        return registry.get(name).tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건이 5초 안에 충족되지 않음");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
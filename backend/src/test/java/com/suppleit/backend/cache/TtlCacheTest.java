@@ -0,0 +1,121 @@
+package com.suppleit.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TtlCacheTest {
+
+    @Test
+    void returnsStoredValueUntilExpired() throws InterruptedException {
+        TtlCache<String, String> cache = new TtlCache<>(10, 60_000);
+        cache.put("a", "1");
+        cache.put("b", "2", 20);
+
+        assertEquals("1", cache.get("a"));
+        assertEquals("2", cache.get("b"));
+
+        Thread.sleep(40);
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.size()); // 만료 항목은 조회 시점에 제거된다
+    }
+
+    @Test
+    void entryCarriesCreationAndExpiryTime() {
+        TtlCache<String, String> cache = new TtlCache<>(10, 1_000);
+        long before = System.currentTimeMillis();
+        cache.put("a", "1");
+
+        TtlCache.Entry<String> entry = cache.getEntry("a");
+
+        assertNotNull(entry);
+        assertTrue(entry.getCreatedAt() >= before);
+        assertEquals(entry.getCreatedAt() + 1_000, entry.getExpiresAt());
+    }
+
+    @Test
+    void ignoresNullValuesAndNonPositiveTtl() {
+        TtlCache<String, String> cache = new TtlCache<>(10, 1_000);
+        cache.put("a", null);
+        cache.put("b", "2", 0);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        TtlCache<String, String> cache = new TtlCache<>(2, 60_000);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a"); // a를 최근 사용으로
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        TtlCache<String, String> cache = new TtlCache<>(10, 60_000);
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a");
+        cache.get("missing");
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void invalidateRemovesEntries() {
+        TtlCache<String, String> cache = new TtlCache<>(10, 60_000);
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals("2", cache.get("b"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void concurrentWritersNeverExceedMaxSize() throws InterruptedException {
+        TtlCache<Integer, Integer> cache = new TtlCache<>(100, 60_000);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 10_000;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 5_000; i++) {
+                    cache.put(offset + i, i);
+                    cache.get(offset + i / 2);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(8 * 5_000 - 100, cache.getEvictionCount());
+    }
+}
@@ -0,0 +1,231 @@
+package com.suppleit.backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.config.WebClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로컬 HTTP 스텁(Flask /recommend, /recommend/batch)을 상대로 한 부하 테스트.
+ * WebClientConfig가 만드는 실제 커넥션 풀/WebClient를 쓰고, 스텁에서 동시 처리 수와 호출 수를 센다.
+ */
+class FlaskRecommendationClientLoadTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final AtomicInteger singleRequests = new AtomicInteger();
+
+    private volatile long delayMillis = 20;
+    private volatile boolean batchRoute = true;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ConnectionProvider connectionProvider;
+    private ResilientDestinations destinations;
+    private FlaskRecommendationClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1000);
+        server.createContext("/recommend", this::serve);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.stop();
+        }
+        if (destinations != null) {
+            destinations.close();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersAreBatchedWithinConnectionLimit() throws Exception {
+        startClient(8, 500, true);
+
+        Map<Integer, List<String>> results = callConcurrently(400, 40);
+
+        for (Map.Entry<Integer, List<String>> result : results.entrySet()) {
+            assertEquals(List.of("추천-키워드" + result.getKey() % 40), result.getValue());
+        }
+        assertEquals(0, singleRequests.get());
+        assertTrue(batchRequests.get() < 100, "배치 요청 수: " + batchRequests.get());
+        assertTrue(maxInFlight.get() <= 8, "동시 연결 수: " + maxInFlight.get());
+    }
+
+    @Test
+    void singleCallsQueueForPooledConnections() throws Exception {
+        startClient(4, 500, false);
+
+        Map<Integer, List<String>> results = callConcurrently(200, 200);
+
+        for (Map.Entry<Integer, List<String>> result : results.entrySet()) {
+            assertEquals(List.of("추천-키워드" + result.getKey()), result.getValue());
+        }
+        assertEquals(200, singleRequests.get());
+        assertTrue(maxInFlight.get() <= 4, "동시 연결 수: " + maxInFlight.get());
+    }
+
+    @Test
+    void fallsBackToSingleCallsWithoutBatchRoute() throws Exception {
+        batchRoute = false;
+        startClient(8, 500, true);
+
+        Map<Integer, List<String>> results = callConcurrently(50, 10);
+
+        for (Map.Entry<Integer, List<String>> result : results.entrySet()) {
+            assertEquals(List.of("추천-키워드" + result.getKey() % 10), result.getValue());
+        }
+        assertTrue(singleRequests.get() >= 10);
+    }
+
+    @Test
+    void pendingQueueOverflowFailsFast() {
+        delayMillis = 300;
+        connectionProvider = new WebClientConfig().outboundConnectionProvider(2, 5, 2000, 30000);
+        WebClient webClient = new WebClientConfig().outboundWebClient(WebClient.builder(), connectionProvider, 1000, 5000);
+        String url = baseUrl() + "/recommend?keyword=a";
+
+        long start = System.nanoTime();
+        List<Throwable> errors = Flux.range(0, 30)
+                .flatMap(i -> webClient.get().uri(url).retrieve().bodyToMono(String.class)
+                        .then(Mono.<Throwable>empty())
+                        .onErrorResume(Mono::just), 30)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 연결 2개 + 대기열 5개를 넘는 요청은 연결을 기다리지 않고 바로 실패
+        assertEquals(23, errors.size());
+        for (Throwable error : errors) {
+            assertInstanceOf(WebClientRequestException.class, error);
+            assertTrue(error.getMessage().contains("Pending acquire queue has reached its maximum size"), error.getMessage());
+        }
+        assertEquals(7, singleRequests.get());
+        assertTrue(maxInFlight.get() <= 2, "동시 연결 수: " + maxInFlight.get());
+        assertTrue(elapsedMillis < 3000, "소요 시간: " + elapsedMillis + "ms");
+    }
+
+    private void startClient(int maxConnections, int pendingAcquireMax, boolean batchEnabled) {
+        connectionProvider = new WebClientConfig().outboundConnectionProvider(maxConnections, pendingAcquireMax, 5000, 30000);
+        WebClient webClient = new WebClientConfig().outboundWebClient(WebClient.builder(), connectionProvider, 1000, 5000);
+        // 적응형 타임아웃/hedge 대신 풀과 배치 동작만 보도록 고정
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.flask.min-timeout-ms", "10000")
+                .withProperty("resilience.flask.hedge-enabled", "false");
+        destinations = new ResilientDestinations(environment, registry);
+        client = new FlaskRecommendationClient(webClient, destinations, registry, 10000);
+        ReflectionTestUtils.setField(client, "flaskUrl", baseUrl());
+        ReflectionTestUtils.setField(client, "batchEnabled", batchEnabled);
+        ReflectionTestUtils.setField(client, "maxBatchSize", 16);
+        ReflectionTestUtils.setField(client, "maxWaitMillis", 5L);
+        ReflectionTestUtils.setField(client, "unavailableRetryMillis", 60_000L);
+        client.start();
+    }
+
+    // 호출자 count명이 동시에 "키워드{i % keywords}"를 요청하고, 호출자 번호 → 결과를 반환
+    private Map<Integer, List<String>> callConcurrently(int count, int keywords) throws Exception {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String keyword = "키워드" + i % keywords;
+                futures.add(callers.submit(() -> client.getRecommendations(keyword)));
+            }
+            Map<Integer, List<String>> results = new TreeMap<>();
+            for (int i = 0; i < count; i++) {
+                results.put(i, futures.get(i).get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        }
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(delayMillis);
+            String path = exchange.getRequestURI().getPath();
+            Object response;
+            if (path.equals("/recommend/batch")) {
+                batchRequests.incrementAndGet();
+                if (!batchRoute) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                List<Map<String, Object>> results = new ArrayList<>();
+                for (JsonNode keyword : request.path("keywords")) {
+                    results.add(single(keyword.asText()));
+                }
+                response = Map.of("count", results.size(), "results", results);
+            } else {
+                singleRequests.incrementAndGet();
+                String query = exchange.getRequestURI().getRawQuery();
+                response = single(URLDecoder.decode(query.substring(query.indexOf('=') + 1), StandardCharsets.UTF_8));
+            }
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static Map<String, Object> single(String keyword) {
+        return Map.of("keyword", keyword, "count", 1, "recommendations", List.of("추천-" + keyword));
+    }
+}
@@ -0,0 +1,146 @@
+package com.suppleit.backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicDataResponseDecoderTest {
+
+    private final PublicDataResponseDecoder decoder = new PublicDataResponseDecoder(new JsonFactory());
+
+    @Test
+    void decodesArrayOfItemWrappers() throws IOException {
+        PublicDataPage page = decode("""
+                {"header": {"resultCode": "00", "resultMsg": "NORMAL SERVICE."},
+                 "body": {"totalCount": 2, "items": [
+                   {"item": {"PRDUCT": "비타민C", "ENTRPS": "가나제약", "STTEMNT_NO": "2004-0001"}},
+                   {"item": {"PRDUCT": "오메가3", "ENTRPS": "다라제약", "STTEMNT_NO": "2004-0002"}}
+                 ]}}
+                """);
+
+        assertTrue(page.isSuccess());
+        assertEquals("NORMAL SERVICE.", page.getResultMsg());
+        assertEquals(2, page.getTotalCount());
+        assertEquals(List.of("비타민C", "오메가3"), names(page));
+        assertEquals("가나제약", page.getItems().get(0).getEntrps());
+    }
+
+    @Test
+    void decodesArrayOfInlineItems() throws IOException {
+        PublicDataPage page = decode("""
+                {"header": {"resultCode": "00"},
+                 "body": {"totalCount": 2, "items": [
+                   {"PRDUCT": "비타민C", "STTEMNT_NO": "2004-0001"},
+                   {"PRDUCT": "오메가3", "STTEMNT_NO": "2004-0002"}
+                 ]}}
+                """);
+
+        assertEquals(List.of("비타민C", "오메가3"), names(page));
+        assertEquals("2004-0002", page.getItems().get(1).getSttemntNo());
+    }
+
+    @Test
+    void decodesItemArrayInsideObject() throws IOException {
+        PublicDataPage page = decode("""
+                {"header": {"resultCode": "00"},
+                 "body": {"totalCount": 2, "items": {"item": [
+                   {"PRDUCT": "비타민C"},
+                   {"PRDUCT": "오메가3"}
+                 ]}}}
+                """);
+
+        assertEquals(List.of("비타민C", "오메가3"), names(page));
+    }
+
+    @Test
+    void decodesSingleItemObject() throws IOException {
+        PublicDataPage page = decode("""
+                {"header": {"resultCode": "00"},
+                 "body": {"totalCount": 1, "items": {"item": {"PRDUCT": "비타민C", "MAIN_FNCTN": "항산화"}}}}
+                """);
+
+        assertEquals(List.of("비타민C"), names(page));
+        assertEquals("항산화", page.getItems().get(0).getMainFnctn());
+    }
+
+    @Test
+    void decodesEmptyStringItemsAsNoResults() throws IOException {
+        PublicDataPage page = decode("""
+                {"header": {"resultCode": "00"}, "body": {"totalCount": 0, "items": ""}}
+                """);
+
+        assertTrue(page.isSuccess());
+        assertEquals(0, page.getTotalCount());
+        assertTrue(page.getItems().isEmpty());
+    }
+
+    @Test
+    void readsResponseWrapper() throws IOException {
+        PublicDataPage page = decode("""
+                {"response": {"header": {"resultCode": "22", "resultMsg": "LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR."},
+                              "body": {"items": ""}}}
+                """);
+
+        assertFalse(page.isSuccess());
+        assertTrue(page.isThrottled());
+    }
+
+    @Test
+    void trimsValuesAndDefaultsMissingFieldsToEmpty() throws IOException {
+        PublicDataPage page = decode("""
+                {"body": {"items": [{"item": {
+                   "PRDUCT": "  비타민C  ",
+                   "ENTRPS": null,
+                   "REGIST_DT": 20040101,
+                   "SUNGSANG": {"nested": ["ignored"]},
+                   "UNKNOWN": [1, 2, {"deep": true}],
+                   "INTAKE_HINT1": "임산부 주의"
+                 }}]}}
+                """);
+
+        HealthFunctionalFoodDto item = page.getItems().get(0);
+        assertEquals("비타민C", item.getPrduct());
+        assertEquals("", item.getEntrps());
+        assertEquals("20040101", item.getRegistDt());
+        assertEquals("", item.getSungsang());
+        assertEquals("임산부 주의", item.getIntakeHint());
+        assertEquals("", item.getBaseStandard());
+    }
+
+    @Test
+    void skipsUnknownTopLevelFields() throws IOException {
+        PublicDataPage page = decode("""
+                {"meta": {"items": [{"PRDUCT": "무시"}]}, "header": {"resultCode": "00"},
+                 "body": {"pageNo": 1, "items": [{"PRDUCT": "비타민C"}]}}
+                """);
+
+        assertEquals(List.of("비타민C"), names(page));
+    }
+
+    @Test
+    void productIdUsesRegistrationDigits() {
+        assertEquals(200400200001L, PublicDataResponseDecoder.productIdOf("2004-0020-0001", "x"));
+        assertEquals(Math.abs((long) "제-가".hashCode()), PublicDataResponseDecoder.productIdOf("제-가", "x"));
+        assertEquals(Math.abs((long) "99999999999999999999".hashCode()),
+                PublicDataResponseDecoder.productIdOf("99999999999999999999", "x"));
+        assertEquals(Math.abs((long) "비타민".hashCode()), PublicDataResponseDecoder.productIdOf("", "비타민"));
+        assertEquals(0L, PublicDataResponseDecoder.productIdOf(null, null));
+    }
+
+    private PublicDataPage decode(String json) throws IOException {
+        return decoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> names(PublicDataPage page) {
+        return page.getItems().stream().map(HealthFunctionalFoodDto::getPrduct).toList();
+    }
+}
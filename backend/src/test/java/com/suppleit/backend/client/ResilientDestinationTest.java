@@ -0,0 +1,201 @@
+package com.suppleit.backend.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientDestinationTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ResilientDestinations destinations = new ResilientDestinations(new MockEnvironment()
+            // 예산 1개, 적립 없음: 추가 시도는 전체에서 한 번만 가능
+            .withProperty("resilience.test.retry-budget-max", "1")
+            .withProperty("resilience.test.retry-budget-ratio", "0")
+            // 표본 5개부터 p95/p99 계산, hedge는 p95(최소 10ms)에서
+            .withProperty("resilience.hedge.min-samples", "5")
+            .withProperty("resilience.hedge.min-hedge-delay-ms", "10")
+            .withProperty("resilience.timeout.min-samples", "5")
+            // 최근 4건 중 절반 이상 실패하면 200ms 동안 열림, 재시도 없음
+            .withProperty("resilience.breaker.retry-budget-max", "0")
+            .withProperty("resilience.breaker.breaker-window", "4")
+            .withProperty("resilience.breaker.breaker-min-calls", "4")
+            .withProperty("resilience.breaker.breaker-open-ms", "200"), registry);
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final Callable<String> failing = () -> {
+        attempts.incrementAndGet();
+        throw new IOException("connection reset");
+    };
+
+    @AfterEach
+    void tearDown() {
+        destinations.close();
+    }
+
+    @Test
+    void gateRejectionRefundsBudget() {
+        AtomicInteger gateCalls = new AtomicInteger();
+        BooleanSupplier gate = () -> gateCalls.incrementAndGet() > 1; // 첫 허가만 거절
+        ResilientDestination destination = destinations.create("test", 100, 2000, false, gate);
+
+        assertEquals("fallback", destination.execute(failing, () -> "fallback"));
+        assertEquals(1, attempts.get()); // 허가 거절 → 재시도 없음
+
+        assertEquals("fallback", destination.execute(failing, () -> "fallback"));
+        assertEquals(3, attempts.get()); // 돌려받은 예산으로 재시도
+        assertEquals(1, retries());
+    }
+
+    @Test
+    void budgetLimitsRetriesAcrossCalls() {
+        ResilientDestination destination = destinations.create("test", 100, 2000, false, () -> true);
+
+        destination.execute(failing, () -> "fallback");
+        destination.execute(failing, () -> "fallback");
+
+        assertEquals(3, attempts.get()); // 두 번째 호출은 예산이 없어 재시도하지 않는다
+        assertEquals(1, retries());
+    }
+
+    @Test
+    void retrySucceedsAfterTransientFailure() {
+        ResilientDestination destination = destinations.create("test", 100, 2000, false, () -> true);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = destination.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("connection reset");
+            }
+            return "ok";
+        }, () -> "fallback");
+
+        assertEquals("ok", result);
+        assertEquals(1, registry.get("resilience.calls").tag("destination", "test").tag("outcome", "success").counter().count());
+    }
+
+    @Test
+    void hedgesAfterP95AndCancelsSlowAttempt() throws Exception {
+        ResilientDestination destination = destinations.create("hedge", 1000, 2000, true, () -> true);
+        for (int i = 0; i < 5; i++) {
+            destination.execute(() -> "fast", () -> "fallback"); // p95 ≈ 0 → hedge 지연은 최소값 10ms
+        }
+
+        CountDownLatch cancelled = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+        String result = destination.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    new CountDownLatch(1).await(); // 응답하지 않는 첫 시도
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    throw e;
+                }
+            }
+            return "hedged";
+        }, () -> "fallback");
+
+        assertEquals("hedged", result);
+        assertEquals(2, calls.get());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000); // 타임아웃(1초)까지 기다리지 않음
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS), "늦은 시도가 취소되지 않음");
+        assertEquals(1, registry.get("resilience.attempts").tag("destination", "hedge").tag("type", "hedge").counter().count());
+    }
+
+    @Test
+    void timeoutFollowsP99WithinBounds() {
+        // 표본이 없으면 최대값
+        ResilientDestination clampedMin = destinations.create("timeout", 50, 2000, false, () -> true);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(2000), clampedMin.timeoutNanos());
+
+        // 빠른 응답뿐이면 p99 × 1.5가 하한보다 작아 하한으로
+        for (int i = 0; i < 5; i++) {
+            clampedMin.execute(() -> "fast", () -> "fallback");
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), clampedMin.timeoutNanos());
+
+        // 줄어든 타임아웃이 실제로 적용되어 느린 시도는 fallback
+        long start = System.nanoTime();
+        assertEquals("fallback", clampedMin.execute(() -> {
+            Thread.sleep(2000);
+            return "slow";
+        }, () -> "fallback"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+
+        // 40ms 응답 → p99 × 1.5 ≥ 60ms (상한 1초 미만)
+        ResilientDestination adaptive = destinations.create("timeout", 10, 1000, false, () -> true);
+        for (int i = 0; i < 5; i++) {
+            adaptive.execute(sleeping(40), () -> "fallback");
+        }
+        assertTrue(adaptive.timeoutNanos() >= TimeUnit.MILLISECONDS.toNanos(60), "타임아웃: " + adaptive.timeoutNanos());
+        assertTrue(adaptive.timeoutNanos() < TimeUnit.MILLISECONDS.toNanos(1000), "타임아웃: " + adaptive.timeoutNanos());
+
+        // 150ms 응답 → p99 × 1.5 ≥ 225ms가 상한 200ms로
+        ResilientDestination clampedMax = destinations.create("timeout", 10, 200, false, () -> true);
+        for (int i = 0; i < 5; i++) {
+            clampedMax.execute(sleeping(150), () -> "fallback");
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), clampedMax.timeoutNanos());
+    }
+
+    @Test
+    void breakerOpensServesFallbackThenRecoversThroughHalfOpen() throws Exception {
+        ResilientDestination destination = destinations.create("breaker", 100, 2000, false, () -> true);
+        for (int i = 0; i < 4; i++) {
+            assertEquals("fallback", destination.execute(failing, () -> "fallback"));
+        }
+        assertEquals(ResilientDestination.State.OPEN, destination.state());
+        assertEquals(4, attempts.get());
+
+        // 열려 있는 동안은 호출하지 않고 바로 fallback
+        assertEquals("fallback", destination.execute(() -> "ok", () -> "fallback"));
+        assertEquals(1, registry.get("resilience.calls").tag("destination", "breaker").tag("outcome", "rejected").counter().count());
+
+        // 열림 시간이 지나면 시험 호출 1건만 허용, 실패하면 다시 열림
+        Thread.sleep(250);
+        assertEquals("fallback", destination.execute(failing, () -> "fallback"));
+        assertEquals(5, attempts.get());
+        assertEquals(ResilientDestination.State.OPEN, destination.state());
+
+        // 시험 호출이 진행 중이면 다른 호출은 fallback, 시험 호출이 성공하면 닫힘
+        Thread.sleep(250);
+        CountDownLatch trialStarted = new CountDownLatch(1);
+        CountDownLatch releaseTrial = new CountDownLatch(1);
+        CompletableFuture<String> trial = CompletableFuture.supplyAsync(() -> destination.execute(() -> {
+            trialStarted.countDown();
+            releaseTrial.await(5, TimeUnit.SECONDS);
+            return "ok";
+        }, () -> "fallback"));
+        assertTrue(trialStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(ResilientDestination.State.HALF_OPEN, destination.state());
+        assertEquals("fallback", destination.execute(() -> "ok", () -> "fallback"));
+        releaseTrial.countDown();
+
+        assertEquals("ok", trial.get(5, TimeUnit.SECONDS));
+        assertEquals(ResilientDestination.State.CLOSED, destination.state());
+        assertEquals("ok", destination.execute(() -> "ok", () -> "fallback"));
+    }
+
+    private static Callable<String> sleeping(long millis) {
+        return () -> {
+            Thread.sleep(millis);
+            return "slow";
+        };
+    }
+
+    private double retries() {
+        return registry.get("resilience.attempts").tag("destination", "test").tag("type", "retry").counter().count();
+    }
+}
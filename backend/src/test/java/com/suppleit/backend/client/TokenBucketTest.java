@@ -0,0 +1,120 @@
+package com.suppleit.backend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    @Test
+    void allowsBurstThenRejectsWithoutWaiting() {
+        TokenBucket bucket = new TokenBucket(1, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+        }
+        long start = System.nanoTime();
+        assertFalse(bucket.tryAcquire(100, TimeUnit.MILLISECONDS)); // 다음 토큰까지 1초 → 바로 실패
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void rejectedCallDoesNotConsumeReservation() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        assertTrue(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+
+        assertFalse(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+        assertTrue(bucket.availableTokens() >= 0); // 실패한 호출은 예약을 남기지 않는다
+    }
+
+    @Test
+    void waitsForRefillWithinTimeout() {
+        TokenBucket bucket = new TokenBucket(50, 1); // 20ms마다 토큰 1개
+        assertTrue(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        assertTrue(bucket.tryAcquire(1, TimeUnit.SECONDS));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= 10, "대기 시간: " + waitedMillis + "ms");
+    }
+
+    @Test
+    void refillNeverExceedsBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1_000, 3);
+        Thread.sleep(20);
+
+        assertEquals(3.0, bucket.availableTokens(), 0.001);
+    }
+
+    @Test
+    void concurrentWaitersAreSpacedByRate() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 1); // 10ms 간격
+        int waiters = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < waiters; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (bucket.tryAcquire(5, TimeUnit.SECONDS)) {
+                    acquired.incrementAndGet();
+                }
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        // 첫 토큰은 버스트로 즉시, 나머지 9개는 10ms씩 예약되어 순서대로 풀린다
+        assertEquals(waiters, acquired.get());
+        assertTrue(elapsedMillis >= 80, "소요 시간: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void reservationBeyondTimeoutFailsFast() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(10, 1); // 100ms 간격
+        assertTrue(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+        Thread waiter = Thread.ofPlatform().start(() -> bucket.tryAcquire(1, TimeUnit.SECONDS));
+        while (bucket.availableTokens() > -0.5) {
+            Thread.sleep(1); // 다른 스레드가 다음 토큰을 예약할 때까지
+        }
+
+        long start = System.nanoTime();
+        // 앞선 예약 때문에 이번 대기는 약 200ms → 150ms 안에는 불가능
+        assertFalse(bucket.tryAcquire(150, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+        waiter.join();
+    }
+
+    @Test
+    void interruptedWaiterGivesUp() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        assertTrue(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+        boolean[] result = {true};
+
+        Thread waiter = Thread.ofPlatform().start(() -> result[0] = bucket.tryAcquire(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        waiter.interrupt();
+        waiter.join(2_000);
+
+        assertFalse(waiter.isAlive());
+        assertFalse(result[0]);
+    }
+}
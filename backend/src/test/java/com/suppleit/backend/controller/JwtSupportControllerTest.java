@@ -0,0 +1,45 @@
+package com.suppleit.backend.controller;
+
+import com.suppleit.backend.security.jwt.JwtFilter;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JwtSupportControllerTest {
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final JwtSupportController controller = new JwtSupportController() { };
+
+    JwtSupportControllerTest() {
+        ReflectionTestUtils.setField(controller, "jwtTokenProvider", jwtTokenProvider);
+    }
+
+    @Test
+    void resolveClaimsReusesClaimsVerifiedByFilter() {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtFilter.CLAIMS_ATTRIBUTE, claims);
+
+        assertSame(claims, controller.resolveClaims(request, "token"));
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void resolveClaimsParsesWhenFilterWasSkipped() {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        when(jwtTokenProvider.parseClaims("token")).thenReturn(claims);
+
+        assertEquals("user@example.com", controller.resolveClaims(new MockHttpServletRequest(), "token").getSubject());
+        verify(jwtTokenProvider).parseClaims("token");
+    }
+}
@@ -0,0 +1,64 @@
+package com.suppleit.backend.controller;
+
+import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.service.MemberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberControllerTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            "test-secret-key-that-is-long-enough-for-hs256", 60_000, 604_800_000L, 100, new SimpleMeterRegistry());
+    private final MemberService memberService = mock(MemberService.class);
+    private final JwtTokenBlacklistService tokenBlacklistService = mock(JwtTokenBlacklistService.class);
+    private final MemberController controller = new MemberController(memberService, tokenBlacklistService);
+
+    MemberControllerTest() {
+        ReflectionTestUtils.setField(controller, "jwtTokenProvider", jwtTokenProvider);
+    }
+
+    @Test
+    void deleteMemberBlacklistsAccessTokenUntilExpiry() {
+        String token = jwtTokenProvider.createToken(7L, EMAIL, "user");
+        when(memberService.validatePassword(EMAIL, "password")).thenReturn(true);
+
+        var response = controller.deleteMember(Map.of("password", "password"), request(token));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(memberService).deleteMemberByEmail(EMAIL);
+        verify(tokenBlacklistService).addToBlacklist(token, jwtTokenProvider.getTokenExpirationTime(token));
+    }
+
+    @Test
+    void wrongPasswordKeepsTokenUsable() {
+        String token = jwtTokenProvider.createToken(7L, EMAIL, "user");
+
+        var response = controller.deleteMember(Map.of("password", "wrong"), request(token));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(memberService, never()).deleteMemberByEmail(anyString());
+        verify(tokenBlacklistService, never()).addToBlacklist(anyString(), anyLong());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/member/delete");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,197 @@
+package com.suppleit.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.config.RestTemplateConfig;
+import com.suppleit.backend.config.WebClientConfig;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.service.SocialLoginService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 소셜 로그인 부하 테스트: 로컬 OAuth 스텁(토큰 교환 + 사용자 정보, 각각 지연)을 상대로
+ * 요청 스레드(Tomcat 워커 흉내, 4개)에서 RestTemplate으로 기다리던 기존 방식과
+ * 컨트롤러가 가상 스레드로 넘기고 WebClient 커넥션 풀로 호출하는 현재 방식을 비교한다.
+ */
+class SocialLoginControllerLoadTest {
+
+    private static final int WORKERS = 4;
+    private static final int REQUESTS = 40;
+    private static final long DELAY_MILLIS = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService workers;
+    private ExecutorService requestOffloadExecutor;
+    private ConnectionProvider connectionProvider;
+    private SocialLoginService socialLoginService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1000);
+        server.createContext("/token", exchange -> serve(exchange, Map.of("access_token", "access-token")));
+        server.createContext("/userinfo", exchange -> serve(exchange, Map.of("email", "user@example.com", "name", "사용자")));
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        workers = Executors.newFixedThreadPool(WORKERS);
+        requestOffloadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        connectionProvider = new WebClientConfig().outboundConnectionProvider(50, 500, 5000, 30000);
+        WebClient webClient = new WebClientConfig().outboundWebClient(WebClient.builder(), connectionProvider, 1000, 5000);
+
+        MemberMapper memberMapper = mock(MemberMapper.class);
+        when(memberMapper.getMemberByEmail("user@example.com")).thenReturn(Member.builder()
+                .memberId(1L)
+                .email("user@example.com")
+                .nickname("사용자")
+                .memberRole(MemberRole.USER)
+                .socialType(SocialType.GOOGLE)
+                .build());
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.createToken(anyLong(), anyString(), anyString())).thenReturn("jwt");
+        when(jwtTokenProvider.createRefreshToken(anyString())).thenReturn("refresh");
+
+        socialLoginService = new SocialLoginService(memberMapper, webClient, objectMapper, jwtTokenProvider,
+                mock(PasswordEncoder.class));
+        ReflectionTestUtils.setField(socialLoginService, "googleClientId", "client");
+        ReflectionTestUtils.setField(socialLoginService, "googleClientSecret", "secret");
+        ReflectionTestUtils.setField(socialLoginService, "oauthTimeoutMillis", 10_000L);
+        ReflectionTestUtils.setField(socialLoginService, "googleTokenUri", baseUrl() + "/token");
+        ReflectionTestUtils.setField(socialLoginService, "googleUserInfoUri", baseUrl() + "/userinfo");
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+        requestOffloadExecutor.close();
+        connectionProvider.dispose();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void offloadedLoginIsNotCappedByRequestThreads() throws Exception {
+        SocialLoginController controller = new SocialLoginController(socialLoginService, requestOffloadExecutor);
+        controller.loginWithGoogle(Map.of("code", "code")).get(10, TimeUnit.SECONDS); // 연결/클래스 로딩 워밍업
+        maxInFlight.set(0);
+
+        long start = System.nanoTime();
+        List<Future<CompletableFuture<ResponseEntity<?>>>> accepted = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            accepted.add(workers.submit(() -> controller.loginWithGoogle(Map.of("code", "code"))));
+        }
+        for (Future<CompletableFuture<ResponseEntity<?>>> future : accepted) {
+            ResponseEntity<?> response = future.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+        }
+        long offloadedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int offloadedMaxInFlight = maxInFlight.getAndSet(0);
+
+        start = System.nanoTime();
+        List<Future<Map<String, Object>>> blocking = new ArrayList<>();
+        RestTemplate restTemplate = new RestTemplateConfig().restTemplate(1000, 15000);
+        for (int i = 0; i < REQUESTS; i++) {
+            blocking.add(workers.submit(() -> blockingGoogleLogin(restTemplate)));
+        }
+        for (Future<Map<String, Object>> future : blocking) {
+            assertEquals("jwt", future.get(30, TimeUnit.SECONDS).get("accessToken"));
+        }
+        long blockingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int blockingMaxInFlight = maxInFlight.get();
+
+        // 기존 방식은 외부 호출 동시 수가 요청 스레드 수에 묶인다 (40건 × 2회 × 100ms / 4 ≈ 2초)
+        assertTrue(blockingMaxInFlight <= WORKERS, "기존 방식 동시 호출 수: " + blockingMaxInFlight);
+        assertTrue(offloadedMaxInFlight > WORKERS * 2, "현재 방식 동시 호출 수: " + offloadedMaxInFlight);
+        assertTrue(offloadedMillis * 2 < blockingMillis,
+                "현재 방식 " + offloadedMillis + "ms, 기존 방식 " + blockingMillis + "ms");
+    }
+
+    // 변경 전 SocialLoginService.getGoogleMember: 요청 스레드에서 RestTemplate으로 토큰 교환 → 사용자 정보 조회
+    private Map<String, Object> blockingGoogleLogin(RestTemplate restTemplate) throws IOException {
+        MultiValueMap<String, String> tokenRequest = new LinkedMultiValueMap<>();
+        tokenRequest.add("code", "code");
+        tokenRequest.add("grant_type", "authorization_code");
+        HttpHeaders tokenHeaders = new HttpHeaders();
+        tokenHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        String tokenBody = restTemplate.postForObject(baseUrl() + "/token", new HttpEntity<>(tokenRequest, tokenHeaders),
+                String.class);
+        String accessToken = objectMapper.readTree(tokenBody).get("access_token").asText();
+
+        HttpHeaders userInfoHeaders = new HttpHeaders();
+        userInfoHeaders.setBearerAuth(accessToken);
+        String userInfo = restTemplate.exchange(baseUrl() + "/userinfo", HttpMethod.GET,
+                new HttpEntity<>(userInfoHeaders), String.class).getBody();
+        String email = objectMapper.readTree(userInfo).get("email").asText();
+        return socialLoginService.processSocialLogin(email, "사용자", SocialType.GOOGLE);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void serve(HttpExchange exchange, Map<String, String> response) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(DELAY_MILLIS);
+            byte[] body = objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.suppleit.backend.recommend;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 기존 NaverProductLookupService의 정규식 구현(findBestMatch + calculateRelevanceScore)과 점수가 같은지 비교한다.
+ */
+class ProductRelevanceScorerTest {
+
+    private static final List<String> ALLOWED = List.of("식품");
+    private static final List<String> BLOCKED = List.of(
+            "서비스", "여행/항공권", "E쿠폰", "컨텐츠", "가구/인테리어", "스포츠/레저", "생활/건강", "화장품/미용", "패션의류", "출산/육아");
+
+    private static final String[] CATEGORIES = {
+            "식품", "식품>건강식품", "생활/건강", "화장품/미용", "출산/육아 식품", "디지털/가전", "", "식 품", "E쿠폰"
+    };
+    // 태그, 여러 종류의 공백(정규식 \s에 속하지 않는 것 포함), 대소문자 변환이 특이한 문자
+    private static final String[] PIECES = {
+            "비타민", "비타민C", "오메가3", "루테인", "Vitamin", "VITAMIN", "d", "D3", "c", "<b>", "</b>", "<", ">",
+            " ", "  ", "\t", "\n", "\u000B", "\f", "\r", "\u00A0", "\u2003", "\u001C", "\u3000",
+            "İ", "I", "ı", "Σ", "ΣΑΣ", "ß", "ǅ", "-", "1000mg", "가"
+    };
+
+    private final ProductRelevanceScorer scorer = new ProductRelevanceScorer(
+            ALLOWED.toArray(new String[0]), BLOCKED.toArray(new String[0]));
+
+    @Test
+    void matchesLegacyScoringOnRandomCombinations() {
+        Random random = new Random(20240101L);
+        for (int i = 0; i < 200_000; i++) {
+            String query = randomText(random, 1 + random.nextInt(4));
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String title = randomText(random, 1 + random.nextInt(10));
+
+            assertEquals(legacyScore(query, category, title),
+                    scorer.score(scorer.prepare(query), category, title),
+                    () -> "query=" + escape(query) + ", category=" + category + ", title=" + escape(title));
+        }
+    }
+
+    @Test
+    void splitsQueryOnRegexWhitespaceOnly() {
+        // 전각 공백(U+3000), 정보 구분자(U+001C)는 \s가 아니므로 한 단어로 남는다 (기존 split과 같음)
+        ProductRelevanceScorer.Query query = scorer.prepare("비타민\u3000루테인");
+
+        assertEquals(50, scorer.score(query, "식품", "비타민 루테인"));
+        assertEquals(legacyScore("비타민\u3000루테인", "식품", "비타민 루테인"), scorer.score(query, "식품", "비타민 루테인"));
+        assertEquals(legacyScore("비타민\u001C루테인", "식품", "비타민"), scorer.score(scorer.prepare("비타민\u001C루테인"), "식품", "비타민"));
+        assertEquals(70, scorer.score(scorer.prepare("비타민\t\u000B루테인"), "식품", "<b>비타민</b> 루테인"));
+    }
+
+    @Test
+    void lowerCasesTitleLikeString() {
+        // İ(U+0130).toLowerCase()는 두 글자(i + U+0307)라 Character.toLowerCase와 결과가 다르다
+        assertEquals(legacyScore("i\u0307", "식품", "<b>\u0130</b>"), scorer.score(scorer.prepare("i\u0307"), "식품", "<b>\u0130</b>"));
+        assertEquals(160, scorer.score(scorer.prepare("vitamin"), "식품", "<b>VITAMIN</b> C"));
+    }
+
+    @Test
+    void rejectsBlockedOrUnlistedCategories() {
+        ProductRelevanceScorer.Query query = scorer.prepare("비타민");
+
+        assertEquals(ProductRelevanceScorer.REJECTED, scorer.score(query, "생활/건강", "비타민"));
+        assertEquals(ProductRelevanceScorer.REJECTED, scorer.score(query, "출산/육아 식품", "비타민"));
+        assertEquals(ProductRelevanceScorer.REJECTED, scorer.score(query, "디지털/가전", "비타민"));
+        assertEquals(160, scorer.score(query, "식품>건강식품", "비타민"));
+    }
+
+    @Test
+    void stripTagsKeepsUnclosedBracket() {
+        assertEquals("비타민 C", ProductRelevanceScorer.stripTags("<b>비타민</b> C"));
+        assertEquals("a < b", ProductRelevanceScorer.stripTags("a < b"));
+        assertEquals("ad", ProductRelevanceScorer.stripTags("a<b<c>d"));
+        assertEquals("<b>x".replaceAll("<[^>]*>", ""), ProductRelevanceScorer.stripTags("<b>x"));
+    }
+
+    // 변경 전 코드: 카테고리 필터 → 태그 제거 → calculateRelevanceScore + 허용 카테고리 가중치
+    private static int legacyScore(String query, String category, String title) {
+        String cleanTitle = title.replaceAll("<[^>]*>", "");
+        if (BLOCKED.stream().anyMatch(category::contains)) {
+            return ProductRelevanceScorer.REJECTED;
+        }
+        if (!ALLOWED.stream().anyMatch(category::contains)) {
+            return ProductRelevanceScorer.REJECTED;
+        }
+        int score = calculateRelevanceScore(query, cleanTitle);
+        if (ALLOWED.stream().anyMatch(category::contains)) {
+            score += 50;
+        }
+        return score;
+    }
+
+    private static int calculateRelevanceScore(String query, String title) {
+        int score = 0;
+        String lowerQuery = query.toLowerCase();
+        String lowerTitle = title.toLowerCase();
+        if (lowerTitle.contains(lowerQuery)) {
+            score += 100;
+        }
+        String[] queryWords = lowerQuery.split("\\s+");
+        for (String word : queryWords) {
+            if (word.length() > 1 && lowerTitle.contains(word)) {
+                score += 10;
+            }
+        }
+        return score;
+    }
+
+    private static String randomText(Random random, int pieces) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < pieces; i++) {
+            text.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return text.toString();
+    }
+
+    private static String escape(String text) {
+        return Arrays.toString(text.codePoints().mapToObj(Integer::toHexString).toArray());
+    }
+}
@@ -0,0 +1,169 @@
+package com.suppleit.backend.recommend;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * scikit-learn TfidfVectorizer 기본 설정(smooth idf, L2 정규화, (?u)\b\w\w+\b)과의 동등성 테스트.
+ * 기대값은 공식을 그대로 옮긴 단순 구현(단어 → 가중치 맵, 전체 문서 코사인)으로 계산한다.
+ */
+class TfidfModelTest {
+
+    // flask/recommend/data의 processed_text 열과 같은 형태의 작은 말뭉치
+    private static final List<String> CORPUS = List.of(
+            "관절 연골 피부 보습 줄 수",
+            "엠에스 엠 관절 연골 줄 수 비타민 항산화 산소",
+            "틸글루 코 민 관절 연골 줄 수",
+            "비타민 비타민 항산화 면역 기능",
+            "오메가 혈행 개선 혈중 중성지방 개선",
+            "홍삼 피로 개선 면역 기능 증진",
+            "Vitamin_C 비타민C 항산화 면역",
+            "칼슘 마그네슘 뼈 형성 신경 근육 기능");
+
+    @Test
+    void tokenizeMatchesSklearnDefaultPattern() {
+        assertEquals(List.of("vitamin", "비타민c", "a_b", "12", "mg"),
+                TfidfModel.tokenize("Vitamin C 비타민C, a_b 1 12 x (mg)"));
+        assertEquals(List.of("관절", "연골"), TfidfModel.tokenize("①관절·연골"));
+        assertEquals(List.of(), TfidfModel.tokenize("줄 수 a 1 !!"));
+        assertEquals(List.of("ab"), TfidfModel.tokenize("\tAB\n"));
+    }
+
+    @Test
+    void idfUsesSmoothFormula() {
+        TfidfModel model = TfidfModel.fit(CORPUS);
+        int n = CORPUS.size();
+
+        assertEquals(n, model.documentCount());
+        assertEquals(Math.log((1.0 + n) / (1.0 + 3)) + 1, model.idf("관절"), 1e-12);   // 3개 문서
+        assertEquals(Math.log((1.0 + n) / (1.0 + 1)) + 1, model.idf("오메가"), 1e-12);  // 1개 문서
+        assertEquals(Math.log((1.0 + n) / (1.0 + 2)) + 1, model.idf("비타민"), 1e-12);  // 같은 문서 안의 중복은 df 1
+        assertTrue(Double.isNaN(model.idf("수"))); // 한 글자 단어는 사전에 없다
+        assertEquals(reference(CORPUS).idf.size(), model.vocabularySize());
+    }
+
+    @Test
+    void rankingMatchesReferenceOnFixture() {
+        TfidfModel model = TfidfModel.fit(CORPUS);
+
+        assertArrayEquals(new int[]{3, 1, 6}, model.rank("비타민 항산화", 0.05));
+        assertArrayEquals(new int[]{4, 5}, model.rank("혈행 개선", 0.05));
+        assertArrayEquals(new int[0], model.rank("없는 단어", 0.05));
+
+        Reference reference = reference(CORPUS);
+        for (String query : List.of("관절 연골", "면역 기능", "비타민", "피로 개선 홍삼", "근육 기능 칼슘", "vitamin_c")) {
+            assertArrayEquals(reference.rank(query, 0.05), model.rank(query, 0.05), query);
+        }
+    }
+
+    @Test
+    void tiesKeepDocumentOrder() {
+        TfidfModel model = TfidfModel.fit(List.of("루테인 눈", "기타 문서", "루테인 눈", "루테인 눈"));
+
+        assertArrayEquals(new int[]{0, 2, 3}, model.rank("루테인", 0.0));
+    }
+
+    @Test
+    void rankingMatchesReferenceOnRandomCorpus() {
+        Random random = new Random(42);
+        String[] words = new String[40];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "단어" + i;
+        }
+        List<String> corpus = new ArrayList<>();
+        for (int d = 0; d < 300; d++) {
+            corpus.add(randomText(random, words, 3 + random.nextInt(10)));
+        }
+        TfidfModel model = TfidfModel.fit(corpus);
+        Reference reference = reference(corpus);
+
+        for (int q = 0; q < 200; q++) {
+            String query = randomText(random, words, 1 + random.nextInt(4));
+            assertArrayEquals(reference.rank(query, 0.05), model.rank(query, 0.05), query);
+        }
+    }
+
+    @Test
+    void referenceSanityCheck() {
+        // 기대값 계산용 구현 자체 점검: 같은 문서를 질의하면 유사도 1
+        Reference reference = reference(CORPUS);
+        int[] ranked = reference.rank(CORPUS.get(4), 0.99);
+        assertEquals(1, ranked.length);
+        assertEquals(4, ranked[0]);
+        assertTrue(Arrays.stream(reference.rank("관절", 0.0)).allMatch(d -> d < 3));
+    }
+
+    private static String randomText(Random random, String[] words, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(i == 0 ? "" : " ").append(words[random.nextInt(words.length)]);
+        }
+        return text.toString();
+    }
+
+    private static Reference reference(List<String> corpus) {
+        Map<String, Integer> df = new HashMap<>();
+        for (String document : corpus) {
+            for (String term : new HashSet<>(TfidfModel.tokenize(document))) {
+                df.merge(term, 1, Integer::sum);
+            }
+        }
+        Map<String, Double> idf = new HashMap<>();
+        df.forEach((term, count) -> idf.put(term, Math.log((1.0 + corpus.size()) / (1.0 + count)) + 1));
+
+        List<Map<String, Double>> vectors = new ArrayList<>();
+        for (String document : corpus) {
+            vectors.add(vector(document, idf));
+        }
+        return new Reference(idf, vectors);
+    }
+
+    private static Map<String, Double> vector(String text, Map<String, Double> idf) {
+        Map<String, Double> vector = new HashMap<>();
+        for (String term : TfidfModel.tokenize(text)) {
+            if (idf.containsKey(term)) {
+                vector.merge(term, idf.get(term), Double::sum);
+            }
+        }
+        double norm = Math.sqrt(vector.values().stream().mapToDouble(w -> w * w).sum());
+        if (norm > 0) {
+            vector.replaceAll((term, w) -> w / norm);
+        }
+        return vector;
+    }
+
+    private record Reference(Map<String, Double> idf, List<Map<String, Double>> vectors) {
+
+        // 모든 문서와 코사인 유사도를 계산해 안정 정렬 (TfidfModel과 같은 12자리 반올림으로 비교)
+        int[] rank(String query, double threshold) {
+            Map<String, Double> q = vector(query, idf);
+            double[] scores = new double[vectors.size()];
+            List<Integer> matched = new ArrayList<>();
+            for (int d = 0; d < vectors.size(); d++) {
+                Map<String, Double> doc = vectors.get(d);
+                Set<String> terms = q.keySet();
+                for (String term : terms) {
+                    scores[d] += q.get(term) * doc.getOrDefault(term, 0.0);
+                }
+                if (scores[d] > threshold) {
+                    matched.add(d);
+                }
+            }
+            matched.sort(Comparator.comparingLong((Integer d) -> -Math.round(scores[d] * 1e12)));
+            return matched.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.suppleit.backend.recommend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TfidfRecommendationEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadsOnceMissingDataDirectoryAppears() throws Exception {
+        Path dataDir = tempDir.resolve("data");
+        TfidfRecommendationEngine engine = new TfidfRecommendationEngine(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(engine, "enabled", true);
+        ReflectionTestUtils.setField(engine, "dataDir", dataDir.toString());
+
+        // 디렉터리가 없으면 예외 없이 대기 (확인은 계속)
+        engine.load();
+        engine.reloadIfChanged();
+        assertFalse(engine.isReady());
+        assertEquals(List.of(), engine.recommend("관절"));
+
+        // 한글 파일명은 UTF-8이 아닌 로캘에서 경로를 만들 수 없으므로 영문 카테고리 사용
+        Path efficacy = Files.createDirectories(dataDir.resolve("efficacy"));
+        Files.writeString(efficacy.resolve("preprocessed_joint.csv"),
+                "제품명,기능성,processed_text\n"
+                        + "관절튼튼,관절 건강,관절 연골 줄 수\n"
+                        + "눈건강,눈 건강,루테인 눈 건강\n",
+                StandardCharsets.UTF_8);
+        engine.reloadIfChanged();
+
+        assertTrue(engine.isReady());
+        assertFalse(engine.recommend("관절").isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+package com.suppleit.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompactTrieTest {
+
+    private static final int[] NONE = new int[0];
+
+    @Test
+    void emptyTrieFindsNothing() {
+        CompactTrie trie = CompactTrie.build(new String[0], new int[0], 10);
+
+        assertArrayEquals(NONE, trie.lookup(""));
+        assertArrayEquals(NONE, trie.lookup("비"));
+    }
+
+    @Test
+    void followsCompressedEdges() {
+        CompactTrie trie = CompactTrie.build(
+                new String[] {"비타민", "비타민c", "비오틴", "오메가3"},
+                new int[] {3, 1, 2, 0}, 10);
+
+        assertArrayEquals(new int[] {1, 2, 3}, trie.lookup("비"));
+        assertArrayEquals(new int[] {1, 3}, trie.lookup("비타"));     // 엣지 중간에서 끝나는 접두사
+        assertArrayEquals(new int[] {1, 3}, trie.lookup("비타민"));   // 다른 키의 접두사인 키
+        assertArrayEquals(new int[] {1}, trie.lookup("비타민c"));
+        assertArrayEquals(NONE, trie.lookup("비타민d"));
+        assertArrayEquals(NONE, trie.lookup("비토"));                // 엣지 중간에서 불일치
+        assertArrayEquals(NONE, trie.lookup("칼슘"));                // 자식 없음
+        assertArrayEquals(new int[] {0, 1, 2, 3}, trie.lookup(""));
+    }
+
+    @Test
+    void keepsOnlyTopKDistinctValues() {
+        CompactTrie trie = CompactTrie.build(
+                new String[] {"ab", "ac", "ad", "ae", "ab"},
+                new int[] {7, 5, 9, 5, 1}, 2);
+
+        assertArrayEquals(new int[] {1, 5}, trie.lookup("a"));
+        assertArrayEquals(new int[] {1, 7}, trie.lookup("ab"));
+        assertArrayEquals(new int[] {5}, trie.lookup("ae"));
+    }
+
+    @Test
+    void sharesCommonPrefixes() {
+        CompactTrie trie = CompactTrie.build(
+                new String[] {"abcdef", "abcdeg", "abcxyz"},
+                new int[] {0, 1, 2}, 10);
+
+        // 루트 → "abc" → ("de" → "f", "g"), "xyz"
+        assertEquals(6, trie.nodeCount());
+        // 문자 풀에는 엣지 라벨만: "abc" + "de" + "xyz" + "f" + "g" (키를 그대로 이어붙이면 18자)
+        assertEquals(10, trie.poolSize());
+    }
+
+    // 결과는 접두사로 시작하는 키들의 값을 중복 없이 오름차순 정렬해 k개 자른 것과 같아야 한다
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(7);
+        String alphabet = "ㅂㅌㅁ비타민ab";
+        int n = 2_000;
+        String[] keys = new String[n];
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = randomText(random, alphabet, random.nextInt(7));
+            values[i] = random.nextInt(n);
+        }
+        int k = 8;
+        CompactTrie trie = CompactTrie.build(keys, values, k);
+
+        for (int q = 0; q < 1_000; q++) {
+            String prefix = randomText(random, alphabet, random.nextInt(5));
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < n; i++) {
+                if (keys[i].startsWith(prefix)) {
+                    expected.add(values[i]);
+                }
+            }
+            int[] top = expected.stream().limit(k).mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(top, trie.lookup(prefix), () -> "prefix=" + prefix + " got " + Arrays.toString(trie.lookup(prefix)));
+        }
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.suppleit.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulChosungTest {
+
+    @Test
+    void replacesSyllablesWithInitialConsonants() {
+        assertEquals("ㅂㅌㅁC", HangulChosung.toChosung("비타민C"));
+        assertEquals("ㅇㅁㄱ3 1000", HangulChosung.toChosung("오메가3 1000"));
+        assertEquals("ㄲㄸㅃㅆㅉ", HangulChosung.toChosung("까뚜뿌쓰짜"));
+        assertEquals("", HangulChosung.toChosung(""));
+    }
+
+    @Test
+    void coversSyllableRangeBoundaries() {
+        assertEquals('ㄱ', HangulChosung.chosungOf('가'));   // U+AC00
+        assertEquals('ㄱ', HangulChosung.chosungOf('깋'));   // ㄱ 구간의 마지막 음절
+        assertEquals('ㄲ', HangulChosung.chosungOf('까'));
+        assertEquals('ㅎ', HangulChosung.chosungOf('힣'));   // U+D7A3
+        assertEquals('ㄱ', HangulChosung.chosungOf('ㄱ'));   // 자모는 그대로
+        assertEquals('a', HangulChosung.chosungOf('a'));
+    }
+
+    @Test
+    void detectsChosungQueries() {
+        assertTrue(HangulChosung.isChosung('ㄱ'));
+        assertTrue(HangulChosung.isChosung('ㅎ'));
+        assertFalse(HangulChosung.isChosung('ㅏ'));          // 모음
+        assertFalse(HangulChosung.isChosung('가'));
+
+        assertTrue(HangulChosung.containsChosung("비타ㅁ"));
+        assertTrue(HangulChosung.containsChosung("ㅂㅌㅁ"));
+        assertFalse(HangulChosung.containsChosung("비타민"));
+        assertFalse(HangulChosung.containsChosung(""));
+    }
+}
@@ -0,0 +1,217 @@
+package com.suppleit.backend.search;
+
+import com.suppleit.backend.event.ProductChangedEvent;
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.model.Product;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexTest {
+
+    @Test
+    void rebuildIndexesEveryScannedProduct() {
+        ProductSearchIndex index = indexOf(
+                product(1L, "비타민C 1000", "고려은단", "항산화"),
+                product(2L, "오메가3", "종근당", "혈행 개선"));
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.size());
+        assertEquals(List.of(1L), index.search("비타민", 10));
+        assertEquals(List.of(2L), index.search("혈행", 10));
+    }
+
+    @Test
+    void ranksByTierThenProductName() {
+        ProductSearchIndex index = indexOf(
+                product(1L, "프로 비타민", "A사", ""),        // 제품명 포함
+                product(2L, "비타민", "B사", ""),             // 제품명 일치
+                product(3L, "비타민D", "C사", ""),            // 제품명 접두
+                product(4L, "종합영양제", "비타민하우스", ""),  // 업체명
+                product(5L, "멀티", "D사", "비타민 보충"),      // 주요기능
+                product(6L, "비타민B", "E사", ""));           // 제품명 접두 (이름순으로 3번 앞)
+
+        assertEquals(List.of(2L, 6L, 3L, 1L, 4L, 5L), index.search("비타민", 10));
+        assertEquals(List.of(2L, 6L), index.search("비타민", 2));
+    }
+
+    @Test
+    void normalizesCaseAndDecomposedHangul() {
+        ProductSearchIndex index = indexOf(product(1L, "Omega3 루테인", "X", ""));
+
+        assertEquals(List.of(1L), index.search("OMEGA", 10));
+        // 분리형 자모(NFD)로 들어온 검색어도 완성형 제품명과 일치해야 한다
+        assertEquals(List.of(1L), index.search(Normalizer.normalize("루테인", Normalizer.Form.NFD), 10));
+        assertEquals(List.of(), index.search("   ", 10));
+    }
+
+    @Test
+    void matchesSingleCharacterWithUnigrams() {
+        ProductSearchIndex index = indexOf(product(1L, "칼슘", "X", ""), product(2L, "마그네슘", "Y", ""));
+
+        assertEquals(List.of(2L, 1L), index.search("슘", 10)); // 같은 등급은 제품명 순
+    }
+
+    @Test
+    void rejectsCandidatesWhoseBigramsAreNotContiguous() {
+        // "비타"와 "타민" 바이그램은 모두 있지만 "비타민"은 연속으로 들어 있지 않다
+        ProductSearchIndex index = indexOf(product(1L, "비타 타민", "X", ""));
+
+        assertEquals(List.of(), index.search("비타민", 10));
+    }
+
+    @Test
+    void incrementalUpdateReplacesOldText() {
+        ProductSearchIndex index = indexOf(product(1L, "루테인", "X", ""));
+
+        index.onProductChanged(ProductChangedEvent.of(product(1L, "밀크씨슬", "X", "")));
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(), index.search("루테인", 10));
+        assertEquals(List.of(1L), index.search("밀크", 10));
+    }
+
+    @Test
+    void notReadyWhenScanFails() {
+        ProductMapper mapper = mock(ProductMapper.class);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("db down");
+        }).when(mapper).scanProductsForIndex(any());
+        ProductSearchIndex index = new ProductSearchIndex(mapper);
+
+        index.rebuild();
+
+        assertFalse(index.isReady());
+    }
+
+    // 색인 결과는 정규화 텍스트에 대한 LIKE '%kw%' + 기존 SQL 정렬과 같아야 한다
+    @Test
+    void matchesBruteForceLikeSearch() {
+        Random random = new Random(42);
+        String alphabet = "비타민오메가칼슘철분ab ";
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            products.add(product(id, randomText(random, alphabet, 8), randomText(random, alphabet, 5),
+                    randomText(random, alphabet, 12)));
+        }
+        ProductSearchIndex index = indexOf(products.toArray(new Product[0]));
+
+        for (int i = 0; i < 300; i++) {
+            String keyword = randomText(random, alphabet, 1 + random.nextInt(3)).trim();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            assertEquals(bruteForce(products, keyword, 20), index.search(keyword, 20), "keyword=" + keyword);
+        }
+    }
+
+    @Test
+    void findProductsLoadsOnlyRequestedPageInRankOrder() {
+        List<Product> products = List.of(
+                product(1L, "비타민A", "X", ""), product(2L, "비타민B", "X", ""),
+                product(3L, "비타민C", "X", ""), product(4L, "비타민D", "X", ""));
+        ProductMapper mapper = mock(ProductMapper.class);
+        stubScan(mapper, products.toArray(new Product[0]));
+        // PK 조회 결과는 순서가 보장되지 않고, 그 사이 삭제된 제품은 빠질 수 있다
+        when(mapper.getProductsByIds(List.of(2L, 3L))).thenReturn(List.of(products.get(2)));
+        ProductSearchIndex index = new ProductSearchIndex(mapper);
+
+        assertTrue(index.findProducts("비타민", 0, 2).isEmpty()); // 색인 전: LIKE 쿼리 (mock은 빈 목록)
+        verify(mapper).searchProducts("비타민");
+
+        index.rebuild();
+        assertEquals(List.of(3L), index.findProducts("비타민", 1, 2).stream().map(Product::getPrdId).toList());
+        assertTrue(index.findProducts("비타민", 4, 2).isEmpty());
+    }
+
+    @Test
+    void findProductsSlicesLikeQueryBeforeIndexIsReady() {
+        ProductMapper mapper = mock(ProductMapper.class);
+        when(mapper.searchProducts("칼슘")).thenReturn(List.of(
+                product(1L, "칼슘", "X", ""), product(2L, "칼슘 마그네슘", "X", ""), product(3L, "칼슘 D", "X", "")));
+        ProductSearchIndex index = new ProductSearchIndex(mapper);
+
+        assertEquals(List.of(2L, 3L), index.findProducts("칼슘", 1, 5).stream().map(Product::getPrdId).toList());
+        assertTrue(index.findProducts("칼슘", 3, 5).isEmpty());
+    }
+
+    private static List<Long> bruteForce(List<Product> products, String keyword, int limit) {
+        String key = SearchTextNormalizer.normalize(keyword);
+        record Ranked(int tier, String name, long id) {
+        }
+        List<Ranked> ranked = new ArrayList<>();
+        for (Product product : products) {
+            String name = SearchTextNormalizer.normalize(product.getProductName());
+            int tier;
+            if (name.equals(key)) {
+                tier = 0;
+            } else if (name.startsWith(key)) {
+                tier = 1;
+            } else if (name.contains(key)) {
+                tier = 2;
+            } else if (SearchTextNormalizer.normalize(product.getCompanyName()).contains(key)) {
+                tier = 3;
+            } else if (SearchTextNormalizer.normalize(product.getMainFunction()).contains(key)) {
+                tier = 4;
+            } else {
+                continue;
+            }
+            ranked.add(new Ranked(tier, product.getProductName(), product.getPrdId()));
+        }
+        ranked.sort(Comparator.comparingInt(Ranked::tier).thenComparing(Ranked::name));
+        return ranked.stream().limit(limit).map(Ranked::id).toList();
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static ProductSearchIndex indexOf(Product... products) {
+        ProductMapper mapper = mock(ProductMapper.class);
+        stubScan(mapper, products);
+        ProductSearchIndex index = new ProductSearchIndex(mapper);
+        index.rebuild();
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void stubScan(ProductMapper mapper, Product... products) {
+        doAnswer(invocation -> {
+            ResultHandler<Product> handler = invocation.getArgument(0);
+            for (Product product : products) {
+                ResultContext<Product> context = mock(ResultContext.class);
+                when(context.getResultObject()).thenReturn(product);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(mapper).scanProductsForIndex(any());
+    }
+
+    private static Product product(Long id, String name, String company, String function) {
+        return Product.builder()
+                .prdId(id)
+                .productName(name)
+                .companyName(company)
+                .mainFunction(function)
+                .build();
+    }
+}
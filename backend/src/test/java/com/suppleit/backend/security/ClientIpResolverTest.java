@@ -0,0 +1,54 @@
+package com.suppleit.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(
+            new String[]{"127.0.0.1/32", "::1/128", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16"});
+
+    @Test
+    void usesRealIpHeaderFromTrustedProxy() {
+        MockHttpServletRequest request = request("172.18.0.5");
+        request.addHeader("X-Real-IP", "203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7");
+
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    void ignoresHeadersFromUntrustedClient() {
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-Real-IP", "198.51.100.1");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    void takesRightmostUntrustedForwardedHop() {
+        MockHttpServletRequest request = request("172.18.0.5");
+        // 클라이언트가 넣은 가짜 값(왼쪽)은 건너뛰고 프록시가 덧붙인 주소를 쓴다
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 203.0.113.7, 10.0.0.2");
+
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    void fallsBackToRemoteAddrForMalformedHeaders() {
+        MockHttpServletRequest request = request("172.18.0.5");
+        request.addHeader("X-Real-IP", "unknown");
+        request.addHeader("X-Forwarded-For", "not-an-ip");
+
+        assertEquals("172.18.0.5", resolver.resolve(request));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
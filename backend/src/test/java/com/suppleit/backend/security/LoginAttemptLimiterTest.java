@@ -0,0 +1,142 @@
+package com.suppleit.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginAttemptLimiterTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String IP = "203.0.113.7";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsAfterMaxAccountFailures() {
+        LoginAttemptLimiter limiter = limiter(3, 50, 900);
+        for (int i = 0; i < 3; i++) {
+            fail(limiter, EMAIL, IP);
+        }
+
+        // 대소문자/공백이 달라도 같은 계정
+        LoginThrottledException e = assertThrows(LoginThrottledException.class,
+                () -> limiter.acquire(" User@Example.com ", "198.51.100.1"));
+        assertEquals(900, e.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("auth.login.blocked").counter().count());
+    }
+
+    @Test
+    void concurrentBurstReservesAtMostLimit() throws Exception {
+        LoginAttemptLimiter limiter = limiter(5, 50, 900);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger verifying = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(32)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    try (LoginAttemptLimiter.Attempt attempt = limiter.acquire(EMAIL, IP)) {
+                        verifying.incrementAndGet();
+                        release.await(5, TimeUnit.SECONDS); // BCrypt 검증 중
+                        attempt.failed();
+                    } catch (LoginThrottledException e) {
+                        throttled.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // 검증 중인 5건이 예약을 쥐고 있는 동안 나머지는 모두 거절
+            while (throttled.get() < 27) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(5, verifying.get());
+        assertThrows(LoginThrottledException.class, () -> limiter.acquire(EMAIL, IP));
+    }
+
+    @Test
+    void successReleasesReservationAndResetsAccount() {
+        LoginAttemptLimiter limiter = limiter(3, 50, 900);
+        fail(limiter, EMAIL, IP);
+        fail(limiter, EMAIL, IP);
+
+        try (LoginAttemptLimiter.Attempt attempt = limiter.acquire(EMAIL, IP)) {
+            attempt.succeeded();
+        }
+
+        // 계정 카운터가 지워져 다시 3번까지 시도 가능
+        fail(limiter, EMAIL, IP);
+        fail(limiter, EMAIL, IP);
+        assertDoesNotThrow(() -> limiter.acquire(EMAIL, IP).close());
+    }
+
+    @Test
+    void closingWithoutResultOnlyReleasesReservation() {
+        LoginAttemptLimiter limiter = limiter(1, 50, 900);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(EMAIL, IP).close(); // 소셜 계정 등 실패로 세지 않는 경우
+        }
+
+        fail(limiter, EMAIL, IP);
+        assertThrows(LoginThrottledException.class, () -> limiter.acquire(EMAIL, IP));
+    }
+
+    @Test
+    void windowRestartsOnEachFailure() throws Exception {
+        LoginAttemptLimiter limiter = limiter(2, 50, 1);
+        fail(limiter, EMAIL, IP);
+        Thread.sleep(600);
+        fail(limiter, EMAIL, IP);
+        Thread.sleep(600);
+
+        // 첫 실패로부터는 1초가 지났지만 마지막 실패로부터는 아직 창 안
+        assertThrows(LoginThrottledException.class, () -> limiter.acquire(EMAIL, IP));
+
+        Thread.sleep(600);
+        assertDoesNotThrow(() -> limiter.acquire(EMAIL, IP).close());
+    }
+
+    @Test
+    void ipLimitAppliesAcrossAccounts() {
+        LoginAttemptLimiter limiter = limiter(5, 3, 900);
+        for (int i = 0; i < 3; i++) {
+            fail(limiter, "user" + i + "@example.com", IP);
+        }
+
+        assertThrows(LoginThrottledException.class, () -> limiter.acquire("other@example.com", IP));
+        assertDoesNotThrow(() -> limiter.acquire("other@example.com", "198.51.100.1").close());
+        // IP 없이 확인하는 비밀번호 변경은 계정 한도만 본다
+        assertDoesNotThrow(() -> limiter.acquire("other@example.com", null).close());
+    }
+
+    private LoginAttemptLimiter limiter(int maxAccountFailures, int maxIpFailures, long windowSeconds) {
+        return new LoginAttemptLimiter(registry, maxAccountFailures, maxIpFailures, windowSeconds, 1000);
+    }
+
+    private static void fail(LoginAttemptLimiter limiter, String email, String ip) {
+        try (LoginAttemptLimiter.Attempt attempt = limiter.acquire(email, ip)) {
+            attempt.failed();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.service.MemberDetailsService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+    private static final String EMAIL = "user@example.com";
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRET, 60_000, 604_800_000L, 100, new SimpleMeterRegistry());
+    private final MemberDetailsService memberDetailsService = mock(MemberDetailsService.class);
+    private final JwtTokenBlacklistService tokenBlacklistService = mock(JwtTokenBlacklistService.class);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesFromClaimsWithoutMemberLookup() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter(true).doFilter(request(jwtTokenProvider.createToken(7L, EMAIL, "user")),
+                new MockHttpServletResponse(), chain);
+
+        assertEquals(7L, currentPrincipal().getMemberId());
+        assertEquals("ROLE_USER", currentPrincipal().getRole());
+        verify(memberDetailsService, never()).loadPrincipal(anyString());
+    }
+
+    @Test
+    void legacyTokenFallsBackToMemberLookup() throws Exception {
+        when(memberDetailsService.loadPrincipal(EMAIL)).thenReturn(new MemberPrincipal(7L, EMAIL, "ROLE_USER"));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter(true).doFilter(request(legacyToken()), new MockHttpServletResponse(), chain);
+
+        assertEquals(7L, currentPrincipal().getMemberId());
+        verify(memberDetailsService).loadPrincipal(EMAIL);
+    }
+
+    @Test
+    void legacyTokenIsRejectedWhenNotAccepted() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(false).doFilter(request(legacyToken()), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest()); // 다음 필터로 넘어가지 않음
+        verify(memberDetailsService, never()).loadPrincipal(anyString());
+    }
+
+    @Test
+    void blacklistedTokenIsRejected() throws Exception {
+        // 탈퇴/로그아웃으로 블랙리스트에 오른 토큰은 클레임이 유효해도 거부
+        String token = jwtTokenProvider.createToken(7L, EMAIL, "user");
+        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(request(token), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    private JwtFilter filter(boolean legacyTokensAccepted) {
+        return new JwtFilter(jwtTokenProvider, memberDetailsService, tokenBlacklistService, legacyTokensAccepted,
+                new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member/info");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    // memberId/role 클레임이 없는 이전 형식 토큰
+    private static String legacyToken() {
+        return Jwts.builder()
+                .setSubject(EMAIL)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static MemberPrincipal currentPrincipal() {
+        return (MemberPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
@@ -0,0 +1,104 @@
+package com.suppleit.backend.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtTokenBlacklistServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JwtTokenBlacklistService service;
+
+    JwtTokenBlacklistServiceTest() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        service = new JwtTokenBlacklistService(redisTemplate, mock(RedisMessageListenerContainer.class),
+                registry, 3_600_000, 1000, 0.001);
+    }
+
+    @Test
+    void redisOutageDuringLogoutIsRetried() {
+        String key = JwtTokenBlacklistService.KEY_PREFIX + JwtTokenProvider.tokenHash(TOKEN);
+        doThrow(new RedisConnectionFailureException("down"))
+                .doNothing()
+                .when(values).set(eq(key), eq("1"), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        assertDoesNotThrow(() -> service.addToBlacklist(TOKEN, System.currentTimeMillis() + 60_000));
+
+        // 쓰지 못한 동안에도 이 노드에서는 차단된다 (Redis 조회 없이)
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        assertTrue(service.isBlacklisted(TOKEN));
+        assertEquals(1, pendingWrites());
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        service.retryPendingWrites();
+
+        verify(values, times(2)).set(eq(key), eq("1"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate).convertAndSend(JwtTokenBlacklistService.CHANNEL, JwtTokenProvider.tokenHash(TOKEN));
+        assertEquals(0, pendingWrites());
+    }
+
+    @Test
+    void retryKeepsEntriesWhileRedisIsDown() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(values).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        service.addToBlacklist(TOKEN, System.currentTimeMillis() + 60_000);
+        service.addToBlacklist(TOKEN + "2", System.currentTimeMillis() + 60_000);
+
+        service.retryPendingWrites();
+
+        assertEquals(2, pendingWrites());
+    }
+
+    @Test
+    void expiredPendingEntriesAreDropped() throws InterruptedException {
+        doThrow(new RedisConnectionFailureException("down"))
+                .doNothing()
+                .when(values).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        service.addToBlacklist(TOKEN, System.currentTimeMillis() + 20);
+        Thread.sleep(40);
+
+        service.retryPendingWrites();
+
+        verify(values, times(1)).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertEquals(0, pendingWrites());
+    }
+
+    @Test
+    void unknownTokenSkipsRedis() {
+        doNothing().when(values).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        service.addToBlacklist(TOKEN, System.currentTimeMillis() + 60_000);
+
+        assertFalse(service.isBlacklisted("other.token.value"));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    private double pendingWrites() {
+        return registry.get("jwt.blacklist.pending-writes").gauge().value();
+    }
+}
@@ -0,0 +1,88 @@
+package com.suppleit.backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void cacheHitSkipsParser() {
+        JwtTokenProvider provider = provider(60_000);
+        String token = provider.createToken(1L, "user@example.com", "user");
+
+        Claims first = provider.parseClaims(token);
+        Claims second = provider.parseClaims(token);
+
+        assertSame(first, second);
+        assertEquals(1.0, parses("verified"));
+        assertEquals(1.0, parses("cache_hit"));
+        assertEquals(1L, second.get(JwtTokenProvider.MEMBER_ID_CLAIM, Long.class));
+        assertEquals("ROLE_USER", second.get(JwtTokenProvider.ROLE_CLAIM, String.class));
+    }
+
+    @Test
+    void rejectedTokenIsNeverCached() {
+        JwtTokenProvider provider = provider(60_000);
+        String token = provider.createToken(1L, "user@example.com", "user");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> provider.parseClaims(tampered));
+        assertThrows(JwtException.class, () -> provider.parseClaims(tampered));
+
+        assertEquals(2.0, parses("rejected"));
+        assertEquals(0.0, parses("cache_hit"));
+    }
+
+    @Test
+    void expiredTokenIsVerifiedAgainAndRejected() throws Exception {
+        JwtTokenProvider provider = provider(1_500);
+        String token = provider.createToken(1L, "user@example.com", "user");
+        provider.parseClaims(token);
+        provider.parseClaims(token);
+        assertEquals(1.0, parses("cache_hit"));
+
+        Thread.sleep(2_100);
+
+        assertThrows(ExpiredJwtException.class, () -> provider.parseClaims(token));
+        assertEquals(1.0, parses("cache_hit"));
+        assertEquals(1.0, parses("rejected"));
+    }
+
+    @Test
+    void cachedClaimsAreReadOnly() {
+        JwtTokenProvider provider = provider(60_000);
+        String token = provider.createToken(1L, "user@example.com", "user");
+        Claims claims = provider.parseClaims(token);
+
+        assertThrows(UnsupportedOperationException.class, () -> claims.put(JwtTokenProvider.ROLE_CLAIM, "ROLE_ADMIN"));
+        assertThrows(UnsupportedOperationException.class, () -> claims.setSubject("other@example.com"));
+        assertThrows(UnsupportedOperationException.class, () -> claims.setExpiration(new Date()));
+        assertThrows(UnsupportedOperationException.class, () -> claims.remove(Claims.SUBJECT));
+
+        // 다른 요청이 캐시에서 받은 claims도 그대로
+        Claims cached = provider.parseClaims(token);
+        assertEquals("user@example.com", cached.getSubject());
+        assertEquals("ROLE_USER", cached.get(JwtTokenProvider.ROLE_CLAIM, String.class));
+    }
+
+    private JwtTokenProvider provider(long expirationMillis) {
+        return new JwtTokenProvider(SECRET, expirationMillis, 604_800_000L, 100, registry);
+    }
+
+    private double parses(String result) {
+        return registry.get("jwt.parse").tag("result", result).counter().count();
+    }
+}
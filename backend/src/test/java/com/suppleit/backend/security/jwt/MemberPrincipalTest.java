@@ -0,0 +1,33 @@
+package com.suppleit.backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MemberPrincipalTest {
+
+    @Test
+    void buildsPrincipalFromClaims() {
+        // JSON 파싱 결과처럼 memberId가 Integer여도 Long으로
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        claims.put(JwtTokenProvider.MEMBER_ID_CLAIM, 7);
+        claims.put(JwtTokenProvider.ROLE_CLAIM, "ROLE_ADMIN");
+
+        MemberPrincipal principal = MemberPrincipal.from(claims);
+
+        assertEquals(7L, principal.getMemberId());
+        assertEquals("user@example.com", principal.getEmail());
+        assertEquals("ROLE_ADMIN", principal.getAuthorities().get(0).getAuthority());
+    }
+
+    @Test
+    void returnsNullForLegacyClaims() {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        claims.put(JwtTokenProvider.ROLE_CLAIM, "ROLE_USER");
+
+        assertNull(MemberPrincipal.from(claims));
+    }
+}
@@ -0,0 +1,86 @@
+package com.suppleit.backend.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBloomFilterTest {
+
+    @Test
+    void neverMissesAddedDigests() throws Exception {
+        TokenBloomFilter filter = new TokenBloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(sha256("token-" + i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(sha256("token-" + i)));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() throws Exception {
+        TokenBloomFilter filter = new TokenBloomFilter(20_000, 0.001);
+        for (int i = 0; i < 20_000; i++) {
+            filter.add(sha256("member-" + i));
+        }
+
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(sha256("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < 0.002, "오탐률: " + rate);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() throws Exception {
+        TokenBloomFilter filter = new TokenBloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain(sha256("token")));
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws Exception {
+        TokenBloomFilter filter = new TokenBloomFilter(40_000, 0.001);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 5_000;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        filter.add(sha256("token-" + (offset + i)));
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 같은 워드에 동시에 비트를 세워도 CAS로 모두 남는다
+        for (int i = 0; i < 40_000; i++) {
+            assertTrue(filter.mightContain(sha256("token-" + i)));
+        }
+    }
+
+    private static byte[] sha256(String value) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.event.MemberChangedEvent;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.LoginAttemptLimiter;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "password";
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(5);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            "test-secret-key-that-is-long-enough-for-hs256", 60_000, 604_800_000L, 100, new SimpleMeterRegistry());
+
+    AuthServiceTest() {
+        // 설정보다 낮은 비용(4)으로 저장된 해시 → 로그인 성공 시 재해시 대상
+        when(memberMapper.getMemberByEmail(EMAIL)).thenReturn(Member.builder()
+                .memberId(1L)
+                .email(EMAIL)
+                .password(new BCryptPasswordEncoder(4).encode(PASSWORD))
+                .memberRole(MemberRole.USER)
+                .socialType(SocialType.NONE)
+                .build());
+    }
+
+    @Test
+    void rehashRunsInBackgroundAfterLogin() {
+        List<Runnable> queued = new ArrayList<>();
+
+        String token = service(queued::add).authenticate(EMAIL, PASSWORD, "203.0.113.7");
+
+        // 로그인 스레드에서는 해싱/저장하지 않는다
+        assertNotNull(token);
+        assertEquals(1, queued.size());
+        verify(memberMapper, never()).updatePassword(anyString(), anyString());
+
+        queued.get(0).run();
+        verify(memberMapper).updatePassword(eq(EMAIL),
+                argThat(hash -> hash.startsWith("$2a$05$")
+                        && passwordEncoder.matches(PASSWORD, hash)));
+        verify(eventPublisher).publishEvent(any(MemberChangedEvent.class));
+    }
+
+    @Test
+    void loginSucceedsWhenRehashQueueIsFull() {
+        Executor full = task -> {
+            throw new RejectedExecutionException("full");
+        };
+
+        String token = service(full).authenticate(EMAIL, PASSWORD, "203.0.113.7");
+
+        assertTrue(jwtTokenProvider.validateToken(token));
+        verify(memberMapper, never()).updatePassword(anyString(), anyString());
+    }
+
+    private AuthService service(Executor backgroundExecutor) {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(new SimpleMeterRegistry(), 5, 50, 900, 1000);
+        return new AuthService(memberMapper, passwordEncoder, jwtTokenProvider, eventPublisher, limiter,
+                backgroundExecutor);
+    }
+}
@@ -0,0 +1,102 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.event.MemberChangedEvent;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberDetailsServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+    private final MemberDetailsService service = new MemberDetailsService(
+            memberMapper, redisTemplate, listenerContainer, new SimpleMeterRegistry(), 100, 300);
+
+    @Test
+    void cachesLoadedMember() {
+        when(memberMapper.getMemberByEmail(EMAIL)).thenReturn(member("old-hash", MemberRole.USER));
+
+        service.loadUserByUsername(EMAIL);
+        UserDetails details = service.loadUserByUsername(EMAIL);
+
+        assertEquals("old-hash", details.getPassword());
+        verify(memberMapper, times(1)).getMemberByEmail(EMAIL);
+    }
+
+    @Test
+    void invalidationDuringLoadSkipsCachePut() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberMapper.getMemberByEmail(EMAIL))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return member("old-hash", MemberRole.USER); // 변경 커밋 전에 읽은 값
+                })
+                .thenReturn(member("new-hash", MemberRole.ADMIN));
+
+        CompletableFuture<UserDetails> slowLoad = CompletableFuture.supplyAsync(() -> service.loadUserByUsername(EMAIL));
+        loading.await(5, TimeUnit.SECONDS);
+        service.onMemberChanged(new MemberChangedEvent(EMAIL)); // 조회 도중 비밀번호 변경 커밋
+        release.countDown();
+
+        assertEquals("old-hash", slowLoad.get(5, TimeUnit.SECONDS).getPassword());
+        // 낡은 값이 캐시에 남지 않았으므로 다음 조회는 DB에서 새 값을 읽는다
+        UserDetails next = service.loadUserByUsername(EMAIL);
+        assertEquals("new-hash", next.getPassword());
+        assertEquals("ROLE_ADMIN", next.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void remoteInvalidationMessageEvictsEntry() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        when(memberMapper.getMemberByEmail(EMAIL))
+                .thenReturn(member("old-hash", MemberRole.USER))
+                .thenReturn(member("new-hash", MemberRole.USER));
+        service.loadUserByUsername(EMAIL);
+
+        listener.getValue().onMessage(new DefaultMessage(
+                MemberDetailsService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals("new-hash", service.loadUserByUsername(EMAIL).getPassword());
+        verify(memberMapper, times(2)).getMemberByEmail(EMAIL);
+    }
+
+    private static Member member(String password, MemberRole role) {
+        return Member.builder()
+                .memberId(1L)
+                .email(EMAIL)
+                .password(password)
+                .memberRole(role)
+                .socialType(SocialType.NONE)
+                .build();
+    }
+}
@@ -0,0 +1,282 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.client.PublicDataApiClient;
+import com.suppleit.backend.client.PublicDataApiLimiter;
+import com.suppleit.backend.client.ResilientDestinations;
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.mapper.ProductSyncMapper;
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.model.ProductSyncCheckpoint;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 HTTP 스텁(getHtfsItem01)을 상대로 한 카탈로그 동기화 테스트.
+ * API 클라이언트/디코더/보호 장치는 실제 구현을 쓰고, DB(매퍼/배치 저장)만 메모리로 대신한다.
+ */
+class ProductCatalogSyncJobTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Map<String, String>> catalog = new CopyOnWriteArrayList<>();
+    private final List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+    private final Set<Integer> failingPages = ConcurrentHashMap.newKeySet();
+
+    private final Map<Long, Product> table = new ConcurrentHashMap<>();
+    private final List<Product> upserted = new CopyOnWriteArrayList<>();
+    private ProductSyncCheckpoint stored;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ProductCatalogSyncJob job;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getHtfsItem01", this::servePage);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PublicDataApiLimiter limiter = mock(PublicDataApiLimiter.class);
+        when(limiter.tryAcquire()).thenReturn(true);
+        when(limiter.tryAcquire(anyLong())).thenReturn(true);
+        PublicDataApiClient client = new PublicDataApiClient(new RestTemplate(), objectMapper, limiter,
+                new ResilientDestinations(new MockEnvironment(), registry), 5000);
+
+        job = new ProductCatalogSyncJob(client, productMapper(), syncMapper(), batchWriter(), registry);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "apiUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(job, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(job, "pageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(job, "parallelism", 2);
+        ReflectionTestUtils.setField(job, "batchSize", 100);
+        ReflectionTestUtils.setField(job, "acquireTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(job, "fullRefreshDays", 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void firstRunFetchesEveryPage() {
+        addItems(1, 25);
+
+        assertTrue(job.runSync());
+
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(requestedPages));
+        assertEquals(25, table.size());
+        assertEquals("제품 7", table.get(20040000007L).getProductName());
+        assertEquals(25, stored.getSyncedCount());
+        assertEquals(0, stored.getLastPage());
+        assertNotNull(stored.getLastFullCompletedAt());
+    }
+
+    @Test
+    void unchangedCatalogOnlyProbesFirstPage() {
+        addItems(1, 25);
+        job.runSync();
+        requestedPages.clear();
+        upserted.clear();
+
+        assertTrue(job.runSync());
+
+        assertEquals(List.of(1), requestedPages);
+        assertTrue(upserted.isEmpty());
+    }
+
+    @Test
+    void incrementalRunFetchesOnlyPagesWithNewItems() {
+        addItems(1, 25);
+        job.runSync();
+        requestedPages.clear();
+        upserted.clear();
+
+        addItems(26, 12); // 26~37번: 3, 4페이지
+        assertTrue(job.runSync());
+
+        assertEquals(Set.of(1, 3, 4), Set.copyOf(requestedPages));
+        assertEquals(12, upserted.size());
+        assertEquals(37, table.size());
+        assertEquals(37, stored.getSyncedCount());
+    }
+
+    @Test
+    void fullRefreshPicksUpEditedItems() {
+        addItems(1, 25);
+        job.runSync();
+        requestedPages.clear();
+        upserted.clear();
+
+        catalog.get(4).put("MAIN_FNCTN", "수정된 기능");
+        stored.setLastFullCompletedAt(LocalDateTime.now().minusDays(8));
+        assertTrue(job.runSync());
+
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(requestedPages));
+        assertEquals(1, upserted.size());
+        assertEquals("수정된 기능", table.get(20040000005L).getMainFunction());
+    }
+
+    @Test
+    void shrunkCatalogTriggersFullRefresh() {
+        addItems(1, 25);
+        job.runSync();
+        requestedPages.clear();
+
+        catalog.remove(catalog.size() - 1);
+        assertTrue(job.runSync());
+
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(requestedPages));
+        assertEquals(24, stored.getSyncedCount());
+    }
+
+    @Test
+    void resumesFromCheckpointAfterFailure() {
+        addItems(1, 45);
+        failingPages.add(4);
+
+        assertFalse(job.runSync());
+        assertEquals(2, stored.getLastPage()); // 1~2페이지 묶음까지만 반영
+        assertEquals(20, table.size());
+
+        failingPages.clear();
+        requestedPages.clear();
+        assertTrue(job.runSync());
+
+        assertEquals(Set.of(1, 3, 4, 5), Set.copyOf(requestedPages));
+        assertEquals(45, table.size());
+        assertEquals(0, stored.getLastPage());
+    }
+
+    private void addItems(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            Map<String, String> item = new LinkedHashMap<>();
+            item.put("PRDUCT", "제품 " + i);
+            item.put("ENTRPS", "업체 " + (i % 3));
+            item.put("STTEMNT_NO", String.format("2004-%07d", i));
+            item.put("MAIN_FNCTN", "기능 " + i);
+            catalog.add(item);
+        }
+    }
+
+    // GET /getHtfsItem01?pageNo=..&numOfRows=.. → 공공데이터 API와 같은 형태의 JSON
+    private void servePage(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new LinkedHashMap<>();
+        for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            query.put(kv[0], kv.length > 1 ? kv[1] : "");
+        }
+        int pageNo = Integer.parseInt(query.get("pageNo"));
+        int rows = Integer.parseInt(query.get("numOfRows"));
+        requestedPages.add(pageNo);
+        if (failingPages.contains(pageNo)) {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        List<Map<String, String>> snapshot = List.copyOf(catalog);
+        for (int i = (pageNo - 1) * rows; i < Math.min(pageNo * rows, snapshot.size()); i++) {
+            items.add(Map.of("item", snapshot.get(i)));
+        }
+        Map<String, Object> response = Map.of(
+                "header", Map.of("resultCode", "00", "resultMsg", "NORMAL SERVICE."),
+                "body", Map.of("pageNo", pageNo, "numOfRows", rows, "totalCount", snapshot.size(),
+                        "items", items.isEmpty() ? "" : items));
+
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private ProductMapper productMapper() {
+        ProductMapper mapper = mock(ProductMapper.class);
+        when(mapper.getProductsByIds(anyList())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(table::get).filter(product -> product != null).map(ProductCatalogSyncJobTest::copy).toList();
+        });
+        when(mapper.getProductCount()).thenAnswer(invocation -> (long) table.size());
+        return mapper;
+    }
+
+    private ProductSyncMapper syncMapper() {
+        ProductSyncMapper mapper = mock(ProductSyncMapper.class);
+        when(mapper.getCheckpoint(anyString())).thenAnswer(invocation -> stored == null ? null : copy(stored));
+        doAnswer(invocation -> {
+            stored = copy(invocation.<ProductSyncCheckpoint>getArgument(0));
+            return null;
+        }).when(mapper).saveCheckpoint(any());
+        return mapper;
+    }
+
+    private ProductBatchWriter batchWriter() {
+        ProductBatchWriter writer = mock(ProductBatchWriter.class);
+        doAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            for (Product product : products) {
+                table.put(product.getPrdId(), copy(product));
+                upserted.add(product);
+            }
+            return null;
+        }).when(writer).upsert(anyList(), anyInt());
+        return writer;
+    }
+
+    private static Product copy(Product product) {
+        return new Product(product.getPrdId(), product.getProductName(), product.getCompanyName(),
+                product.getRegistrationNo(), product.getExpirationPeriod(), product.getSrvUse(),
+                product.getMainFunction(), product.getPreservation(), product.getIntakeHint(),
+                product.getBaseStandard());
+    }
+
+    private static ProductSyncCheckpoint copy(ProductSyncCheckpoint checkpoint) {
+        return new ProductSyncCheckpoint(checkpoint.getJobName(), checkpoint.getLastPage(),
+                checkpoint.getTotalCount(), checkpoint.getSyncedCount(), checkpoint.getLastCompletedAt(),
+                checkpoint.getLastFullCompletedAt(), checkpoint.getUpdatedAt());
+    }
+}
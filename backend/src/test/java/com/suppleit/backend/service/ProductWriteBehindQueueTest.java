@@ -0,0 +1,96 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ProductWriteBehindQueueTest {
+
+    private final ProductBatchWriter writer = mock(ProductBatchWriter.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // 주기 flush가 끼어들지 않도록 주기를 길게 두고 flush()를 직접 호출한다
+    private final ProductWriteBehindQueue queue = new ProductWriteBehindQueue(writer, registry, 2, 500, 60_000, 1);
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesSameProductToLatestValue() {
+        queue.enqueue(product(1L, "old"));
+        queue.enqueue(product(1L, "new"));
+
+        queue.flush();
+
+        ArgumentCaptor<List<Product>> batch = ArgumentCaptor.forClass(List.class);
+        verify(writer).upsert(batch.capture(), anyInt());
+        assertEquals(1, batch.getValue().size());
+        assertEquals("new", batch.getValue().get(0).getProductName());
+        assertEquals(1, counter("product.write-behind.flushed"));
+    }
+
+    @Test
+    void dropsWhenFull() {
+        queue.enqueue(product(1L, "a"));
+        queue.enqueue(product(2L, "b"));
+
+        assertFalse(queue.enqueue(product(3L, "c")));
+        assertEquals(2, queue.pendingCount());
+        assertEquals(1, counter("product.write-behind.dropped"));
+    }
+
+    @Test
+    void retriesFailedBatchOnce() {
+        doThrow(new PersistenceException("Deadlock found when trying to get lock"))
+                .doNothing()
+                .when(writer).upsert(anyList(), anyInt());
+        queue.enqueue(product(1L, "a"));
+        queue.enqueue(product(2L, "b"));
+
+        queue.flush();
+
+        verify(writer, times(2)).upsert(anyList(), anyInt());
+        assertEquals(2, counter("product.write-behind.failed"));
+        assertEquals(2, counter("product.write-behind.flushed"));
+        assertEquals(0, counter("product.write-behind.dropped"));
+    }
+
+    @Test
+    void countsRowsLostAfterRetryAsDropped() {
+        doThrow(new PersistenceException("Deadlock found when trying to get lock"))
+                .when(writer).upsert(anyList(), anyInt());
+        queue.enqueue(product(1L, "a"));
+        queue.enqueue(product(2L, "b"));
+
+        queue.flush();
+
+        verify(writer, times(2)).upsert(anyList(), anyInt());
+        assertEquals(2, counter("product.write-behind.dropped"));
+        assertEquals(0, counter("product.write-behind.flushed"));
+        assertEquals(0, queue.pendingCount());
+    }
+
+    private double counter(String name) {
+        return registry.get(name).counter().count();
+    }
+
+    private static Product product(Long id, String name) {
+        return Product.builder().prdId(id).productName(name).build();
+    }
+}
@@ -0,0 +1,43 @@
+-- 기존 DB에 카탈로그 동기화(getHtfsItem01) 관련 스키마를 반영하는 마이그레이션
+-- 새로 설치할 때는 db/suppleit.sql에 이미 포함되어 있으므로 실행할 필요 없음
+-- 여러 번 실행해도 안전하도록 information_schema로 존재 여부를 확인한 뒤 적용한다
+
+-- 신고번호로 제품 조회 (상세 조회 시 DB 우선 확인)
+SET @ddl := IF(
+  (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'product' AND index_name = 'idx_product_registration_no') = 0,
+  'CREATE INDEX idx_product_registration_no ON product (registration_no)',
+  'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 동기화 체크포인트
+CREATE TABLE IF NOT EXISTS product_sync_checkpoint (
+  job_name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '동기화 작업 이름',
+  last_page INT NOT NULL DEFAULT 0 COMMENT '현재 회차에서 마지막으로 DB에 반영된 페이지 (0이면 처음부터)',
+  total_count INT NOT NULL DEFAULT 0 COMMENT '마지막 실행 시 API 전체 건수',
+  synced_count INT NOT NULL DEFAULT 0 COMMENT '마지막으로 완료한 회차의 API 전체 건수 (증분 동기화 시작 위치)',
+  last_completed_at TIMESTAMP NULL COMMENT '마지막 동기화 완료 시각',
+  last_full_completed_at TIMESTAMP NULL COMMENT '마지막 전체 페이지 동기화 완료 시각',
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 증분 동기화 컬럼이 없던 체크포인트 테이블 (이전 suppleit.sql로 만든 경우)
+SET @ddl := IF(
+  (SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'product_sync_checkpoint' AND column_name = 'synced_count') = 0,
+  'ALTER TABLE product_sync_checkpoint ADD COLUMN synced_count INT NOT NULL DEFAULT 0 COMMENT ''마지막으로 완료한 회차의 API 전체 건수 (증분 동기화 시작 위치)'' AFTER total_count',
+  'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF(
+  (SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'product_sync_checkpoint' AND column_name = 'last_full_completed_at') = 0,
+  'ALTER TABLE product_sync_checkpoint ADD COLUMN last_full_completed_at TIMESTAMP NULL COMMENT ''마지막 전체 페이지 동기화 완료 시각'' AFTER last_completed_at',
+  'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -25,7 +25,8 @@ CREATE TABLE product (
   main_function TEXT,
   preservation TEXT,
   intake_hint TEXT,
-  base_standard TEXT
+  base_standard TEXT,
+  INDEX idx_product_registration_no (registration_no)
 );
 
 DROP TABLE IF EXISTS favorite;
@@ -87,4 +88,16 @@ CREATE TABLE review (
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   CONSTRAINT check_rating CHECK (rating >= 1 AND rating <= 5)
-);
\ No newline at end of file
+);
+
+DROP TABLE IF EXISTS product_sync_checkpoint;
+
+CREATE TABLE product_sync_checkpoint (
+  job_name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '동기화 작업 이름',
+  last_page INT NOT NULL DEFAULT 0 COMMENT '현재 회차에서 마지막으로 DB에 반영된 페이지 (0이면 처음부터)',
+  total_count INT NOT NULL DEFAULT 0 COMMENT '마지막 실행 시 API 전체 건수',
+  synced_count INT NOT NULL DEFAULT 0 COMMENT '마지막으로 완료한 회차의 API 전체 건수 (증분 동기화 시작 위치)',
+  last_completed_at TIMESTAMP NULL COMMENT '마지막 동기화 완료 시각',
+  last_full_completed_at TIMESTAMP NULL COMMENT '마지막 전체 페이지 동기화 완료 시각',
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
@@ -182,17 +182,8 @@ def recommend(keyword, category=None, limit=5):
         print(f"추천 시스템 오류: {e}")
         return []
 
-# API 엔드포인트
-@app.route('/recommend', methods=['GET'])
-def get_recommendations():
-    keyword = request.args.get('keyword', '').strip()
-    category = request.args.get('category', '').strip()
-    limit = int(request.args.get('limit', 6))
-    
-    keyword = unquote(keyword)  # URL 디코딩
-    if not keyword:
-        return jsonify({"error": "키워드가 잘못되었습니다."}), 400
-    
+# 추천 + 결과가 없을 때 랜덤 추천 (단건/배치 엔드포인트 공용)
+def recommend_with_fallback(keyword, category, limit):
     if not category:
         category = guess_category(keyword)
     
@@ -210,6 +201,21 @@ def get_recommendations():
             import random
             recommendations = random.sample(all_products, min(limit, len(all_products)))
     
+    return category, recommendations
+
+# API 엔드포인트
+@app.route('/recommend', methods=['GET'])
+def get_recommendations():
+    keyword = request.args.get('keyword', '').strip()
+    category = request.args.get('category', '').strip()
+    limit = int(request.args.get('limit', 6))
+    
+    keyword = unquote(keyword)  # URL 디코딩
+    if not keyword:
+        return jsonify({"error": "키워드가 잘못되었습니다."}), 400
+    
+    category, recommendations = recommend_with_fallback(keyword, category, limit)
+    
     return jsonify({
         "keyword": keyword,
         "category": category,
@@ -217,6 +223,33 @@ def get_recommendations():
         "recommendations": recommendations
     })
 
+# 여러 키워드를 한 번에 처리하는 배치 엔드포인트 (백엔드 마이크로 배처용)
+# 요청: {"keywords": [...], "limit": 6} / 응답: {"results": [...]} (요청 순서와 같음)
+@app.route('/recommend/batch', methods=['POST'])
+def get_recommendations_batch():
+    body = request.get_json(silent=True) or {}
+    keywords = body.get('keywords') or []
+    limit = int(body.get('limit', 6))
+    
+    if not isinstance(keywords, list):
+        return jsonify({"error": "keywords는 배열이어야 합니다."}), 400
+    
+    results = []
+    for keyword in keywords:
+        keyword = str(keyword).strip()
+        if not keyword:
+            results.append({"keyword": keyword, "category": None, "count": 0, "recommendations": []})
+            continue
+        category, recommendations = recommend_with_fallback(keyword, None, limit)
+        results.append({
+            "keyword": keyword,
+            "category": category,
+            "count": len(recommendations),
+            "recommendations": recommendations
+        })
+    
+    return jsonify({"count": len(results), "results": results})
+
 # 모든 카테고리 이름 반환 API
 @app.route('/categories', methods=['GET'])
 def get_categories():
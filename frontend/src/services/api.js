@@ -378,6 +378,20 @@ export const getRecommendations = (keyword) => {
   return axios.get(`${apiUrl}/recommend?keyword=${encodedKeyword}&_=${timestamp}`);
 };
 
+// 추천 상품 스트리밍 (SSE): 상품이 도착할 때마다 onProduct, 마지막에 더미 목록과 함께 onDone
+// 반환된 함수를 호출하면 스트림을 닫는다 (서버도 남은 검색을 취소)
+export const streamRecommendations = (keyword, onProduct, onDone) => {
+  const encodedKeyword = encodeURIComponent(keyword);
+  const source = new EventSource(`${apiUrl}/recommend/stream?keyword=${encodedKeyword}`);
+  source.addEventListener('product', (event) => onProduct(JSON.parse(event.data)));
+  source.addEventListener('done', (event) => {
+    source.close();
+    if (onDone) onDone(JSON.parse(event.data));
+  });
+  source.onerror = () => source.close();
+  return () => source.close();
+};
+
 //📛📛리뷰 관련 추가
 // 리뷰 목록 조회
 export const getReviews = async () => {
@@ -432,6 +446,11 @@ export const searchProducts = (keyword) => {
   return api.get(`/products/search?keyword=${encodedKeyword}&_=${timestamp}`);
 };
 
+// 제품 자동완성 API (검색창 입력 중 호출, 초성 검색 지원)
+export const autocompleteProducts = (query, limit = 10) => {
+  return api.get(`/products/autocomplete?q=${encodeURIComponent(query)}&limit=${limit}`);
+};
+
 // 제품 상세 조회 API
 export const getProductById = (productId) => {
   return api.get(`/products/${productId}`);